@@ -27,3 +27,9 @@ dependencies {
     // feign
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign")
 }
+
+// benchmarks 모듈이 클래스를 참조할 수 있도록 plain jar 도 만든다
+tasks.named<Jar>("jar") { enabled = true }
+
+// 테스트는 CommerceApiApplication.main 을 거치지 않으므로, main 에서 주는 PG 클라이언트 keep-alive 시간을 JVM 옵션으로 맞춘다
+tasks.withType<Test> { jvmArgs("-Djdk.httpclient.keepalive.timeout=30") }
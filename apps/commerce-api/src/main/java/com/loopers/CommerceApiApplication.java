@@ -17,6 +17,10 @@ import java.util.TimeZone;
 @EnableAsync
 public class CommerceApiApplication {
 
+    // PG 클라이언트(JDK HttpClient) 커넥션 풀 keep-alive 시간(초)
+    private static final String HTTP_CLIENT_KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+    private static final String HTTP_CLIENT_KEEP_ALIVE_SECONDS = "30";
+
     @PostConstruct
     public void started() {
         // set timezone
@@ -24,6 +28,10 @@ public class CommerceApiApplication {
     }
 
     public static void main(String[] args) {
+        // 커넥션 풀은 JVM 에서 처음 HttpClient 를 만들 때 이 값을 한 번 읽으므로, 컨텍스트를 띄우기 전에 준다 (-D 로 준 값이 우선)
+        if (System.getProperty(HTTP_CLIENT_KEEP_ALIVE_PROPERTY) == null) {
+            System.setProperty(HTTP_CLIENT_KEEP_ALIVE_PROPERTY, HTTP_CLIENT_KEEP_ALIVE_SECONDS);
+        }
         SpringApplication.run(CommerceApiApplication.class, args);
     }
 }
@@ -0,0 +1,114 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeCountReconcileLease;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.product.ProductService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 좋아요 수(products.like_count)를 likes 테이블 집계와 대조해 보정한다.
+ * - 한 노드만 대조하도록 임대를 잡고, 대조할 때마다 연장해 계속 같은 노드가 대조한다. (두 번 연속 확인이 한 노드에서 이뤄지도록)
+ * - 한 번에 상품 id 순으로 batch-size 개씩 돌아가며 대조한다.
+ * - 반영 대기 증감분이 있는 상품은 건너뛴다. 이 노드의 증감분은 대조 전에 Redis 로 옮겨 반영 대기로 보이게 한다.
+ * - 다른 노드의 노드 내 증감분이나 반영 중인 증감분은 보이지 않아 잠시 어긋나 보이므로,
+ *   같은 차이가 두 번 연속, settle-delay(증감분 반영 주기보다 길게) 이상 이어질 때만 보정한다.
+ * - 스케줄러(fixedDelay)만 호출해 한 노드 안에서 겹쳐 돌지 않으므로 별도 락을 두지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+
+    private final ProductService productService;
+    private final LikeService likeService;
+    private final LikeCountReconcileLease likeCountReconcileLease;
+    private final Map<Long, Drift> suspects = new ConcurrentHashMap<>();
+    private volatile long cursor = 0L;
+    private volatile String leaseToken;
+    @Value("${like.reconcile.batch-size:500}") private int batchSize;
+    @Value("${like.reconcile.settle-delay:10s}") private Duration settleDelay;
+
+    public void reconcile() {
+        if (!holdLease()) {
+            return;
+        }
+
+        List<Long> productIds = productService.getProductIdsAfter(cursor, batchSize);
+        if (productIds.isEmpty() && cursor > 0L) {
+            // 끝까지 대조했으면 처음부터 다시
+            cursor = 0L;
+            productIds = productService.getProductIdsAfter(cursor, batchSize);
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+        cursor = productIds.get(productIds.size() - 1);
+
+        Map<Long, Long> projected = productService.getSettledLikeCounts(productIds);
+        if (projected.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> counted = likeService.getLikeCounts(List.copyOf(projected.keySet()));
+
+        projected.forEach((productId, likeCount) -> {
+            long actual = counted.getOrDefault(productId, 0L);
+            if (likeCount == actual) {
+                suspects.remove(productId);
+                return;
+            }
+
+            Drift seen = suspects.get(productId);
+            if (seen == null || !seen.matches(likeCount, actual)) {
+                suspects.put(productId, new Drift(likeCount, actual, System.nanoTime()));
+                return; // 다음 대조에서 다시 확인
+            }
+            if (System.nanoTime() - seen.firstSeenAt() < settleDelay.toNanos()) {
+                return; // 다른 노드의 증감분이 아직 반영되지 않았을 수 있다
+            }
+            suspects.remove(productId);
+
+            if (productService.correctLikeCount(productId, likeCount, actual)) {
+                log.warn("좋아요 수 불일치 보정 - productId: {}, projected: {}, counted: {}", productId, likeCount, actual);
+            }
+        });
+    }
+
+    /**
+     * 임대를 연장하고, 잃었으면 다시 잡는다.
+     * - 임대를 잃은 사이 다른 노드가 보정했을 수 있으므로 이전에 본 차이는 버린다.
+     */
+    private boolean holdLease() {
+        if (leaseToken != null && likeCountReconcileLease.extend(leaseToken)) {
+            return true;
+        }
+        if (leaseToken != null) {
+            suspects.clear();
+        }
+        leaseToken = likeCountReconcileLease.acquire().orElse(null);
+        return leaseToken != null;
+    }
+
+    @PreDestroy
+    void releaseLease() {
+        if (leaseToken != null) {
+            likeCountReconcileLease.release(leaseToken);
+        }
+    }
+
+    private record Drift(long projected, long counted, long firstSeenAt) {
+
+        boolean matches(long projected, long counted) {
+            return this.projected == projected && this.counted == counted;
+        }
+    }
+
+}
@@ -37,7 +37,7 @@ public class LikeFacade {
                 : productService.getLikeCount(product.getId());
 
         // info
-        return LikeInfo.of(savedLike.like().getLikedYn(), totalLikeCount);
+        return LikeInfo.of(savedLike.likedYn(), totalLikeCount);
     }
 
     @Transactional
@@ -53,7 +53,7 @@ public class LikeFacade {
                 : productService.getLikeCount(product.getId());
 
         // info
-        return LikeInfo.of(savedLike.like().getLikedYn(), totalLikeCount);
+        return LikeInfo.of(savedLike.likedYn(), totalLikeCount);
     }
 
     public LikeListInfo getLikeProducts(String userId) {
@@ -67,7 +67,7 @@ public class LikeFacade {
                 .map(like -> like.getProduct().getId())
                 .toList();
 
-        Map<Long, Long> likeCounts = likeService.getLikeCounts(productIds);
+        Map<Long, Long> likeCounts = productService.getLikeCounts(productIds);
 
         return LikeListInfo.from(likeProducts, likeCounts);
     }
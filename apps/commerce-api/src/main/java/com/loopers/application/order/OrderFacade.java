@@ -5,11 +5,13 @@ import com.loopers.domain.order.DiscountedOrderByCoupon;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderItem;
 import com.loopers.domain.order.OrderService;
-import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReservationService;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
+import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,23 +26,34 @@ public class OrderFacade {
     private final UserService userService;
     private final ProductService productService;
     private final CouponService couponService;
+    private final StockReservationService stockReservationService;
+    @Value("${stock.reservation.enabled:false}") private boolean stockReservationEnabled;
 
+    // 교착 상태로 롤백되면 트랜잭션 전체를 다시 시도한다 (Retry 가 트랜잭션 바깥에서 동작)
+    @Retry(name = "orderLock")
     @Transactional
     public OrderInfo placeOrder(OrderCommand command) {
-        // 유저, 상품 조회
+        // 유저 조회
         User user = userService.getMyInfo(command.userId());
-        List<Product> products = productService.getProductsByIdsWithLock(command.items()
-                .stream().map(OrderItemCommand::productId).toList());
-        List<OrderItem> items = OrderItemFactory.createFrom(command.items(), products);
+        List<Long> productIds = command.items().stream().map(OrderItemCommand::productId).toList();
 
-        // 상품 재고 차감
-        productService.checkAndDecreaseStock(items);
+        // 상품 조회 및 재고 차감 (Redis 예약 또는 DB 조건부 UPDATE, 상품 row 락을 미리 잡지 않는다)
+        List<OrderItem> items = OrderItemFactory.createFrom(command.items(), productService.getProductsByIds(productIds));
+        String stockReservationId = null;
+        if (stockReservationEnabled) {
+            stockReservationId = stockReservationService.reserve(items);
+        } else {
+            productService.checkAndDecreaseStock(items);
+        }
 
         // 쿠폰 조회 및 적용, 사용
         DiscountedOrderByCoupon discountedOrderByCoupon = couponService.useCoupon(command.userId(), command.couponId(), items);
 
         // 주문 생성
         Order order = orderService.createOrder(user, items, discountedOrderByCoupon);
+        if (stockReservationId != null) {
+            order.assignStockReservation(stockReservationId);
+        }
 
         // 주문 저장
         Order savedOrder = orderService.saveOrder(order);
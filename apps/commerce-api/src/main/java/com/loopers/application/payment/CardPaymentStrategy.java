@@ -5,7 +5,6 @@ import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.payment.PaymentStrategy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,14 +12,13 @@ import org.springframework.stereotype.Component;
 public class CardPaymentStrategy implements PaymentStrategy {
 
     private final PaymentService paymentService;
-    @Value("${payment.callback.url}") private String CALLBACK_URL;
 
     @Override
     public PaymentInfo pay(Payment payment) {
-        // 결제 요청
-        Payment savePayment = paymentService.requestAndSavePayment(payment, CALLBACK_URL);
+        // 결제 요청 저장 (PG 전송은 커밋 후 PaymentRequestDispatcher 가 비동기로 수행)
+        paymentService.enqueueRequest(payment);
 
-        return PaymentInfo.from(savePayment);
+        return PaymentInfo.from(payment);
     }
 
 }
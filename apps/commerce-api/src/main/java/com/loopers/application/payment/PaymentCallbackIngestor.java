@@ -0,0 +1,134 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentCallback;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PG 콜백 수신
+ * - 콜백은 고정 크기 메모리 버퍼에 넣고 바로 응답하며, 스케줄러가 batch-size 건씩 모아 한 트랜잭션으로 반영한다.
+ * - 버퍼에 같은 결제의 같은 상태 콜백이 이미 있으면 버린다. (PG 재전송)
+ * - 버퍼가 가득 차면 inbox 테이블에 저장하고, inbox 는 별도 주기로 반영한다.
+ * - 반영 전에 노드가 죽어 버퍼가 유실되면, 해당 결제는 PENDING 으로 남아 상태 동기화 스케줄러가 확정한다.
+ * - 지표: payment.callback.buffer.size, payment.callback.duplicated, payment.callback.spilled
+ */
+@Slf4j
+@Component
+public class PaymentCallbackIngestor {
+
+    private final PaymentService paymentService;
+    private final BlockingQueue<PaymentCallback> buffer;
+    private final Map<String, PaymentStatus> buffered = new ConcurrentHashMap<>();
+    private final Counter duplicated;
+    private final Counter spilled;
+    @Value("${payment.callback.batch-size:500}") private int batchSize;
+
+    public PaymentCallbackIngestor(
+            PaymentService paymentService,
+            MeterRegistry meterRegistry,
+            @Value("${payment.callback.buffer-size:10000}") int bufferSize
+    ) {
+        this.paymentService = paymentService;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+
+        Gauge.builder("payment.callback.buffer.size", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+        this.duplicated = Counter.builder("payment.callback.duplicated").register(meterRegistry);
+        this.spilled = Counter.builder("payment.callback.spilled").register(meterRegistry);
+    }
+
+    /**
+     * 콜백을 접수한다. 반영은 비동기로 이루어진다.
+     */
+    public void accept(CallbackPaymentCommand command) {
+        PaymentCallback callback = new PaymentCallback(
+                command.transactionKey(),
+                command.orderId(),
+                parseStatus(command.status()),
+                command.reason()
+        );
+
+        if (buffered.putIfAbsent(dedupeKey(callback), callback.status()) != null) {
+            duplicated.increment();
+            return;
+        }
+        if (!buffer.offer(callback)) {
+            buffered.remove(dedupeKey(callback));
+            spilled.increment();
+            paymentService.saveCallbackToInbox(callback);
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 콜백을 모두 반영한다.
+     */
+    public void flush() {
+        List<PaymentCallback> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                paymentService.applyCallbacks(batch);
+            } catch (RuntimeException e) {
+                log.error("결제 콜백 반영 실패, inbox 로 옮깁니다 - {}건", batch.size(), e);
+                spill(batch);
+            } finally {
+                batch.forEach(callback -> buffered.remove(dedupeKey(callback)));
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * inbox 에 쌓인 콜백을 반영한다.
+     */
+    public void flushInbox() {
+        while (paymentService.applyInboxCallbacks(batchSize) == batchSize) {
+            // 남은 콜백이 batch-size 보다 적어질 때까지 반복
+        }
+    }
+
+    private void spill(List<PaymentCallback> callbacks) {
+        for (PaymentCallback callback : callbacks) {
+            try {
+                paymentService.saveCallbackToInbox(callback);
+                spilled.increment();
+            } catch (RuntimeException e) {
+                // 저장도 실패하면 PENDING 으로 남아 상태 동기화 스케줄러가 확정한다
+                log.error("결제 콜백 inbox 저장 실패 - transactionKey: {}", callback.transactionKey(), e);
+            }
+        }
+    }
+
+    private static PaymentStatus parseStatus(String status) {
+        try {
+            return PaymentStatus.valueOf(status);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "알 수 없는 결제 상태입니다: " + status);
+        }
+    }
+
+    private static String dedupeKey(PaymentCallback callback) {
+        return callback.transactionKey() + ":" + callback.status();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush(); // 종료 전에 받은 콜백을 반영한다
+    }
+
+}
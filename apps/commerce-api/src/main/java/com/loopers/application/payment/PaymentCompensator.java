@@ -0,0 +1,108 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentCompensation;
+import com.loopers.domain.payment.PaymentCompensationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 실패 보상 실행
+ * - 보상이 커밋되면 이벤트로 바로 실행하고, 놓친 보상(동시 실행 한도 초과, 노드 장애, 재시도 대기)은 polling 으로 실행한다.
+ * - 요청 스레드와 분리된 전용 실행기(가상 스레드)에서 실행하며, 동시 보상 수는 payment.compensation.concurrency 로 제한한다.
+ * - 주문 실패 처리, 재고 복원, 쿠폰 복원을 차례로 수행한다. (단계 완료를 같은 보상 row 에 기록하므로 병렬로 돌려도 그 row 락에서 줄을 선다)
+ * - 같은 보상을 여러 노드가 실행하지 않도록 실행 전에 claim 한다.
+ */
+@Slf4j
+@Component
+public class PaymentCompensator {
+
+    private final PaymentCompensationService paymentCompensationService;
+    private final PaymentFacade paymentFacade;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    @Value("${payment.compensation.batch-size:100}") private int batchSize;
+
+    public PaymentCompensator(
+            PaymentCompensationService paymentCompensationService,
+            PaymentFacade paymentFacade,
+            @Value("${payment.compensation.concurrency:16}") int concurrency
+    ) {
+        this.paymentCompensationService = paymentCompensationService;
+        this.paymentFacade = paymentFacade;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    /**
+     * 커밋된 보상을 바로 실행한다. 동시 실행 한도가 찼으면 다음 polling 에 맡긴다.
+     */
+    public void dispatch(Long orderId) {
+        // 조회가 실패해도 허가가 새지 않도록 조회를 먼저 한다
+        PaymentCompensation compensation = paymentCompensationService.getByOrderId(orderId);
+        if (permits.tryAcquire()) {
+            submit(compensation);
+        }
+    }
+
+    /**
+     * 실행 시각이 지난 보상을 모아 실행한다.
+     */
+    public void dispatchPending() {
+        for (PaymentCompensation compensation : paymentCompensationService.findDue(batchSize)) {
+            permits.acquireUninterruptibly();
+            if (!submit(compensation)) {
+                return; // 종료 중이면 남은 보상은 다른 노드나 재시작 후 polling 에 맡긴다
+            }
+        }
+    }
+
+    private boolean submit(PaymentCompensation compensation) {
+        try {
+            executor.submit(() -> {
+                try {
+                    compensate(compensation);
+                } finally {
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            log.warn("결제 실패 보상 실행을 맡기지 못함 - orderId: {}", compensation.getOrderId());
+            return false;
+        }
+    }
+
+    private void compensate(PaymentCompensation compensation) {
+        Long compensationId = compensation.getId();
+        Long orderId = compensation.getOrderId();
+        if (!paymentCompensationService.claim(compensationId)) {
+            return; // 다른 노드가 처리 중이거나 이미 완료됨
+        }
+
+        try {
+            paymentFacade.failOrder(compensationId, orderId);
+            paymentFacade.restoreStock(compensationId, orderId);
+            paymentFacade.restoreCoupon(compensationId, orderId);
+            paymentCompensationService.complete(compensationId);
+        } catch (RuntimeException e) {
+            int attemptCount = compensation.getAttemptCount() + 1; // claim 에서 늘어난 횟수
+            log.warn("결제 실패 보상 실패 - orderId: {}, 시도: {}", orderId, attemptCount, e);
+            paymentCompensationService.retryLater(compensationId, attemptCount, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+}
@@ -5,14 +5,18 @@ import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderService;
 import com.loopers.domain.payment.Payment;
-import com.loopers.domain.payment.PaymentFailedEvent;
+import com.loopers.domain.payment.PaymentCompensationService;
+import com.loopers.domain.payment.PaymentCompensationStep;
 import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.payment.PaymentStrategy;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReservationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 
 @RequiredArgsConstructor
 @Component
@@ -23,6 +27,9 @@ public class PaymentFacade {
     private final OrderService orderService;
     private final ProductService productService;
     private final CouponService couponService;
+    private final StockReservationService stockReservationService;
+    private final PaymentCallbackIngestor paymentCallbackIngestor;
+    private final PaymentCompensationService paymentCompensationService;
 
     @Transactional
     public PaymentInfo processPayment(ProcessPaymentCommand command) {
@@ -37,20 +44,52 @@ public class PaymentFacade {
     }
 
     public void paymentCallback(CallbackPaymentCommand command) {
-        paymentService.updateStatusFromCallback(command);
+        paymentCallbackIngestor.accept(command);
+    }
+
+    public void paymentCallbacks(List<CallbackPaymentCommand> commands) {
+        commands.forEach(paymentCallbackIngestor::accept);
     }
 
+    /**
+     * 결제 실패 보상 - 주문 상태 실패로 변경
+     * - 보상 단계는 완료 기록과 같은 트랜잭션에서 수행되어, 재시도/재개 시 두 번 수행되지 않는다.
+     */
     @Transactional
-    public void paymentFailedEventHandler(PaymentFailedEvent event) {
-        // 주문 상태 실패로 변경
-        Order order = orderService.updateOrderStatusToFailed(event.orderId());
+    public void failOrder(Long compensationId, Long orderId) {
+        if (paymentCompensationService.markStepDone(compensationId, PaymentCompensationStep.ORDER)) {
+            orderService.updateOrderStatusToFailed(orderId);
+        }
+    }
 
-        // 상품 재고 원복
-        order.getOrderItems().forEach(item -> {
-            productService.restoreStock(item.getProduct().getId(), item.getQuantity());
-        });
+    /**
+     * 결제 실패 보상 - 상품 재고 원복 (Redis 예약 주문은 예약 취소, 그 외는 주문 상품을 UPDATE 한 번으로 복원)
+     * - Redis 예약 취소는 트랜잭션에 묶이지 않지만 예약 ID 기준으로 멱등해, 롤백 후 재시도해도 한 번만 복원된다.
+     */
+    @Transactional
+    public void restoreStock(Long compensationId, Long orderId) {
+        if (!paymentCompensationService.markStepDone(compensationId, PaymentCompensationStep.STOCK)) {
+            return;
+        }
+
+        Order order = orderService.getOrder(orderId);
+        if (order.getStockReservationId() != null) {
+            stockReservationService.release(order.getStockReservationId());
+        } else {
+            productService.restoreStocks(order.getOrderItems());
+        }
+    }
+
+    /**
+     * 결제 실패 보상 - 쿠폰 사용 원복
+     */
+    @Transactional
+    public void restoreCoupon(Long compensationId, Long orderId) {
+        if (!paymentCompensationService.markStepDone(compensationId, PaymentCompensationStep.COUPON)) {
+            return;
+        }
 
-        // 쿠폰 사용 원복
+        Order order = orderService.getOrder(orderId);
         if (order.getCouponId() != null) {
             couponService.restoreUserCoupon(
                     order.getUser().getUserId(),
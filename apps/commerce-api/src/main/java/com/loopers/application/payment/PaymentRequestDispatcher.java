@@ -0,0 +1,108 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentOutbox;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.infrastructure.pg.PgBulkheadFullException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox 에 쌓인 PG 결제 요청 전송
+ * - 커밋 직후 이벤트로 바로 전송하고, 놓친 요청(동시 전송 한도 초과, 노드 장애)은 polling 으로 다시 전송한다.
+ * - 가상 스레드에서 전송하며 동시 전송 수는 payment.outbox.concurrency 로 제한한다.
+ * - 같은 요청을 여러 노드가 보내지 않도록 전송 전에 claim 한다.
+ * - PG bulkhead 가 가득 차 보내지 못한 요청은 기다리지 않고 outbox 로 되돌려 다음 polling 에 다시 보낸다.
+ */
+@Slf4j
+@Component
+public class PaymentRequestDispatcher {
+
+    private final PaymentService paymentService;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    @Value("${payment.callback.url}") private String callbackUrl;
+    @Value("${payment.outbox.batch-size:100}") private int batchSize;
+
+    public PaymentRequestDispatcher(
+            PaymentService paymentService,
+            @Value("${payment.outbox.concurrency:32}") int concurrency
+    ) {
+        this.paymentService = paymentService;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    /**
+     * 커밋된 요청을 바로 전송한다. 동시 전송 한도가 찼으면 다음 polling 에 맡긴다.
+     */
+    public void dispatch(Long outboxId, Long paymentId) {
+        if (permits.tryAcquire()) {
+            submit(outboxId, paymentId);
+        }
+    }
+
+    /**
+     * 전송 시각이 지난 요청을 모아 전송한다.
+     */
+    public void dispatchPending() {
+        for (PaymentOutbox outbox : paymentService.findDueRequests(batchSize)) {
+            permits.acquireUninterruptibly();
+            if (!submit(outbox.getId(), outbox.getPaymentId())) {
+                return; // 종료 중이면 남은 요청은 다른 노드나 재시작 후 polling 에 맡긴다
+            }
+        }
+    }
+
+    /**
+     * 잡아 둔 허가로 전송을 맡긴다. 맡기지 못하면 허가를 바로 돌려줘, 허가가 새어 polling 이 멈추지 않게 한다.
+     * @return 전송을 맡겼으면 true
+     */
+    private boolean submit(Long outboxId, Long paymentId) {
+        try {
+            executor.submit(() -> {
+                try {
+                    send(outboxId, paymentId);
+                } catch (RuntimeException e) {
+                    log.warn("결제 요청 전송 실패 - outboxId: {}", outboxId, e);
+                } finally {
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            log.warn("결제 요청 전송을 맡기지 못함 - outboxId: {}", outboxId);
+            return false;
+        }
+    }
+
+    private void send(Long outboxId, Long paymentId) {
+        if (!paymentService.claimRequest(outboxId)) {
+            return; // 다른 노드가 전송 중이거나 이미 전송됨
+        }
+
+        Payment payment = paymentService.getPayment(paymentId);
+        try {
+            paymentService.requestAndSavePayment(payment, callbackUrl);
+        } catch (PgBulkheadFullException e) {
+            paymentService.deferRequest(outboxId);
+            return;
+        }
+        paymentService.completeRequest(outboxId);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.loopers.application.payment;
 import com.loopers.domain.payment.PaymentService;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,15 +12,59 @@ import org.springframework.stereotype.Component;
 public class PaymentScheduler {
 
     private final PaymentService paymentService;
+    private final PaymentRequestDispatcher paymentRequestDispatcher;
+    private final PaymentCallbackIngestor paymentCallbackIngestor;
+    private final PaymentCompensator paymentCompensator;
+    @Value("${payment.outbox.batch-size:100}") private int outboxBatchSize;
 
     /**
      * pg사 결제 상태를 주기적으로 확인하는 스케줄러
      */
-    @Scheduled(fixedDelay = 30000) // 30초마다 실행
+    @Scheduled(fixedDelayString = "${payment.reconcile.interval-ms:10000}")
     public void updatePaymentsStatus() {
         // 결제 상태가 PENDING인 결제들을 조회
         // 각 결제 상태를 조회하고 갱신
         paymentService.updatePaymentStatusWithScheduler();
     }
 
+    /**
+     * 커밋 직후 전송되지 못한 PG 결제 요청을 다시 전송하는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${payment.outbox.poll-interval-ms:1000}")
+    public void dispatchPaymentRequests() {
+        paymentRequestDispatcher.dispatchPending();
+    }
+
+    /**
+     * 시도 횟수를 다 쓴 PG 결제 요청을 실패 처리하는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${payment.outbox.poll-interval-ms:1000}")
+    public void failExhaustedPaymentRequests() {
+        paymentService.failExhaustedRequests(outboxBatchSize);
+    }
+
+    /**
+     * 메모리 버퍼에 쌓인 PG 콜백을 모아서 반영하는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${payment.callback.flush-interval-ms:100}")
+    public void flushPaymentCallbacks() {
+        paymentCallbackIngestor.flush();
+    }
+
+    /**
+     * 버퍼가 가득 차 inbox 에 저장된 PG 콜백을 반영하는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${payment.callback.inbox-poll-interval-ms:1000}")
+    public void flushPaymentCallbackInbox() {
+        paymentCallbackIngestor.flushInbox();
+    }
+
+    /**
+     * 바로 실행되지 못했거나 재시도 대기 중인 결제 실패 보상을 실행하는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${payment.compensation.poll-interval-ms:1000}")
+    public void compensateFailedPayments() {
+        paymentCompensator.dispatchPending();
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.loopers.application.product;
+
+import com.loopers.application.like.LikeCountReconciler;
+import com.loopers.domain.product.ProductService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class LikeCountFlushScheduler {
+
+    private final ProductService productService;
+    private final LikeCountReconciler likeCountReconciler;
+    @Value("${like.flush-record-retention:1d}") private Duration flushRecordRetention;
+
+    /**
+     * 누적된 좋아요 수 증감분을 주기적으로 DB 에 반영하는 스케줄러
+     * - 시작 직후 첫 실행에서 이전에 중단된 반영 중 증감분도 다시 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${like.flush-interval-ms:1000}")
+    public void flushLikeCounts() {
+        productService.flushLikeCounts();
+    }
+
+    /**
+     * 상품 좋아요 수를 likes 테이블 집계와 주기적으로 대조하는 스케줄러
+     */
+    @Scheduled(
+            initialDelayString = "${like.reconcile.interval-ms:60000}",
+            fixedDelayString = "${like.reconcile.interval-ms:60000}"
+    )
+    public void reconcileLikeCounts() {
+        likeCountReconciler.reconcile();
+    }
+
+    /**
+     * 보관 기간이 지난 좋아요 수 반영 기록을 주기적으로 지우는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${like.reconcile.interval-ms:60000}")
+    public void purgeFlushRecords() {
+        productService.purgeLikeCountFlushRecords(flushRecordRetention);
+    }
+
+    /**
+     * 종료 시 노드 내에 남은 증감분을 반영한다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        productService.flushLikeCounts();
+    }
+
+}
@@ -1,37 +1,64 @@
 package com.loopers.application.product;
 
 
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikeStatus;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductScroll;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Set;
+
 
 @RequiredArgsConstructor
 @Component
 public class ProductFacade {
 
     private final ProductService productService;
+    private final LikeService likeService;
 
     public ProductListInfo getProducts(ProductCommand command, String userId) {
         // service
-        Page<Product> products = productService.getProducts(command);
+        Page<ProductSummary> products = productService.getProductSummaries(command);
+        Set<Long> likedProductIds = likeService.getLikedProductIds(userId, productIds(products.getContent()));
+
+        // domain -> result
+        return ProductListInfo.from(products, likedProductIds);
+    }
 
-        // 추후 로그인시 likedYn 추가
+    public ProductScrollInfo getProductScroll(ProductScrollCommand command, String userId) {
+        // service
+        ProductScroll scroll = productService.getProductScroll(
+                command.brandId(),
+                command.safeSortType(),
+                command.cursor(),
+                command.safeSize()
+        );
+        Set<Long> likedProductIds = likeService.getLikedProductIds(userId, productIds(scroll.contents()));
 
         // domain -> result
-        return ProductListInfo.from(products);
+        return ProductScrollInfo.from(scroll, likedProductIds);
     }
 
     public ProductInfo getProductDetail(Long productId, String userId) {
         // service
         Product product = productService.getProductDetail(productId);
-
-        // 추후 로그인시 likedYn 추가
+        Long likeCount = product.getLikeCount() + productService.getPendingLikeCount(productId);
+        LikeStatus likedYn = LikeStatus.of(likeService.isLiked(userId, productId));
 
         // domain -> result
-        return ProductInfo.from(product);
+        return ProductInfo.of(product, likeCount, likedYn);
+    }
+
+    private List<Long> productIds(List<ProductSummary> summaries) {
+        return summaries.stream()
+                .map(ProductSummary::id)
+                .toList();
     }
 
 }
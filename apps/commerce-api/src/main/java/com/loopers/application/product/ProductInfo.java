@@ -1,6 +1,8 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.like.LikeStatus;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductSummary;
 
 
 public record ProductInfo(
@@ -11,19 +13,39 @@ public record ProductInfo(
         int price,
         Long likeCount,
         Long brandId,
-        String brandName
+        String brandName,
+        LikeStatus likedYn
 ) {
 
     public static ProductInfo from(Product product) {
+        return of(product, product.getLikeCount(), LikeStatus.N);
+    }
+
+    public static ProductInfo of(Product product, Long likeCount, LikeStatus likedYn) {
         return new ProductInfo(
                 product.getId(),
                 product.getName(),
                 product.getDescription(),
                 product.getImageUrl(),
                 product.getPrice(),
-                product.getLikeCount(),
+                likeCount,
                 product.getBrand().getId(),
-                product.getBrand().getName()
+                product.getBrand().getName(),
+                likedYn
+        );
+    }
+
+    public static ProductInfo from(ProductSummary summary, LikeStatus likedYn) {
+        return new ProductInfo(
+                summary.id(),
+                summary.name(),
+                summary.description(),
+                summary.imageUrl(),
+                summary.price(),
+                summary.likeCount(),
+                summary.brandId(),
+                summary.brandName(),
+                likedYn
         );
     }
 
@@ -0,0 +1,22 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductListCacheScheduler {
+
+    private final ProductService productService;
+
+    /**
+     * 정렬별 앞쪽 목록 페이지를 주기적으로 다시 적재하는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${cache.warm.product-list-interval-ms:10000}")
+    public void warmProductListCaches() {
+        productService.warmListCaches();
+    }
+
+}
@@ -1,12 +1,14 @@
 package com.loopers.application.product;
 
-import com.loopers.domain.product.Product;
+import com.loopers.domain.like.LikeStatus;
+import com.loopers.domain.product.ProductSummary;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.Set;
 
 public record ProductListInfo(
-        List<Product> contents,
+        List<ProductInfo> contents,
         int page,
         int size,
         long totalElements,
@@ -14,10 +16,13 @@ public record ProductListInfo(
 ) {
 
     public static ProductListInfo from(
-            Page<Product> products
+            Page<ProductSummary> products,
+            Set<Long> likedProductIds
     ) {
         return new ProductListInfo(
-                products.getContent(),
+                products.getContent().stream()
+                        .map(summary -> ProductInfo.from(summary, LikeStatus.of(likedProductIds.contains(summary.id()))))
+                        .toList(),
                 products.getNumber(),
                 products.getSize(),
                 products.getTotalElements(),
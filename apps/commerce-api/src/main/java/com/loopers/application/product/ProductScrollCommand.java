@@ -0,0 +1,26 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductSortType;
+
+public record ProductScrollCommand(
+        Long brandId,
+        ProductSortType sortType,
+        String cursor,
+        int size
+) {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    public ProductSortType safeSortType() {
+        return sortType == null ? ProductSortType.CREATED_AT_DESC : sortType;
+    }
+
+    public int safeSize() {
+        if (size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.like.LikeStatus;
+import com.loopers.domain.product.ProductScroll;
+
+import java.util.List;
+import java.util.Set;
+
+public record ProductScrollInfo(
+        List<ProductInfo> contents,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public static ProductScrollInfo from(ProductScroll scroll, Set<Long> likedProductIds) {
+        return new ProductScrollInfo(
+                scroll.contents().stream()
+                        .map(summary -> ProductInfo.from(summary, LikeStatus.of(likedProductIds.contains(summary.id()))))
+                        .toList(),
+                scroll.nextCursor(),
+                scroll.hasNext()
+        );
+    }
+
+}
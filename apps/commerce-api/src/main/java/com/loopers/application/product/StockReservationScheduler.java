@@ -0,0 +1,44 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.enabled", havingValue = "true")
+public class StockReservationScheduler {
+
+    private final StockReservationService stockReservationService;
+    @Value("${stock.reservation.flush-record-retention:1d}") private Duration flushRecordRetention;
+
+    /**
+     * Redis 재고 예약 차감분을 주기적으로 DB 에 반영하는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.flush-interval-ms:500}")
+    public void flushReservations() {
+        stockReservationService.flush();
+    }
+
+    /**
+     * Redis 재고와 DB 재고를 주기적으로 대조하는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.reconcile-interval-ms:60000}")
+    public void reconcileStocks() {
+        stockReservationService.reconcile();
+    }
+
+    /**
+     * 보관 기간이 지난 재고 반영 기록을 주기적으로 지우는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.reconcile-interval-ms:60000}")
+    public void purgeFlushRecords() {
+        stockReservationService.purgeFlushRecords(flushRecordRetention);
+    }
+
+}
@@ -11,7 +11,15 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "likes")
+@Table(
+        name = "likes",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_likes_user_id_product_id", columnNames = {"user_id", "product_id"})
+        },
+        indexes = {
+                @Index(name = "idx_likes_product_id_liked_yn", columnList = "product_id, liked_yn") // 좋아요 수 대조
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Like extends BaseEntity {
 
@@ -1,7 +1,9 @@
 package com.loopers.domain.like;
 
 public record LikeChange(
-        Like like,
+        String userId,
+        Long productId,
+        LikeStatus likedYn,
         boolean changed
 ) {
 
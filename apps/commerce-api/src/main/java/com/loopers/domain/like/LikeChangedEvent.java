@@ -0,0 +1,12 @@
+package com.loopers.domain.like;
+
+/**
+ * 좋아요 상태 변경 (좋아요 ↔ 취소)
+ * - 롤백된 변경이 색인에 남지 않도록 커밋 후 처리한다.
+ */
+public record LikeChangedEvent(
+        String userId,
+        Long productId,
+        boolean liked
+) {
+}
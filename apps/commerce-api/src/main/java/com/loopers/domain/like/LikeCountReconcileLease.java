@@ -0,0 +1,23 @@
+package com.loopers.domain.like;
+
+import java.util.Optional;
+
+/**
+ * 좋아요 수 대조 임대
+ * - 대조는 한 노드만 수행하도록 임대를 잡고, 대조할 때마다 연장한다.
+ */
+public interface LikeCountReconcileLease {
+
+    /**
+     * @return 임대에 성공하면 해제/연장에 사용할 토큰
+     */
+    Optional<String> acquire();
+
+    /**
+     * @return 임대를 잃었으면 false
+     */
+    boolean extend(String token);
+
+    void release(String token);
+
+}
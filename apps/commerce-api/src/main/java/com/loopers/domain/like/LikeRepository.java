@@ -5,6 +5,7 @@ import com.loopers.domain.product.Product;
 import com.loopers.domain.user.User;
 import com.loopers.infrastructure.like.dto.LikeCountDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,22 @@ public interface LikeRepository {
 
     Optional<Like> findByProductAndUser(Product product, User user);
 
+    List<Long> findLikedProductIds(String userId);
+
+    List<Long> findLikedProductIds(String userId, Collection<Long> productIds);
+
+    /**
+     * 좋아요 상태로 만든다. (없으면 생성, 사용자-상품당 한 row)
+     * @return 상태가 바뀌었는지 여부
+     */
+    boolean like(Long userId, Long productId);
+
+    /**
+     * 좋아요 상태일 때만 취소한다.
+     * @return 상태가 바뀌었는지 여부
+     */
+    boolean unLike(Long userId, Long productId);
+
     Like save(Like like);
 
     List<Like> findByUserJoinProduct(User user);
@@ -4,20 +4,33 @@ import com.loopers.domain.product.Product;
 import com.loopers.domain.user.User;
 import com.loopers.infrastructure.like.dto.LikeCountDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
     private final LikeRepository likeRepository;
+    private final LikedProductIndex likedProductIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * likes 테이블 기준 상품별 좋아요 수 (원본 집계)
+     * - 조회 API 는 상품의 좋아요 수를 쓰고, 이 집계는 대조에만 쓴다.
+     */
     public Map<Long, Long> getLikeCounts(List<Long> productIds) {
         Map<Long, Long> likeCountMap = likeRepository.countGroupByProductIds(productIds).stream()
                 .collect(Collectors.toMap(
@@ -39,32 +52,85 @@ public class LikeService {
                 .orElse(0L);
     }
 
+    /**
+     * 조회 후 수정하지 않고 한 번의 upsert 로 처리한다.
+     * - (user_id, product_id) 유니크 제약으로 동시 요청에도 row 는 하나이고, version 재시도가 필요 없다.
+     */
     @Transactional
     public LikeChange like(Product product, User user) {
-        return likeRepository.findByProductAndUser(product, user)
-                .map(existingLike -> {
-                    String before = existingLike.getLikedYn().toString();
-                    existingLike.like();
-                    boolean changed = !"Y".equals(before);
-                    return new LikeChange(existingLike, changed);
-                })
-                .orElseGet(() -> new LikeChange(Like.create(user, product), true));
+        boolean changed = likeRepository.like(user.getId(), product.getId());
+
+        return change(user, product, LikeStatus.Y, changed);
     }
 
     @Transactional
     public LikeChange unLike(Product product, User user) {
-        Like like = likeRepository.findByProductAndUser(product, user)
-                .orElseThrow(() -> new IllegalArgumentException("Like not found for product and user"));
+        boolean changed = likeRepository.unLike(user.getId(), product.getId());
+        if (!changed && likeRepository.findByProductAndUser(product, user).isEmpty()) {
+            throw new IllegalArgumentException("Like not found for product and user");
+        }
+
+        return change(user, product, LikeStatus.N, changed);
+    }
 
-        String before = like.getLikedYn().toString();
-        like.unLike();
-        boolean changed = !"N".equals(before);
+    /**
+     * 주어진 상품 중 사용자가 좋아요한 상품 (상품 수와 무관하게 한 번의 조회)
+     * - 색인이 없으면 DB 에서 사용자의 좋아요 상품 전체를 읽어 색인을 다시 만든다.
+     *   DB 를 읽기 전에 세대를 읽어 두므로, 그 사이 커밋된 좋아요 변경이 있으면 오래된 목록으로 색인을 만들지 않는다.
+     * - 색인을 사용할 수 없으면 DB 에서 주어진 상품만 조회한다.
+     */
+    public Set<Long> getLikedProductIds(String userId, Collection<Long> productIds) {
+        if (userId == null || productIds.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            Optional<Set<Long>> indexed = likedProductIndex.findLiked(userId, productIds);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
 
-        return new LikeChange(like, changed);
+            long generation = likedProductIndex.generation(userId);
+            Set<Long> liked = new HashSet<>(likeRepository.findLikedProductIds(userId));
+            likedProductIndex.rebuild(userId, generation, liked);
+            liked.retainAll(productIds);
+            return liked;
+        } catch (DataAccessException e) {
+            log.warn("좋아요 색인 조회 실패, DB 조회로 대체 - userId: {}", userId, e);
+            return new HashSet<>(likeRepository.findLikedProductIds(userId, productIds));
+        }
+    }
+
+    public boolean isLiked(String userId, Long productId) {
+        return getLikedProductIds(userId, List.of(productId)).contains(productId);
+    }
+
+    /**
+     * 커밋된 좋아요 변경으로 사용자의 색인을 무효화한다.
+     * - 이벤트 순서와 무관하도록 변경분을 반영하지 않고 지운다. 실패하면 한 번 더 지우고, 그래도 실패하면 ttl 뒤 만료에 맡긴다.
+     */
+    public void invalidateLikedIndex(String userId) {
+        try {
+            likedProductIndex.invalidate(userId);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 색인 무효화 실패, 다시 시도 - userId: {}", userId, e);
+            try {
+                likedProductIndex.invalidate(userId);
+            } catch (DataAccessException retryFailure) {
+                log.error("좋아요 색인 무효화 재시도 실패, 만료 시까지 오래된 색인이 남을 수 있음 - userId: {}", userId, retryFailure);
+            }
+        }
     }
 
     public List<Like> getLikeProducts(User user) {
         return likeRepository.findByUserJoinProduct(user);
     }
 
+    private LikeChange change(User user, Product product, LikeStatus likedYn, boolean changed) {
+        if (changed) {
+            eventPublisher.publishEvent(new LikeChangedEvent(user.getUserId(), product.getId(), likedYn.isLiked()));
+        }
+        return new LikeChange(user.getUserId(), product.getId(), likedYn, changed);
+    }
+
 }
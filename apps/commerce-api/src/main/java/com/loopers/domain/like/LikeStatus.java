@@ -3,6 +3,10 @@ package com.loopers.domain.like;
 public enum LikeStatus {
     Y, N;
 
+    public static LikeStatus of(boolean liked) {
+        return liked ? Y : N;
+    }
+
     public boolean isLiked() {
         return this == Y;
     }
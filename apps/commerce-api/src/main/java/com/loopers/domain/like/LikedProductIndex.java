@@ -0,0 +1,37 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 상품 색인
+ * - 상품 목록/상세의 likedYn 을 상품 수와 무관하게 한 번의 조회로 판단하기 위해 사용한다.
+ * - DB 가 원본이며, 색인이 없는 사용자는 DB 에서 읽어 다시 만든다.
+ */
+public interface LikedProductIndex {
+
+    /**
+     * 주어진 상품 중 사용자가 좋아요한 상품
+     * @return 색인이 없으면 empty
+     */
+    Optional<Set<Long>> findLiked(String userId, Collection<Long> productIds);
+
+    /**
+     * 색인 세대 (좋아요가 바뀔 때마다 올라간다)
+     * - 재생성 전에 읽어 두고, DB 를 읽는 동안 바뀌었으면 재생성을 버린다.
+     */
+    long generation(String userId);
+
+    /**
+     * 사용자의 좋아요 상품 전체로 색인을 다시 만든다.
+     * @return 그 사이 세대가 바뀌어 만들지 않았으면 false
+     */
+    boolean rebuild(String userId, long generation, Collection<Long> likedProductIds);
+
+    /**
+     * 색인을 지우고 세대를 올린다. 다음 조회 시 DB 에서 다시 만들어진다.
+     */
+    void invalidate(String userId);
+
+}
@@ -35,6 +35,8 @@ public class Order extends BaseEntity {
 
     private Long couponId;
 
+    private String stockReservationId; // Redis 재고 예약으로 주문한 경우에만 존재
+
     public static Order place(User user, List<OrderItem> items, DiscountedOrderByCoupon discountedOrderByCoupon) {
         Order order = new Order();
 
@@ -69,6 +71,14 @@ public class Order extends BaseEntity {
         orderItems.add(item);
     }
 
+    public void assignStockReservation(String stockReservationId) {
+        if (stockReservationId == null || stockReservationId.isBlank()) {
+            throw new IllegalArgumentException("재고 예약 ID는 공백일 수 없습니다.");
+        }
+
+        this.stockReservationId = stockReservationId;
+    }
+
     public void updateOrderStatus(OrderStatus status) {
         if (status == null) {
             throw new IllegalArgumentException("주문 상태는 null일 수 없습니다.");
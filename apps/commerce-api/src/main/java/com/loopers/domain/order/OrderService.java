@@ -41,6 +41,11 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다. orderId: " + orderId));
     }
 
+    public Order getOrder(Long orderId) {
+        return orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다. orderId: " + orderId));
+    }
+
     @Transactional
     public Order updateOrderStatusToFailed(Long orderId) {
         Order order = orderRepository.findById(orderId)
@@ -11,9 +11,20 @@ import lombok.NoArgsConstructor;
 
 import java.util.regex.Pattern;
 
+/**
+ * 결제
+ * - idx_payments_transaction_key_order_id: PG 콜백의 결제 조회
+ * - idx_payments_status_id: 상태 동기화의 PENDING 결제 keyset 스캔
+ */
 @Entity
 @Getter
-@Table(name = "payments")
+@Table(
+        name = "payments",
+        indexes = {
+                @Index(name = "idx_payments_transaction_key_order_id", columnList = "transaction_key, order_id"),
+                @Index(name = "idx_payments_status_id", columnList = "status, id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseEntity {
 
@@ -0,0 +1,12 @@
+package com.loopers.domain.payment;
+
+/**
+ * PG 콜백으로 받은 결제 결과
+ */
+public record PaymentCallback(
+        String transactionKey,
+        Long orderId,
+        PaymentStatus status,
+        String reason
+) {
+}
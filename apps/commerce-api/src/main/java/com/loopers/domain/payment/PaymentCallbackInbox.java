@@ -0,0 +1,44 @@
+package com.loopers.domain.payment;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 콜백 inbox
+ * - 메모리 버퍼가 가득 찼을 때 콜백을 유실하지 않도록 저장해 두고, 스케줄러가 모아서 반영한 뒤 삭제한다.
+ */
+@Entity
+@Getter
+@Table(name = "payment_callback_inbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCallbackInbox extends BaseEntity {
+
+    @Column(nullable = false)
+    private String transactionKey;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentStatus status;
+
+    private String reason;
+
+    public static PaymentCallbackInbox from(PaymentCallback callback) {
+        PaymentCallbackInbox inbox = new PaymentCallbackInbox();
+        inbox.transactionKey = callback.transactionKey();
+        inbox.orderId = callback.orderId();
+        inbox.status = callback.status();
+        inbox.reason = callback.reason();
+        return inbox;
+    }
+
+    public PaymentCallback toCallback() {
+        return new PaymentCallback(transactionKey, orderId, status, reason);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.payment;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PaymentCallbackInboxRepository {
+
+    PaymentCallbackInbox save(PaymentCallbackInbox inbox);
+
+    /**
+     * 먼저 들어온 콜백부터 조회한다.
+     */
+    List<PaymentCallbackInbox> findOldest(int limit);
+
+    void deleteAllByIds(Collection<Long> ids);
+
+}
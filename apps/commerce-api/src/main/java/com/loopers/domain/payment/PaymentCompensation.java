@@ -0,0 +1,57 @@
+package com.loopers.domain.payment;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 결제 실패 보상 진행 상태
+ * - 주문당 하나만 생성되어 같은 실패 이벤트가 여러 번 와도 보상이 중복되지 않는다.
+ * - 단계별 완료 여부는 단계 처리와 같은 트랜잭션에서 기록된다.
+ * - nextAttemptAt 이 지난 PENDING 보상만 처리 대상이며, 처리하는 노드는 claim 시 nextAttemptAt 을 미뤄 점유한다.
+ */
+@Entity
+@Getter
+@Table(name = "payment_compensation")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCompensation extends BaseEntity {
+
+    @Column(nullable = false, unique = true)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentCompensationStatus status;
+
+    private boolean orderFailed;
+    private boolean stockRestored;
+    private boolean couponRestored;
+
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    private String lastError;
+
+    public static PaymentCompensation create(Long orderId, String userId) {
+        if (orderId == null) {
+            throw new IllegalArgumentException("주문 ID는 필수값입니다.");
+        }
+
+        PaymentCompensation compensation = new PaymentCompensation();
+        compensation.orderId = orderId;
+        compensation.userId = userId;
+        compensation.status = PaymentCompensationStatus.PENDING;
+        compensation.nextAttemptAt = ZonedDateTime.now();
+        return compensation;
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.loopers.domain.payment;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentCompensationRepository {
+
+    /**
+     * 주문의 보상이 없을 때만 저장한다.
+     * @return 새로 저장했으면 true
+     */
+    boolean saveIfAbsent(PaymentCompensation compensation);
+
+    Optional<PaymentCompensation> findByOrderId(Long orderId);
+
+    /**
+     * 처리 시각이 지난 PENDING 보상을 오래된 순으로 조회한다.
+     */
+    List<PaymentCompensation> findDue(ZonedDateTime now, int limit);
+
+    /**
+     * 처리 시각이 지난 PENDING 보상이면 nextAttemptAt 을 claimUntil 로 미루고 시도 횟수를 늘려 점유한다.
+     * @return 점유에 성공하면 true
+     */
+    boolean claim(Long compensationId, ZonedDateTime now, ZonedDateTime claimUntil);
+
+    /**
+     * 아직 완료되지 않은 단계만 완료로 기록한다. 단계 처리와 같은 트랜잭션에서 호출해야 한다.
+     * @return 이번에 완료로 기록했으면 true (이미 완료된 단계면 false)
+     */
+    boolean markStepDone(Long compensationId, PaymentCompensationStep step);
+
+    void markDone(Long compensationId);
+
+    /**
+     * 실패한 보상을 nextAttemptAt 에 다시 시도하도록 한다. 재시도 한도를 넘었으면 FAILED 로 둔다.
+     */
+    void retryLater(Long compensationId, ZonedDateTime nextAttemptAt, boolean giveUp, String error);
+
+}
@@ -0,0 +1,79 @@
+package com.loopers.domain.payment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 결제 실패 보상 진행 상태 관리
+ * - 실패 이벤트를 받으면 보상을 먼저 저장하고, 실제 보상은 커밋 후 별도 실행기에서 단계별로 수행한다.
+ * - 실패하면 지수 백오프(backoff × 2^(시도 횟수 - 1), 최대 max-backoff)로 다시 시도하고, max-attempts 를 넘으면 FAILED 로 둔다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentCompensationService {
+
+    private final PaymentCompensationRepository paymentCompensationRepository;
+    @Value("${payment.compensation.claim-timeout:30s}") private Duration claimTimeout;
+    @Value("${payment.compensation.backoff:1s}") private Duration backoff;
+    @Value("${payment.compensation.max-backoff:5m}") private Duration maxBackoff;
+    @Value("${payment.compensation.max-attempts:10}") private int maxAttempts;
+
+    /**
+     * 결제 실패 보상을 등록한다. 같은 주문의 보상이 이미 있으면 무시한다.
+     */
+    @Transactional
+    public boolean register(PaymentFailedEvent event) {
+        return paymentCompensationRepository.saveIfAbsent(PaymentCompensation.create(event.orderId(), event.userId()));
+    }
+
+    @Transactional(readOnly = true)
+    public PaymentCompensation getByOrderId(Long orderId) {
+        return paymentCompensationRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("결제 실패 보상을 찾을 수 없습니다. orderId: " + orderId));
+    }
+
+    public List<PaymentCompensation> findDue(int limit) {
+        return paymentCompensationRepository.findDue(ZonedDateTime.now(), limit);
+    }
+
+    /**
+     * 보상을 점유한다. 처리 중 노드가 죽으면 claim-timeout 후 다른 노드가 남은 단계부터 이어서 처리한다.
+     */
+    public boolean claim(Long compensationId) {
+        ZonedDateTime now = ZonedDateTime.now();
+        return paymentCompensationRepository.claim(compensationId, now, now.plus(claimTimeout));
+    }
+
+    /**
+     * 단계를 완료로 기록한다. 단계 처리와 같은 트랜잭션에서 호출해, 기록에 성공한 경우에만 단계를 수행한다.
+     * @return 이번에 수행해야 하면 true (이미 완료된 단계면 false)
+     */
+    public boolean markStepDone(Long compensationId, PaymentCompensationStep step) {
+        return paymentCompensationRepository.markStepDone(compensationId, step);
+    }
+
+    public void complete(Long compensationId) {
+        paymentCompensationRepository.markDone(compensationId);
+    }
+
+    /**
+     * @param attemptCount 이번 시도를 포함한 시도 횟수
+     */
+    public void retryLater(Long compensationId, int attemptCount, String error) {
+        long multiplier = 1L << Math.min(Math.max(attemptCount - 1, 0), 20);
+        Duration delay = backoff.multipliedBy(multiplier);
+        if (delay.compareTo(maxBackoff) > 0) {
+            delay = maxBackoff;
+        }
+
+        paymentCompensationRepository.retryLater(
+                compensationId, ZonedDateTime.now().plus(delay), attemptCount >= maxAttempts, error);
+    }
+
+}
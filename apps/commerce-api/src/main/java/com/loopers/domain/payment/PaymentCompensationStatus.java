@@ -0,0 +1,7 @@
+package com.loopers.domain.payment;
+
+public enum PaymentCompensationStatus {
+    PENDING, // 보상 진행 중 (남은 단계가 있음)
+    DONE, // 모든 단계 완료
+    FAILED // 재시도 한도 초과 (수동 처리 필요)
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.payment;
+
+/**
+ * 결제 실패 보상 단계
+ * - 단계마다 완료 여부를 따로 기록하므로, 중단 후 재개해도 완료된 단계는 다시 수행하지 않는다.
+ */
+public enum PaymentCompensationStep {
+    ORDER, // 주문 실패 처리
+    STOCK, // 재고 복원 (Redis 예약 주문은 예약 취소)
+    COUPON // 쿠폰 복원
+}
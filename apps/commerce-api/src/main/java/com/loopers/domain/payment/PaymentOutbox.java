@@ -0,0 +1,46 @@
+package com.loopers.domain.payment;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * PG 결제 요청 outbox
+ * - 결제와 같은 트랜잭션에서 저장되고, 커밋 후 dispatcher 가 PG 로 전송한다.
+ * - nextAttemptAt 이 지난 PENDING 요청만 전송 대상이며, 전송을 맡은 노드는 claim 시 nextAttemptAt 을 미뤄 점유한다.
+ */
+@Entity
+@Getter
+@Table(name = "payment_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutbox extends BaseEntity {
+
+    @Column(nullable = false, unique = true)
+    private Long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentOutboxStatus status;
+
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    public static PaymentOutbox create(Long paymentId) {
+        if (paymentId == null) {
+            throw new IllegalArgumentException("결제 ID는 필수값입니다.");
+        }
+
+        PaymentOutbox outbox = new PaymentOutbox();
+        outbox.paymentId = paymentId;
+        outbox.status = PaymentOutboxStatus.PENDING;
+        outbox.nextAttemptAt = ZonedDateTime.now();
+        return outbox;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.loopers.domain.payment;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface PaymentOutboxRepository {
+
+    PaymentOutbox save(PaymentOutbox outbox);
+
+    /**
+     * 전송 시각이 지난 PENDING 요청을 오래된 순으로 조회한다.
+     */
+    List<PaymentOutbox> findDue(ZonedDateTime now, int maxAttempts, int limit);
+
+    /**
+     * 전송 시각이 지난 PENDING 요청이면 nextAttemptAt 을 claimUntil 로 미뤄 점유한다.
+     * @return 점유에 성공하면 true (다른 노드가 먼저 점유했으면 false)
+     */
+    boolean claim(Long outboxId, ZonedDateTime now, ZonedDateTime claimUntil);
+
+    /**
+     * 점유한 요청을 보내지 못했을 때 nextAttemptAt 을 다시 정하고, claim 에서 늘린 시도 횟수를 되돌린다.
+     */
+    void defer(Long outboxId, ZonedDateTime nextAttemptAt);
+
+    void markSent(Long outboxId);
+
+    /**
+     * 시도 횟수를 다 썼고 마지막 점유 시간도 지난 PENDING 요청을 오래된 순으로 조회한다.
+     */
+    List<PaymentOutbox> findExhausted(ZonedDateTime now, int maxAttempts, int limit);
+
+    /**
+     * 시도 횟수를 다 쓴 PENDING 요청이면 FAILED 로 바꾼다.
+     * @return 바꿨으면 true (그 사이 다른 노드가 처리했으면 false)
+     */
+    boolean markFailed(Long outboxId, ZonedDateTime now, int maxAttempts);
+
+}
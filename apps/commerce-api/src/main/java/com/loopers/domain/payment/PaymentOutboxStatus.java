@@ -0,0 +1,7 @@
+package com.loopers.domain.payment;
+
+public enum PaymentOutboxStatus {
+    PENDING, // 전송 대기
+    SENT, // 전송 완료 (PG 응답 또는 실패 처리까지 저장됨)
+    FAILED // 시도 횟수를 다 써서 전송 포기 (결제 실패 처리됨)
+}
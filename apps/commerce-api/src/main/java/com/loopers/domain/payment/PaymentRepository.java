@@ -1,6 +1,7 @@
 package com.loopers.domain.payment;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,10 +9,23 @@ public interface PaymentRepository {
 
     Payment save(Payment payment);
 
-    Payment findByTransactionKeyAndOrderId(String transactionKey, Long orderId);
-
-    List<Payment> findByStatus(PaymentStatus status);
-
     Optional<Payment> findById(Long paymentId);
 
+    /**
+     * 샤드(id % shardCount)에 속한 PENDING 카드 결제를 id 순으로 lastId 이후부터 조회한다. (keyset 페이징)
+     * - (status, id) 인덱스의 PENDING 구간만 읽는다.
+     */
+    List<PendingPayment> findPendingCardPayments(int shard, int shardCount, Long lastId, int size);
+
+    /**
+     * 아직 PENDING 인 경우에만 상태를 변경한다. (콜백으로 먼저 확정된 결제는 덮어쓰지 않는다)
+     */
+    boolean updateStatusIfPending(Long paymentId, PaymentStatus status, String reason);
+
+    /**
+     * 콜백 대상 결제(transactionKey + orderId) 중 아직 PENDING 인 결제만 한 번의 UPDATE 로 같은 상태/사유로 변경한다.
+     * @return 변경된 결제 수
+     */
+    int updateStatusesIfPending(Collection<PaymentCallback> callbacks, PaymentStatus status, String reason);
+
 }
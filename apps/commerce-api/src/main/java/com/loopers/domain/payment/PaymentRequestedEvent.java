@@ -0,0 +1,7 @@
+package com.loopers.domain.payment;
+
+public record PaymentRequestedEvent(
+        Long outboxId,
+        Long paymentId
+) {
+}
@@ -1,16 +1,35 @@
 package com.loopers.domain.payment;
 
-import com.loopers.application.payment.CallbackPaymentCommand;
 import com.loopers.application.payment.ProcessPaymentCommand;
+import com.loopers.infrastructure.pg.PgBulkheadFullException;
 import com.loopers.infrastructure.pg.PgService;
 import com.loopers.infrastructure.pg.PgV1Dto;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
@@ -18,6 +37,16 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final PgService pgService;
     private final ApplicationEventPublisher eventPublisher;
+    private final PaymentShardLease paymentShardLease;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentCallbackInboxRepository paymentCallbackInboxRepository;
+    @Value("${payment.outbox.max-attempts:5}") private int outboxMaxAttempts;
+    @Value("${payment.outbox.claim-timeout:30s}") private Duration outboxClaimTimeout;
+    @Value("${payment.outbox.defer-delay:1s}") private Duration outboxDeferDelay;
+    @Value("${payment.reconcile.shards:16}") private int reconcileShards;
+    @Value("${payment.reconcile.page-size:500}") private int reconcilePageSize;
+    @Value("${payment.reconcile.batch-size:100}") private int reconcileBatchSize;
+    @Value("${payment.reconcile.concurrency:8}") private int reconcileConcurrency;
 
     @Transactional
     public Payment createPayment(ProcessPaymentCommand command) {
@@ -42,31 +71,155 @@ public class PaymentService {
         return paymentRepository.save(payment);
     }
 
-    @Transactional
+    /**
+     * PG 결제 요청 후 결과 저장
+     * - PG 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 호출하며, 결과 저장만 짧은 트랜잭션으로 수행한다.
+     * - PG bulkhead 가 가득 차 요청을 보내지 못했으면 결제를 실패시키지 않고 {@link PgBulkheadFullException} 을 그대로 던진다.
+     */
     public Payment requestAndSavePayment(Payment payment, String callbackUrl) {
         PgV1Dto.PgRequest request = PgV1Dto.PgRequest.from(payment, callbackUrl);
 
         try {
-            ApiResponse<PgV1Dto.PgResponse> response = pgService.callPayment(payment.getUserId(), request);
+            ApiResponse<PgV1Dto.PgResponse> response = pgService.callPayment(payment.getUserId(), request).join();
             payment.updateTransactionKey(response.data().transactionKey());
 
             return paymentRepository.save(payment);
         } catch (Exception e) {
-            // 실패 정책: 결제 FAILED + 주문 롤백 이벤트 발행
-            payment.updateStatus(PaymentStatus.FAILED, e.getMessage());
+            // 실패 정책: 결제 FAILED 저장 후 주문 롤백 이벤트 발행
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof PgBulkheadFullException bulkheadFull) {
+                throw bulkheadFull;
+            }
+            payment.updateStatus(PaymentStatus.FAILED, cause.getMessage());
+            Payment savedPayment = paymentRepository.save(payment);
             eventPublisher.publishEvent(new PaymentFailedEvent(payment.getOrderId(), payment.getUserId()));
 
-            return paymentRepository.save(payment);
+            return savedPayment;
+        }
+    }
+
+    /**
+     * PG 결제 요청을 outbox 에 저장한다. 실제 전송은 커밋 후 dispatcher 가 수행한다.
+     */
+    @Transactional
+    public PaymentOutbox enqueueRequest(Payment payment) {
+        PaymentOutbox outbox = paymentOutboxRepository.save(PaymentOutbox.create(payment.getId()));
+        eventPublisher.publishEvent(new PaymentRequestedEvent(outbox.getId(), payment.getId()));
+        return outbox;
+    }
+
+    public List<PaymentOutbox> findDueRequests(int limit) {
+        return paymentOutboxRepository.findDue(ZonedDateTime.now(), outboxMaxAttempts, limit);
+    }
+
+    /**
+     * 전송할 요청을 점유한다. 전송 중 노드가 죽으면 claim-timeout 후 다른 노드가 다시 전송한다.
+     */
+    public boolean claimRequest(Long outboxId) {
+        ZonedDateTime now = ZonedDateTime.now();
+        return paymentOutboxRepository.claim(outboxId, now, now.plus(outboxClaimTimeout));
+    }
+
+    /**
+     * PG 에 보내지 못한 요청의 점유를 풀고 defer-delay 후 다시 전송 대상이 되게 한다. 시도 횟수는 늘리지 않는다.
+     */
+    public void deferRequest(Long outboxId) {
+        paymentOutboxRepository.defer(outboxId, ZonedDateTime.now().plus(outboxDeferDelay));
+    }
+
+    public void completeRequest(Long outboxId) {
+        paymentOutboxRepository.markSent(outboxId);
+    }
+
+    /**
+     * 시도 횟수를 다 쓴 요청을 FAILED 로 끝내고 결제를 실패 처리한다. (결제 실패 이벤트로 보상이 실행된다)
+     * - 마지막 시도의 점유 시간이 지난 요청만 대상이므로 아직 PG 응답을 기다리는 전송과 겹치지 않는다.
+     * - 트랜잭션키가 이미 저장된 결제는 PG 가 접수한 것이므로 실패시키지 않고 전송 완료로 바꾼다.
+     * @return 실패 처리한 결제 수
+     */
+    @Transactional
+    public int failExhaustedRequests(int limit) {
+        ZonedDateTime now = ZonedDateTime.now();
+        int failed = 0;
+        for (PaymentOutbox outbox : paymentOutboxRepository.findExhausted(now, outboxMaxAttempts, limit)) {
+            Payment payment = getPayment(outbox.getPaymentId());
+            if (payment.getCardDetail() != null && payment.getCardDetail().getTransactionKey() != null) {
+                paymentOutboxRepository.markSent(outbox.getId());
+                continue;
+            }
+            if (!paymentOutboxRepository.markFailed(outbox.getId(), now, outboxMaxAttempts)) {
+                continue;
+            }
+
+            if (paymentRepository.updateStatusIfPending(payment.getId(), PaymentStatus.FAILED, "PG 결제 요청 시도 횟수를 초과했습니다.")) {
+                eventPublisher.publishEvent(new PaymentFailedEvent(payment.getOrderId(), payment.getUserId()));
+                failed++;
+            }
         }
+        return failed;
+    }
+
+    @Transactional(readOnly = true)
+    public Payment getPayment(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다."));
     }
 
+    /**
+     * 콜백 결과를 한 트랜잭션에서 일괄 반영한다.
+     * - 같은 결제의 콜백은 먼저 들어온 확정 상태 하나로 합치고, PENDING 콜백은 반영하지 않는다.
+     * - PENDING 인 결제만 변경하므로 이미 확정된 결제는 되돌아가지 않는다. (중복 콜백, 스케줄러 동기화와 경합해도 멱등)
+     * - 같은 상태/사유끼리 묶어 UPDATE 한 번으로 반영한다.
+     * @return 상태가 바뀐 결제 수
+     */
     @Transactional
-    public void updateStatusFromCallback(CallbackPaymentCommand command) {
-        Payment payment = paymentRepository.findByTransactionKeyAndOrderId(command.transactionKey(), command.orderId());
+    public int applyCallbacks(List<PaymentCallback> callbacks) {
+        Map<String, PaymentCallback> coalesced = new LinkedHashMap<>();
+        for (PaymentCallback callback : callbacks) {
+            if (callback.status() != PaymentStatus.PENDING) {
+                coalesced.putIfAbsent(callback.transactionKey(), callback);
+            }
+        }
 
-        payment.updateStatus(PaymentStatus.valueOf(command.status()), command.reason());
+        Map<StatusChange, List<PaymentCallback>> changes = coalesced.values().stream()
+                .collect(Collectors.groupingBy(
+                        callback -> new StatusChange(callback.status(), callback.reason()),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
 
-        paymentRepository.save(payment);
+        int updated = 0;
+        for (Map.Entry<StatusChange, List<PaymentCallback>> change : changes.entrySet()) {
+            updated += paymentRepository.updateStatusesIfPending(
+                    change.getValue(), change.getKey().status(), change.getKey().reason());
+        }
+        return updated;
+    }
+
+    /**
+     * 메모리 버퍼에 넣지 못한 콜백을 inbox 에 저장한다.
+     */
+    @Transactional
+    public void saveCallbackToInbox(PaymentCallback callback) {
+        paymentCallbackInboxRepository.save(PaymentCallbackInbox.from(callback));
+    }
+
+    /**
+     * inbox 에 쌓인 콜백을 먼저 들어온 순으로 limit 건 반영하고 삭제한다.
+     * @return 처리한 콜백 수
+     */
+    @Transactional
+    public int applyInboxCallbacks(int limit) {
+        List<PaymentCallbackInbox> inboxes = paymentCallbackInboxRepository.findOldest(limit);
+        if (inboxes.isEmpty()) {
+            return 0;
+        }
+
+        applyCallbacks(inboxes.stream().map(PaymentCallbackInbox::toCallback).toList());
+        paymentCallbackInboxRepository.deleteAllByIds(inboxes.stream().map(PaymentCallbackInbox::getId).toList());
+        return inboxes.size();
+    }
+
+    private record StatusChange(PaymentStatus status, String reason) {
     }
 
     @Transactional
@@ -74,17 +227,71 @@ public class PaymentService {
         return paymentRepository.save(payment);
     }
 
-    @Transactional
+    /**
+     * PENDING 결제 상태를 PG 와 동기화한다.
+     * - 결제를 id % shards 로 나누고, 임대를 잡은 샤드만 처리해 여러 노드가 일을 나눠 갖는다.
+     * - 샤드 안에서는 id 순 keyset 페이징으로 읽고, 페이지를 batch-size 건씩 묶어 PG 일괄 조회를 비동기로 동시에 수행한다.
+     * - 상태 변경은 결제 건별 짧은 트랜잭션으로 반영한다.
+     */
     public void updatePaymentStatusWithScheduler() {
-        paymentRepository.findByStatus(PaymentStatus.PENDING)
-                .forEach(payment -> {
-                    ApiResponse<PgV1Dto.PgDetailResponse> response = pgService.getPaymentDetail(payment);
-
-                    if (response.data().status() != PaymentStatus.PENDING) { // 폴백이면 PENDING 유지
-                        payment.updateStatus(response.data().status(), response.data().reason());
-                        paymentRepository.save(payment);
-                    }
-                });
+        // 노드마다 다른 순서로 샤드를 시도해 임대 경합을 줄인다
+        List<Integer> shards = new ArrayList<>(IntStream.range(0, reconcileShards).boxed().toList());
+        Collections.shuffle(shards);
+
+        for (int shard : shards) {
+            paymentShardLease.acquire(shard).ifPresent(token -> {
+                try {
+                    syncShard(shard, token);
+                } finally {
+                    paymentShardLease.release(shard, token);
+                }
+            });
+        }
+    }
+
+    private void syncShard(int shard, String token) {
+        Long lastId = 0L;
+        while (true) {
+            List<PendingPayment> payments = paymentRepository.findPendingCardPayments(shard, reconcileShards, lastId, reconcilePageSize);
+            if (payments.isEmpty()) {
+                return;
+            }
+
+            syncStatuses(payments);
+
+            if (payments.size() < reconcilePageSize || !paymentShardLease.extend(shard, token)) {
+                return; // 마지막 페이지이거나 임대를 잃었으면 중단
+            }
+            lastId = payments.getLast().id();
+        }
+    }
+
+    private void syncStatuses(List<PendingPayment> payments) {
+        Semaphore permits = new Semaphore(reconcileConcurrency);
+        List<CompletableFuture<Void>> syncs = new ArrayList<>();
+        for (int from = 0; from < payments.size(); from += reconcileBatchSize) {
+            List<PendingPayment> batch = payments.subList(from, Math.min(from + reconcileBatchSize, payments.size()));
+            permits.acquireUninterruptibly();
+            syncs.add(pgService.getPaymentDetails(batch.stream().map(PendingPayment::transactionKey).toList())
+                    .thenAccept(details -> applyDetails(batch, details))
+                    .exceptionally(e -> {
+                        log.warn("결제 상태 동기화 실패 - paymentIds: {}~{}", batch.getFirst().id(), batch.getLast().id(), e);
+                        return null;
+                    })
+                    .whenComplete((ignored, e) -> permits.release()));
+        }
+        CompletableFuture.allOf(syncs.toArray(CompletableFuture[]::new)).join(); // 페이지의 모든 조회가 끝날 때까지 대기
+    }
+
+    private void applyDetails(List<PendingPayment> payments, List<PgV1Dto.PgDetailResponse> details) {
+        Map<String, PgV1Dto.PgDetailResponse> detailsByKey = details.stream()
+                .collect(Collectors.toMap(PgV1Dto.PgDetailResponse::transactionKey, Function.identity(), (a, b) -> a));
+        for (PendingPayment payment : payments) {
+            PgV1Dto.PgDetailResponse detail = detailsByKey.get(payment.transactionKey());
+            if (detail != null && detail.status() != PaymentStatus.PENDING) { // PG 에 없거나 처리 중이면 PENDING 유지
+                paymentRepository.updateStatusIfPending(payment.id(), detail.status(), detail.reason());
+            }
+        }
     }
 
 }
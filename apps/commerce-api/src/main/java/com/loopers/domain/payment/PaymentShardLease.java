@@ -0,0 +1,23 @@
+package com.loopers.domain.payment;
+
+import java.util.Optional;
+
+/**
+ * 결제 상태 동기화 샤드 임대
+ * - 샤드별로 한 노드만 동기화하도록 임대를 잡고, 처리 중에는 연장한다.
+ */
+public interface PaymentShardLease {
+
+    /**
+     * @return 임대에 성공하면 해제/연장에 사용할 토큰
+     */
+    Optional<String> acquire(int shard);
+
+    /**
+     * @return 임대를 잃었으면 false
+     */
+    boolean extend(int shard, String token);
+
+    void release(int shard, String token);
+
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.payment;
+
+/**
+ * 상태 동기화 대상 PENDING 결제 (읽기 모델)
+ * - 동기화에는 id 와 transactionKey 만 필요하므로 DTO 프로젝션으로 조회해 엔티티를 적재하지 않는다.
+ */
+public record PendingPayment(
+        Long id,
+        String transactionKey
+) {
+}
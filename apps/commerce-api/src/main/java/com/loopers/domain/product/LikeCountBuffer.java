@@ -0,0 +1,43 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 반영 대기 중인 상품 좋아요 수 증감분
+ * - 좋아요 요청은 상품 row 를 갱신하지 않고 증감분만 누적하며, 주기적으로 모아서 DB 에 반영한다.
+ */
+public interface LikeCountBuffer {
+
+    void add(Long productId, long delta);
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분 (조회 시 DB 값에 더해서 사용, 반영 중인 증감분 포함)
+     */
+    long getPendingDelta(Long productId);
+
+    /**
+     * {@link #getPendingDelta} 를 여러 상품에 대해 한 번에 조회한다. (증감분이 없는 상품은 포함하지 않는다)
+     */
+    Map<Long, Long> getPendingDeltas(Collection<Long> productIds);
+
+    /**
+     * 노드 내 증감분을 Redis 로 옮겨, 다른 노드에서도 반영 대기 증감분으로 보이게 한다.
+     */
+    void flushLocal();
+
+    /**
+     * DB 에 반영할 증감분을 꺼낸다. (노드 내 증감분을 먼저 Redis 로 옮긴다)
+     * - 꺼낸 증감분은 반영이 끝날 때까지 반영 중으로 남아 조회에 계속 합산된다.
+     * - 이전 반영이 끝나지 않은 증감분이 남아 있으면 같은 flush id 로 그것부터 다시 꺼낸다.
+     * - 반영이 끝나면 {@link #completeFlush(String)} 를 호출해야 한다. 실패하면 그대로 두어 다음 주기에 다시 꺼낸다.
+     */
+    Optional<PendingLikeCountFlush> beginFlush();
+
+    /**
+     * 반영 중인 증감분을 지운다. 이미 다른 호출이 끝낸 flush id 면 무시한다.
+     */
+    void completeFlush(String flushId);
+
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.product;
+
+/**
+ * 좋아요/취소로 발생한 상품 좋아요 수 증감분
+ * - 커밋된 증감분만 버퍼에 누적되도록 커밋 후 처리한다.
+ */
+public record LikeCountChangedEvent(
+        Long productId,
+        long delta
+) {
+}
@@ -0,0 +1,30 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 에 반영된 좋아요 수 증감분 기록
+ * - 반영과 같은 트랜잭션에 flush id 를 남겨, 같은 증감분을 다시 꺼내더라도 두 번 반영하지 않는다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "like_count_flushes",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_like_count_flushes_flush_id", columnNames = {"flush_id"})
+        },
+        indexes = {
+                @Index(name = "idx_like_count_flushes_created_at", columnList = "created_at") // 보관 기간 지난 기록 정리
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LikeCountFlush extends BaseEntity {
+
+    @Column(name = "flush_id", nullable = false)
+    private String flushId;
+
+}
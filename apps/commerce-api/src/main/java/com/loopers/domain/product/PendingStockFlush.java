@@ -0,0 +1,13 @@
+package com.loopers.domain.product;
+
+import java.util.Map;
+
+/**
+ * DB 에 반영할 재고 예약 차감분
+ * - 반영이 중단되어 다시 꺼내도 flush id 는 같으므로, 이미 반영된 차감분인지 DB 기록으로 판단할 수 있다.
+ */
+public record PendingStockFlush(
+        String flushId,
+        Map<Long, Long> decreases
+) {
+}
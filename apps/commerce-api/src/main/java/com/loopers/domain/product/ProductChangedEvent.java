@@ -0,0 +1,17 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품의 재고/좋아요 수 등 조회 캐시에 영향을 주는 변경 이벤트
+ */
+public record ProductChangedEvent(
+        Long productId,
+        Long brandId,
+        ChangeType type
+) {
+
+    public enum ChangeType {
+        STOCK,
+        LIKE_COUNT
+    }
+
+}
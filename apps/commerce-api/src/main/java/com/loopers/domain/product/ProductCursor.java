@@ -0,0 +1,81 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 목록 조회의 이어보기 위치 (마지막 상품의 정렬 키, id)
+ * - 클라이언트에는 정렬 타입까지 포함한 불투명 토큰으로 전달한다.
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        String sortValue,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor of(ProductSortType sortType, ProductSummary summary) {
+        String sortValue = switch (sortType) {
+            case CREATED_AT_ASC, CREATED_AT_DESC -> summary.createdAt().toInstant().toString();
+            case PRICE_ASC, PRICE_DESC -> String.valueOf(summary.price());
+            case LIKE_COUNT_DESC -> String.valueOf(summary.likeCount());
+        };
+        return new ProductCursor(sortType, sortValue, summary.id());
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 해석하며, 요청한 정렬과 다른 정렬에서 발급된 토큰은 거부한다.
+     */
+    public static ProductCursor decode(String token, ProductSortType expectedSortType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid cursor: " + raw);
+            }
+
+            ProductCursor cursor = new ProductCursor(ProductSortType.valueOf(parts[0]), parts[1], Long.valueOf(parts[2]));
+            if (cursor.sortType != expectedSortType) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "커서와 정렬 조건이 일치하지 않습니다.");
+            }
+            cursor.validateSortValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public ZonedDateTime createdAtValue() {
+        return ZonedDateTime.ofInstant(Instant.parse(sortValue), ZoneId.systemDefault());
+    }
+
+    public int priceValue() {
+        return Integer.parseInt(sortValue);
+    }
+
+    public long likeCountValue() {
+        return Long.parseLong(sortValue);
+    }
+
+    private void validateSortValue() {
+        switch (sortType) {
+            case CREATED_AT_ASC, CREATED_AT_DESC -> createdAtValue();
+            case PRICE_ASC, PRICE_DESC -> priceValue();
+            case LIKE_COUNT_DESC -> likeCountValue();
+        }
+    }
+
+}
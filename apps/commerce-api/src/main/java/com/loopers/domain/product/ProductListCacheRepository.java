@@ -0,0 +1,32 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 목록 페이지/전체 개수 캐시
+ * - brandId 가 null 이면 전체 상품 목록을 의미한다.
+ */
+public interface ProductListCacheRepository {
+
+    Optional<List<ProductSummary>> findPage(Long brandId, ProductSortType sortType, int page, int size);
+
+    void savePage(Long brandId, ProductSortType sortType, int page, int size, List<ProductSummary> contents);
+
+    boolean existsPage(Long brandId, ProductSortType sortType, int page, int size);
+
+    Optional<Long> findTotalCount(Long brandId);
+
+    void saveTotalCount(Long brandId, long totalCount);
+
+    /**
+     * 브랜드의 모든 목록 페이지를 제거하고 재적재 대상으로 표시한다.
+     */
+    void evictPages(Long brandId);
+
+    /**
+     * 재적재 대상 브랜드를 꺼낸다. (전체 목록은 null 원소로 반환)
+     */
+    List<Long> popDirtyBrands();
+
+}
@@ -3,13 +3,34 @@ package com.loopers.domain.product;
 
 import org.springframework.data.domain.Page;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
 
     Page<Product> findByCondition(ProductSearchCondition condition);
 
+    /**
+     * 상품 + 브랜드를 읽기 모델로 조회한다. (읽기 전용, 엔티티 미적재)
+     */
+    Page<ProductSummary> findSummariesByCondition(ProductSearchCondition condition);
+
+    /**
+     * {@link #findSummariesByCondition} 와 같으나 COUNT 쿼리는 수행하지 않는다.
+     */
+    List<ProductSummary> findSummaryContentsByCondition(ProductSearchCondition condition);
+
+    long countByBrandId(Long brandId);
+
+    /**
+     * 커서 이후의 상품을 (정렬 키, id) 순으로 최대 limit 개 조회한다. (COUNT 쿼리 없음)
+     * - cursor 가 null 이면 처음부터 조회한다.
+     */
+    List<ProductSummary> findByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int limit);
+
     Optional<Product> findById(Long productId);
 
     Optional<Product> findWithBrandById(Long productId);
@@ -18,10 +39,62 @@ public interface ProductRepository {
 
     List<Product> findAllById(List<Long> productIds);
 
-    List<Product> findAllWithLock(List<Long> productIds);
-
     Product save(Product product);
 
     List<Product> findByAll();
 
+    /**
+     * 상품별 좋아요 수 증감분을 일괄 반영한다. (증감분이 같은 상품끼리 한 번의 UPDATE)
+     * - 같은 트랜잭션에 flush id 를 기록하며, 이미 기록된 flush id 면 반영하지 않는다.
+     * @return 이미 반영된 증감분이라 건너뛰었으면 false
+     */
+    boolean addLikeCounts(String flushId, Map<Long, Long> deltas);
+
+    /**
+     * before 이전에 기록된 좋아요 수 반영 기록을 지운다.
+     */
+    int deleteLikeCountFlushesBefore(ZonedDateTime before);
+
+    Map<Long, Long> findBrandIdsByIds(Collection<Long> productIds);
+
+    /**
+     * 상품별 좋아요 수 (PK 조회, 반영 대기 증감분 제외)
+     */
+    Map<Long, Long> findLikeCountsByIds(Collection<Long> productIds);
+
+    /**
+     * 좋아요 수가 expected 일 때만 바꾼다. (그 사이 증감분이 반영됐으면 건너뛴다)
+     */
+    boolean updateLikeCountIfEquals(Long productId, long expected, long likeCount);
+
+    /**
+     * cursor 보다 큰 상품 id 를 오름차순으로 최대 limit 개 조회한다.
+     */
+    List<Long> findIdsAfter(Long cursor, int limit);
+
+    /**
+     * 상품별 재고 차감분을 일괄 반영한다. (차감분이 같은 상품끼리 한 번의 UPDATE, 음수면 복원)
+     * - 같은 트랜잭션에 flush id 를 기록하며, 이미 기록된 flush id 면 반영하지 않는다.
+     * @return 이미 반영된 차감분이라 건너뛰었으면 false
+     */
+    boolean decreaseStocks(String flushId, Map<Long, Long> quantities);
+
+    /**
+     * before 이전에 기록된 재고 반영 기록을 지운다.
+     */
+    int deleteStockFlushesBefore(ZonedDateTime before);
+
+    Map<Long, Integer> findStocksByIds(Collection<Long> productIds);
+
+    /**
+     * 재고가 충분한 상품만 한 번의 UPDATE 로 차감한다.
+     * @return 차감된 상품 수 (요청한 상품 수보다 적으면 재고가 부족한 상품이 있다)
+     */
+    int decreaseStocksIfEnough(Map<Long, Integer> quantities);
+
+    /**
+     * 상품별 재고를 한 번의 UPDATE 로 복원한다.
+     */
+    void increaseStocks(Map<Long, Integer> quantities);
+
 }
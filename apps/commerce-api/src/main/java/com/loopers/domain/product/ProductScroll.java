@@ -0,0 +1,14 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 조회 결과
+ * - 전체 개수 없이 다음 페이지 존재 여부와 이어보기 토큰만 제공한다.
+ */
+public record ProductScroll(
+        List<ProductSummary> contents,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -3,26 +3,58 @@ package com.loopers.domain.product;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.product.ProductCommand;
+import com.loopers.config.cache.NearCache;
+import com.loopers.config.cache.NearCacheRegistry;
+import com.loopers.config.cache.StampedeGuard;
 import com.loopers.domain.order.OrderItem;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final String DETAIL_CACHE_NAME = "productDetail";
+    private static final int WARM_PAGE_SIZE = 20;
+    private static final int LIKE_FLUSH_ROUNDS = 2; // 남아 있던 반영 중 증감분, 그다음 새로 쌓인 증감분
+
     private final ProductRepository productRepository;
+    private final ProductListCacheRepository productListCacheRepository;
+    private final LikeCountBuffer likeCountBuffer;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final NearCacheRegistry nearCacheRegistry;
+    private final StampedeGuard stampedeGuard;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
     @Value("${cache.version.product}") public static String CACHE_VERSION;
+    @Value("${cache.ttl.product-detail:30m}") private Duration detailCacheTtl;
+    @Value("${cache.warm.product-list-pages:3}") private int warmPages;
 
     public Page<Product> getProducts(ProductCommand command) {
         // command -> domain
@@ -31,6 +63,113 @@ public class ProductService {
         return productRepository.findByCondition(condition);
     }
 
+    /**
+     * 상품 목록 조회 (목록 캐시 사용)
+     * - 인덱스로 처리 가능한 정렬만 캐시하고, 그 외 정렬은 DB 를 직접 조회한다.
+     * - 전체 개수는 페이지와 별도로 캐시하여 페이지 미스 시에도 COUNT 쿼리를 생략한다.
+     */
+    public Page<ProductSummary> getProductSummaries(ProductCommand command) {
+        ProductSearchCondition condition = command.toCondition();
+        Pageable pageable = condition.pageable();
+        Optional<ProductSortType> sortType = ProductSortType.from(pageable.getSort());
+
+        if (sortType.isEmpty()) {
+            return productRepository.findSummariesByCondition(condition);
+        }
+
+        List<ProductSummary> contents = productListCacheRepository
+                .findPage(condition.brandId(), sortType.get(), pageable.getPageNumber(), pageable.getPageSize())
+                .orElseGet(() -> loadPage(condition, sortType.get()));
+
+        long totalCount = productListCacheRepository.findTotalCount(condition.brandId())
+                .orElseGet(() -> {
+                    long count = productRepository.countByBrandId(condition.brandId());
+                    productListCacheRepository.saveTotalCount(condition.brandId(), count);
+                    return count;
+                });
+
+        return new PageImpl<>(contents, pageable, totalCount);
+    }
+
+    /**
+     * 상품 목록 커서 조회
+     * - 한 건을 더 조회하여 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 필요 없다.
+     */
+    public ProductScroll getProductScroll(Long brandId, ProductSortType sortType, String cursorToken, int size) {
+        ProductCursor cursor = (cursorToken == null || cursorToken.isBlank())
+                ? null
+                : ProductCursor.decode(cursorToken, sortType);
+
+        List<ProductSummary> summaries = productRepository.findByCursor(brandId, sortType, cursor, size + 1);
+        boolean hasNext = summaries.size() > size;
+        List<ProductSummary> contents = hasNext ? summaries.subList(0, size) : summaries;
+
+        String nextCursor = hasNext
+                ? ProductCursor.of(sortType, contents.get(contents.size() - 1)).encode()
+                : null;
+
+        return new ProductScroll(
+                List.copyOf(contents),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    /**
+     * 캐시 미스 시 페이지 적재
+     * - 캐시 키가 되는 정렬 타입의 정렬로 조회하여, 정렬 없는 요청이 다른 순서로 캐시에 적재되지 않도록 한다.
+     */
+    private List<ProductSummary> loadPage(ProductSearchCondition condition, ProductSortType sortType) {
+        Pageable pageable = PageRequest.of(
+                condition.pageable().getPageNumber(), condition.pageable().getPageSize(), sortType.toSort());
+        List<ProductSummary> contents = productRepository.findSummaryContentsByCondition(
+                new ProductSearchCondition(condition.brandId(), pageable));
+
+        productListCacheRepository.savePage(
+                condition.brandId(), sortType, pageable.getPageNumber(), pageable.getPageSize(), contents);
+        return contents;
+    }
+
+    /**
+     * 목록 캐시 제거 (브랜드 목록 + 전체 목록)
+     * - 제거된 목록은 재적재 대상으로 표시되어 {@link #warmListCaches()} 에서 다시 채워진다.
+     */
+    public void evictListCache(Long brandId) {
+        productListCacheRepository.evictPages(brandId);
+        productListCacheRepository.evictPages(null);
+    }
+
+    /**
+     * 정렬별 앞쪽 페이지를 미리 적재한다.
+     * - 전체 목록은 비어있는 페이지만, 재적재 대상 브랜드는 모든 앞쪽 페이지를 다시 적재한다.
+     */
+    public void warmListCaches() {
+        Set<Long> dirtyBrandIds = new HashSet<>();
+        boolean allDirty = false;
+        for (Long brandId : productListCacheRepository.popDirtyBrands()) {
+            if (brandId == null) {
+                allDirty = true;
+            } else {
+                dirtyBrandIds.add(brandId);
+            }
+        }
+
+        warmListCache(null, allDirty);
+        dirtyBrandIds.forEach(brandId -> warmListCache(brandId, true));
+    }
+
+    private void warmListCache(Long brandId, boolean force) {
+        for (ProductSortType sortType : ProductSortType.values()) {
+            for (int page = 0; page < warmPages; page++) {
+                if (!force && productListCacheRepository.existsPage(brandId, sortType, page, WARM_PAGE_SIZE)) {
+                    continue;
+                }
+                Pageable pageable = PageRequest.of(page, WARM_PAGE_SIZE, sortType.toSort());
+                loadPage(new ProductSearchCondition(brandId, pageable), sortType);
+            }
+        }
+    }
+
     public Product getProductDetail(Long productId) {
         // repository
         return productRepository.findById(productId).orElseThrow(
@@ -47,72 +186,220 @@ public class ProductService {
     }
 
     public Product getProductDetailForRedisTemplate(Long productId) throws JsonProcessingException {
-        String key = "product:" + CACHE_VERSION + ":detail:" + productId;
+        String key = detailCacheKey(productId);
         String json = "";
 
-        // 캐시 조회
-        json = redisTemplate.opsForValue().get(key);
-        if (json != null) {
-            return objectMapper.readValue(json, Product.class); // 역직렬화
+        // L1 조회
+        NearCache nearCache = nearCacheRegistry.getCache(DETAIL_CACHE_NAME);
+        Product cached = (Product) nearCache.get(key);
+        if (cached != null) {
+            return cached;
         }
 
-        // DB 에서 조회
-        Product productEntity = productRepository.findWithBrandById(productId).orElseThrow(
-                () -> new IllegalArgumentException("Product not found with id: " + productId));
+        // L2(Redis) 조회, 미스 시 키 당 하나의 요청만 DB 에서 적재
+        json = stampedeGuard.get(DETAIL_CACHE_NAME, key, detailCacheTtl, () -> {
+            Product productEntity = productRepository.findWithBrandById(productId).orElseThrow(
+                    () -> new IllegalArgumentException("Product not found with id: " + productId));
+            return objectMapper.writeValueAsString(productEntity); // 직렬화
+        });
 
-        // 캐시 저장
-        json = objectMapper.writeValueAsString(productEntity); // 직렬화
-        redisTemplate.opsForValue().set(key, json);
+        // L1 에는 영속성 컨텍스트와 분리된 사본을 저장
+        Product product = objectMapper.readValue(json, Product.class); // 역직렬화
+        nearCache.put(key, product);
+        return product;
+    }
+
+    /**
+     * 상품 상세 캐시(L1, L2) 제거
+     * - 다른 인스턴스의 L1 은 pub/sub 무효화 메시지로 제거된다.
+     */
+    public void evictDetailCache(Long productId) {
+        String key = detailCacheKey(productId);
+        redisTemplate.delete(key);
+        nearCacheRegistry.invalidate(DETAIL_CACHE_NAME, key);
 
-        return productEntity;
+        Cache cache = cacheManager.getCache("product");
+        if (cache != null) {
+            cache.evict(CACHE_VERSION + ":detail:" + productId);
+        }
     }
 
-    @Transactional
-    public List<Product> getProductsByIdsWithLock(List<Long> productIds) {
+    private String detailCacheKey(Long productId) {
+        return "product:" + CACHE_VERSION + ":detail:" + productId;
+    }
+
+    public List<Product> getProductsByIds(List<Long> productIds) {
         // repository
-        return productRepository.findAllWithLock(productIds);
+        return productRepository.findAllById(productIds);
     }
 
+    /**
+     * 주문 상품의 재고 차감
+     * - 상품별 차감 수량을 CASE 로 묶어 한 번의 조건부 UPDATE 로 차감하고, 갱신된 행 수로 재고 부족을 판단한다.
+     * - 하나라도 부족하면 예외로 트랜잭션 전체가 롤백된다.
+     * - 조건부 UPDATE 자체가 row 락을 잡으므로 상품을 미리 비관적 락으로 읽지 않는다.
+     */
     @Transactional
     public void checkAndDecreaseStock(List<OrderItem> orderItems) {
-        for (OrderItem orderItem : orderItems) {
-            Product product = orderItem.getProduct();
-            product.decreaseStock(orderItem.getQuantity());
+        Map<Long, Integer> quantities = mergeQuantities(orderItems);
 
-            productRepository.save(product); // 재고 차감 후 저장
+        int decreased = productRepository.decreaseStocksIfEnough(quantities);
+        if (decreased != quantities.size()) {
+            throw new IllegalStateException("재고가 부족합니다.");
         }
+        publishStockChanged(orderItems);
     }
 
-    @Transactional
+    /**
+     * 좋아요 수 변경
+     * - 상품 row 를 직접 갱신하지 않고 증감분 이벤트만 발행하며, 커밋 후 버퍼에 누적된다.
+     * - 반환값은 반영 대기 중인 증감분을 포함한 좋아요 수이다.
+     * - 아래의 0 검사는 조회 시점 기준의 빠른 실패일 뿐이며, 0 하한은 DB 반영 시 UPDATE 안에서 보장된다.
+     */
     public Long updateLikeCount(Long productId, String likeType) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("Product not found with id: " + productId));
-
-        switch (likeType.toLowerCase()) {
-            case "like" -> product.increaseLikeCount();
-            case "unlike" -> product.decreaseLikeCount();
+        long delta = switch (likeType.toLowerCase()) {
+            case "like" -> 1L;
+            case "unlike" -> -1L;
             default -> throw new IllegalArgumentException("Invalid like type: " + likeType);
+        };
+
+        long likeCount = getLikeCount(productId) + delta;
+        if (likeCount < 0L) {
+            throw new IllegalStateException("Like count cannot be less than zero.");
         }
-        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new LikeCountChangedEvent(productId, delta));
 
-        return savedProduct.getLikeCount();
+        return likeCount;
+    }
+
+    public void bufferLikeCount(Long productId, long delta) {
+        likeCountBuffer.add(productId, delta);
+    }
+
+    /**
+     * 누적된 좋아요 수 증감분을 DB 에 일괄 반영하고 상품 캐시를 제거한다.
+     * - 꺼낸 증감분은 DB 에 커밋된 뒤에야 지우므로, 반영에 실패하거나 중단되면 다음 주기에 같은 flush id 로 다시 반영한다.
+     * - 이전에 끝나지 않은 반영이 남아 있으면 그것을 먼저 마치고, 이어서 지금까지 쌓인 증감분을 반영한다.
+     */
+    public void flushLikeCounts() {
+        for (int round = 0; round < LIKE_FLUSH_ROUNDS; round++) {
+            Optional<PendingLikeCountFlush> pending = likeCountBuffer.beginFlush();
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            Map<Long, Long> deltas = pending.get().deltas();
+            boolean applied = productRepository.addLikeCounts(pending.get().flushId(), deltas);
+            likeCountBuffer.completeFlush(pending.get().flushId());
+
+            if (!applied) {
+                log.warn("이미 반영된 좋아요 수 증감분을 건너뜀 - flushId: {}", pending.get().flushId());
+                continue;
+            }
+            productRepository.findBrandIdsByIds(deltas.keySet()).forEach((productId, brandId) ->
+                    eventPublisher.publishEvent(new ProductChangedEvent(
+                            productId, brandId, ProductChangedEvent.ChangeType.LIKE_COUNT)));
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 좋아요 수 반영 기록을 지운다.
+     * - 보관 기간은 중단된 반영이 다시 시도될 때까지 충분히 길어야 한다.
+     */
+    public void purgeLikeCountFlushRecords(Duration retention) {
+        int deleted = productRepository.deleteLikeCountFlushesBefore(ZonedDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("좋아요 수 반영 기록 정리 - {}건", deleted);
+        }
     }
 
     public Long getLikeCount(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found with id: " + productId));
 
-        return product.getLikeCount();
+        return Math.max(product.getLikeCount() + likeCountBuffer.getPendingDelta(productId), 0L);
+    }
+
+    /**
+     * 상품별 좋아요 수 (상품 PK 조회 + 반영 대기 증감분 일괄 조회, likes 테이블은 읽지 않는다)
+     * - 없는 상품은 0 으로 채운다.
+     */
+    public Map<Long, Long> getLikeCounts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> likeCounts = new HashMap<>(productRepository.findLikeCountsByIds(productIds));
+        likeCountBuffer.getPendingDeltas(productIds).forEach((productId, delta) ->
+                likeCounts.merge(productId, delta, Long::sum));
+        productIds.forEach(productId -> likeCounts.putIfAbsent(productId, 0L));
+        likeCounts.replaceAll((productId, likeCount) -> Math.max(likeCount, 0L));
+        return likeCounts;
+    }
+
+    /**
+     * 반영 대기 증감분이 없는 상품의 좋아요 수 (대조 대상)
+     * - 이 노드의 증감분을 먼저 Redis 로 옮겨, 노드 내에만 있는 증감분을 반영된 것으로 보지 않게 한다.
+     */
+    public Map<Long, Long> getSettledLikeCounts(List<Long> productIds) {
+        likeCountBuffer.flushLocal();
+        Map<Long, Long> likeCounts = new HashMap<>(productRepository.findLikeCountsByIds(productIds));
+        likeCounts.keySet().removeAll(likeCountBuffer.getPendingDeltas(productIds).keySet());
+        return likeCounts;
+    }
+
+    /**
+     * 대조 결과 어긋난 좋아요 수를 보정하고 상품 캐시를 제거한다.
+     * @return 그 사이 증감분이 반영되어 보정하지 않았으면 false
+     */
+    public boolean correctLikeCount(Long productId, long expected, long likeCount) {
+        if (!productRepository.updateLikeCountIfEquals(productId, expected, likeCount)) {
+            return false;
+        }
+
+        productRepository.findBrandIdsByIds(List.of(productId)).forEach((id, brandId) ->
+                eventPublisher.publishEvent(new ProductChangedEvent(
+                        id, brandId, ProductChangedEvent.ChangeType.LIKE_COUNT)));
+        return true;
+    }
+
+    public List<Long> getProductIdsAfter(Long cursor, int limit) {
+        return productRepository.findIdsAfter(cursor, limit);
     }
 
+    /**
+     * DB 에 아직 반영되지 않은 좋아요 수 증감분
+     */
+    public long getPendingLikeCount(Long productId) {
+        return likeCountBuffer.getPendingDelta(productId);
+    }
+
+    /**
+     * 주문 상품의 재고 복원 (차감과 같이 한 번의 UPDATE)
+     */
     @Transactional
-    public void restoreStock(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("Product not found with id: " + productId));
+    public void restoreStocks(List<OrderItem> orderItems) {
+        productRepository.increaseStocks(mergeQuantities(orderItems));
+        publishStockChanged(orderItems);
+    }
 
-        product.restoreStock(quantity);
+    private Map<Long, Integer> mergeQuantities(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItem orderItem : orderItems) {
+            if (orderItem.getQuantity() <= 0) {
+                throw new IllegalArgumentException("재고 수량은 0보다 커야 합니다.");
+            }
+            quantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
 
-        productRepository.save(product);
+    private void publishStockChanged(List<OrderItem> orderItems) {
+        orderItems.stream()
+                .map(OrderItem::getProduct)
+                .distinct()
+                .forEach(product -> eventPublisher.publishEvent(new ProductChangedEvent(
+                        product.getId(), product.getBrand().getId(), ProductChangedEvent.ChangeType.STOCK)));
     }
 
 }
@@ -0,0 +1,60 @@
+package com.loopers.domain.product;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 인덱스((brand_id, created_at), (brand_id, price), (brand_id, like_count))로 처리 가능한 목록 정렬
+ */
+public enum ProductSortType {
+
+    CREATED_AT_ASC("createdAt", Sort.Direction.ASC),
+    CREATED_AT_DESC("createdAt", Sort.Direction.DESC),
+    PRICE_ASC("price", Sort.Direction.ASC),
+    PRICE_DESC("price", Sort.Direction.DESC),
+    LIKE_COUNT_DESC("likeCount", Sort.Direction.DESC);
+
+
+    private final String property;
+    private final Sort.Direction direction;
+
+    ProductSortType(String property, Sort.Direction direction) {
+        this.property = property;
+        this.direction = direction;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, property);
+    }
+
+    /**
+     * 단일 정렬 조건만 매핑하며, 지원하지 않는 정렬은 empty
+     */
+    public static Optional<ProductSortType> from(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return Optional.of(CREATED_AT_DESC);
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return Optional.empty();
+        }
+
+        Sort.Order order = orders.get(0);
+        return Arrays.stream(values())
+                .filter(type -> type.property.equals(order.getProperty()) && type.direction == order.getDirection())
+                .findFirst();
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 목록 조회용 읽기 모델 (상품 + 브랜드 평탄화)
+ * - 엔티티와 분리되어 있어 캐시에 그대로 저장할 수 있다.
+ * - 목록 조회는 DTO 프로젝션으로 바로 생성하므로 영속성 컨텍스트에 엔티티가 적재되지 않는다.
+ */
+public record ProductSummary(
+        Long id,
+        String name,
+        String description,
+        String imageUrl,
+        int price,
+        Long likeCount,
+        Long brandId,
+        String brandName,
+        ZonedDateTime createdAt
+) {
+
+    public static ProductSummary from(Product product) {
+        return new ProductSummary(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getImageUrl(),
+                product.getPrice(),
+                product.getLikeCount(),
+                product.getBrand().getId(),
+                product.getBrand().getName(),
+                product.getCreatedAt()
+        );
+    }
+
+}
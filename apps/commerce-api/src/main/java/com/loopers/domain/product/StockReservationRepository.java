@@ -0,0 +1,56 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 재고 예약 저장소
+ * - 예약은 Redis 재고를 원자적으로 차감하고, DB 에 반영할 차감분을 함께 누적한다.
+ * - 차감분은 비동기로 DB 에 반영(write-through)되며, 반영 전까지 Redis 재고가 기준이 된다.
+ */
+public interface StockReservationRepository {
+
+    /**
+     * 모든 상품의 재고가 충분할 때만 한 번에 차감한다. (all-or-nothing)
+     */
+    StockReservationResult reserve(String reservationId, Map<Long, Integer> quantities);
+
+    /**
+     * Redis 에 재고가 없는 상품을 DB 재고(반영 대기 차감분 제외)로 초기화한다. 이미 있으면 무시한다.
+     */
+    void initialize(Long productId, int stock);
+
+    /**
+     * 예약을 취소하고 재고를 되돌린다. 이미 취소되었거나 없는 예약이면 false
+     */
+    boolean release(String reservationId);
+
+    /**
+     * DB 에 반영할 차감분을 꺼낸다. 다른 노드가 반영 중이면 empty
+     * - 이전 반영이 끝나지 않은 차감분이 남아 있으면 같은 flush id 로 그것부터 다시 꺼낸다.
+     * - 반영이 끝나면 {@link #completeFlush()}, 실패하면 {@link #abortFlush()} 를 호출해야 한다.
+     */
+    Optional<PendingStockFlush> beginFlush();
+
+    void completeFlush();
+
+    /**
+     * 락만 풀고 차감분은 남겨, 다음 주기에 같은 flush id 로 다시 반영한다.
+     * - 커밋 성공 여부를 알 수 없는 실패여도 flush id 기록으로 중복 반영이 걸러진다.
+     */
+    void abortFlush();
+
+    Collection<Long> findReservedProductIds();
+
+    /**
+     * 반영 대기 차감분이 없는 상품의 Redis 재고 (있으면 empty)
+     */
+    Optional<Long> findSettledStock(Long productId);
+
+    /**
+     * Redis 재고가 expected 그대로이고 반영 대기 차감분이 없을 때만 stock 으로 맞춘다.
+     */
+    boolean compareAndSetStock(Long productId, long expected, long stock);
+
+}
@@ -0,0 +1,25 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 재고 예약 결과
+ * - MISSING: Redis 에 재고가 초기화되지 않은 상품이 있어 예약하지 않음
+ * - INSUFFICIENT: 재고가 부족한 상품이 있어 예약하지 않음
+ */
+public record StockReservationResult(
+        Status status,
+        List<Long> productIds
+) {
+
+    public enum Status {
+        RESERVED,
+        MISSING,
+        INSUFFICIENT
+    }
+
+    public static StockReservationResult reserved() {
+        return new StockReservationResult(Status.RESERVED, List.of());
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.order.OrderItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 재고 예약
+ * - 주문 시 DB row 락 없이 Redis 에서 재고를 원자적으로 차감하고, 차감분은 주기적으로 DB 에 일괄 반영한다.
+ * - DB 가 원본이며, 반영 대기 차감분이 없는 상품은 주기적으로 DB 재고와 대조해 Redis 재고를 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 주문 상품의 재고를 한 번에 예약한다. 하나라도 부족하면 아무것도 차감하지 않는다.
+     * - 주문 트랜잭션이 롤백되면 {@link StockReservedEvent} 로 예약이 취소된다.
+     * @return 예약 ID
+     */
+    public String reserve(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItem orderItem : orderItems) {
+            quantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
+        }
+
+        String reservationId = UUID.randomUUID().toString();
+        StockReservationResult result = stockReservationRepository.reserve(reservationId, quantities);
+
+        if (result.status() == StockReservationResult.Status.MISSING) {
+            // 처음 예약되는 상품은 DB 재고로 초기화 후 다시 시도
+            productRepository.findAllById(result.productIds()).forEach(product ->
+                    stockReservationRepository.initialize(product.getId(), product.getStock()));
+            result = stockReservationRepository.reserve(reservationId, quantities);
+        }
+
+        switch (result.status()) {
+            case RESERVED -> eventPublisher.publishEvent(new StockReservedEvent(reservationId));
+            case INSUFFICIENT -> throw new IllegalStateException("재고가 부족합니다.");
+            case MISSING -> throw new IllegalArgumentException("Product not found: " + result.productIds());
+        }
+        return reservationId;
+    }
+
+    /**
+     * 예약을 취소하고 재고를 되돌린다. (멱등)
+     */
+    public boolean release(String reservationId) {
+        return stockReservationRepository.release(reservationId);
+    }
+
+    /**
+     * 예약으로 누적된 차감분을 DB 에 일괄 반영한다.
+     * - 반영에 실패하면 차감분을 남겨 다음 주기에 같은 flush id 로 다시 반영한다.
+     * - 반영 후 완료 전에 중단되었거나 락이 만료되어 다른 노드가 다시 꺼내도, DB 의 flush id 기록으로 한 번만 반영된다.
+     */
+    public void flush() {
+        Optional<PendingStockFlush> pending = stockReservationRepository.beginFlush();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> decreases = pending.get().decreases();
+        boolean applied;
+        try {
+            applied = productRepository.decreaseStocks(pending.get().flushId(), decreases);
+        } catch (RuntimeException e) {
+            stockReservationRepository.abortFlush();
+            throw e;
+        }
+        stockReservationRepository.completeFlush();
+
+        if (!applied) {
+            log.warn("이미 반영된 재고 차감분을 건너뜀 - flushId: {}", pending.get().flushId());
+            return;
+        }
+        productRepository.findBrandIdsByIds(decreases.keySet()).forEach((productId, brandId) ->
+                eventPublisher.publishEvent(new ProductChangedEvent(
+                        productId, brandId, ProductChangedEvent.ChangeType.STOCK)));
+    }
+
+    /**
+     * 보관 기간이 지난 재고 반영 기록을 지운다.
+     * - 보관 기간은 중단된 반영이 다시 시도될 때까지 충분히 길어야 한다. (락 유지 시간보다 훨씬 길게)
+     */
+    public void purgeFlushRecords(Duration retention) {
+        int deleted = productRepository.deleteStockFlushesBefore(ZonedDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("재고 반영 기록 정리 - {}건", deleted);
+        }
+    }
+
+    /**
+     * 반영 대기 차감분이 없는 상품의 Redis 재고를 DB 재고와 대조해 맞춘다.
+     * - 대조 중에 예약이 일어나면 Redis 재고가 바뀌므로 덮어쓰지 않는다.
+     */
+    public void reconcile() {
+        // Redis 재고를 먼저 읽어야, 이후 반영된 차감분이 있으면 비교 후 설정에서 걸러진다
+        Map<Long, Long> redisStocks = new HashMap<>();
+        for (Long productId : stockReservationRepository.findReservedProductIds()) {
+            stockReservationRepository.findSettledStock(productId)
+                    .ifPresent(stock -> redisStocks.put(productId, stock));
+        }
+        if (redisStocks.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> dbStocks = productRepository.findStocksByIds(redisStocks.keySet());
+        redisStocks.forEach((productId, redisStock) -> {
+            Integer dbStock = dbStocks.get(productId);
+            if (dbStock == null || redisStock == dbStock.longValue()) {
+                return;
+            }
+
+            if (stockReservationRepository.compareAndSetStock(productId, redisStock, dbStock)) {
+                log.warn("Redis 재고 불일치 보정 - productId: {}, redis: {}, db: {}", productId, redisStock, dbStock);
+            }
+        });
+    }
+
+}
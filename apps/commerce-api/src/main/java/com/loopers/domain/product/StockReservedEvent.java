@@ -0,0 +1,10 @@
+package com.loopers.domain.product;
+
+/**
+ * Redis 재고 예약 완료 이벤트
+ * - 주문 트랜잭션이 롤백되면 예약을 취소한다.
+ */
+public record StockReservedEvent(
+        String reservationId
+) {
+}
@@ -0,0 +1,64 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeCountReconcileLease;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 좋아요 수 대조 임대 (like:reconcile:lease, value: 임대 토큰)
+ * - 노드가 죽어도 lease-ttl 이 지나면 다른 노드가 이어받는다.
+ */
+@Component
+public class LikeCountReconcileLeaseImpl implements LikeCountReconcileLease {
+
+    private static final String LEASE_KEY = "like:reconcile:lease";
+
+    // 자신이 잡은 임대만 연장
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class
+    );
+
+    // 자신이 잡은 임대만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    @Value("${like.reconcile.lease-ttl:3m}") private Duration leaseTtl;
+
+    public LikeCountReconcileLeaseImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<String> acquire() {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, token, leaseTtl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    @Override
+    public boolean extend(String token) {
+        Long extended = redisTemplate.execute(
+                EXTEND_SCRIPT, List.of(LEASE_KEY), token, String.valueOf(leaseTtl.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
+    @Override
+    public void release(String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token);
+    }
+
+}
@@ -5,8 +5,11 @@ import com.loopers.domain.product.Product;
 import com.loopers.domain.user.User;
 import com.loopers.infrastructure.like.dto.LikeCountDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +36,23 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long> {
 
     Optional<Like> findByProductAndUser(Product product, User user);
 
+    @Query("""
+            SELECT l.product.id
+            FROM Like l
+            WHERE l.user.userId = :userId
+                AND l.likedYn = 'Y'
+        """)
+    List<Long> findLikedProductIds(String userId);
+
+    @Query("""
+            SELECT l.product.id
+            FROM Like l
+            WHERE l.user.userId = :userId
+                AND l.product.id IN :productIds
+                AND l.likedYn = 'Y'
+        """)
+    List<Long> findLikedProductIds(String userId, Collection<Long> productIds);
+
     @Query("""
             SELECT l
             FROM Like l
@@ -42,4 +62,36 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long> {
         """)
     List<Like> findByUserJoinProduct(User user);
 
+    /**
+     * 좋아요 row 를 배타 락으로 잡는다 (없으면 liked_yn = 'N' 으로 만든다)
+     * - 중복 키에서도 X 락을 잡으므로, 같은 사용자-상품의 동시 요청은 첫 문장에서 줄을 서고 뒤이은 UPDATE 와 교착되지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO likes (user_id, product_id, liked_yn, version, created_at, updated_at)
+            VALUES (:userId, :productId, 'N', 0, :now, :now)
+            ON DUPLICATE KEY UPDATE id = id
+        """, nativeQuery = true)
+    int lockOrCreateLike(Long userId, Long productId, ZonedDateTime now);
+
+    @Modifying
+    @Query(value = """
+            UPDATE likes
+            SET liked_yn = 'Y', version = version + 1, updated_at = :now
+            WHERE user_id = :userId
+                AND product_id = :productId
+                AND liked_yn = 'N'
+        """, nativeQuery = true)
+    int likeIfUnLiked(Long userId, Long productId, ZonedDateTime now);
+
+    @Modifying
+    @Query(value = """
+            UPDATE likes
+            SET liked_yn = 'N', version = version + 1, updated_at = :now
+            WHERE user_id = :userId
+                AND product_id = :productId
+                AND liked_yn = 'Y'
+        """, nativeQuery = true)
+    int unLikeIfLiked(Long userId, Long productId, ZonedDateTime now);
+
 }
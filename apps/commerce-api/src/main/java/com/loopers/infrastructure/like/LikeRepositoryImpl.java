@@ -7,7 +7,10 @@ import com.loopers.domain.user.User;
 import com.loopers.infrastructure.like.dto.LikeCountDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +35,31 @@ public class LikeRepositoryImpl implements LikeRepository {
         return likeJpaRepository.findByProductAndUser(product, user);
     }
 
+    @Override
+    public List<Long> findLikedProductIds(String userId) {
+        return likeJpaRepository.findLikedProductIds(userId);
+    }
+
+    @Override
+    public List<Long> findLikedProductIds(String userId, Collection<Long> productIds) {
+        return likeJpaRepository.findLikedProductIds(userId, productIds);
+    }
+
+    // 첫 문장(INSERT ... ON DUPLICATE KEY UPDATE)에서 row 를 배타 락으로 잡은 뒤, liked_yn = 'N' 일 때만 바꿔 상태가 바뀌었는지 판단한다
+    @Transactional
+    @Override
+    public boolean like(Long userId, Long productId) {
+        ZonedDateTime now = ZonedDateTime.now();
+        likeJpaRepository.lockOrCreateLike(userId, productId, now);
+        return likeJpaRepository.likeIfUnLiked(userId, productId, now) > 0;
+    }
+
+    @Transactional
+    @Override
+    public boolean unLike(Long userId, Long productId) {
+        return likeJpaRepository.unLikeIfLiked(userId, productId, ZonedDateTime.now()) > 0;
+    }
+
     @Override
     public Like save(Like like) {
         return likeJpaRepository.save(like);
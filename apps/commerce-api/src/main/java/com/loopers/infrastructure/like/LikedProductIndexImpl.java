@@ -0,0 +1,120 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikedProductIndex;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요 상품 색인 (Redis set)
+ * - 키: like:user:{userId} (member: productId)
+ * - 좋아요가 없는 사용자도 색인이 있음을 나타내도록 표식 member 를 함께 둔다. (빈 set 은 Redis 에 남지 않는다)
+ * - 좋아요 직후 조회에 바로 반영되어야 하므로 읽기/쓰기 모두 master 를 사용한다.
+ * - 좋아요 변경은 색인을 지우고 세대(like:user-generation:{userId})를 올린다. 세대가 바뀌었으면 진행 중이던 재생성은 버려진다.
+ * - 조회해도 만료 시간을 연장하지 않아, 무효화에 실패한 색인도 ttl 뒤에는 DB 에서 다시 만들어진다.
+ */
+@Component
+public class LikedProductIndexImpl implements LikedProductIndex {
+
+    private static final String KEY_PREFIX = "like:user:";
+    private static final String GENERATION_KEY_PREFIX = "like:user-generation:";
+    private static final String MARKER = "-";
+
+    // KEYS: index / ARGV: productId... / 색인이 없으면 빈 목록
+    private static final RedisScript<List> FIND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "return redis.call('SMISMEMBER', KEYS[1], unpack(ARGV))",
+            List.class
+    );
+
+    // KEYS: index, generation / ARGV: ttl(s), generation, marker, productId... / 세대가 바뀌었으면 0
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, 1000 do " +
+            "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    // KEYS: index, generation / ARGV: ttl(s)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "local generation = redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return generation",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    @Value("${like.index.ttl:1h}") private Duration ttl;
+
+    public LikedProductIndexImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Set<Long>> findLiked(String userId, Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        if (ids.isEmpty()) {
+            return Optional.of(Set.of());
+        }
+
+        Object[] args = ids.stream().map(String::valueOf).toArray();
+        List<Long> members = redisTemplate.execute(FIND_SCRIPT, List.of(KEY_PREFIX + userId), args);
+        if (members == null || members.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Long> liked = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (members.get(i) == 1L) {
+                liked.add(ids.get(i));
+            }
+        }
+        return Optional.of(liked);
+    }
+
+    @Override
+    public long generation(String userId) {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId);
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    @Override
+    public boolean rebuild(String userId, long generation, Collection<Long> likedProductIds) {
+        List<String> args = new ArrayList<>(likedProductIds.size() + 3);
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(String.valueOf(generation));
+        args.add(MARKER);
+        likedProductIds.forEach(productId -> args.add(String.valueOf(productId)));
+
+        Long rebuilt = redisTemplate.execute(REBUILD_SCRIPT, keys(userId), args.toArray());
+        return rebuilt != null && rebuilt == 1L;
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        redisTemplate.execute(INVALIDATE_SCRIPT, keys(userId), String.valueOf(ttl.toSeconds()));
+    }
+
+    private List<String> keys(String userId) {
+        return List.of(KEY_PREFIX + userId, GENERATION_KEY_PREFIX + userId);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+
+public interface PaymentCallbackInboxJpaRepository extends JpaRepository<PaymentCallbackInbox, Long> {
+
+}
@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.loopers.domain.payment.QPaymentCallbackInbox.paymentCallbackInbox;
+
+
+@RequiredArgsConstructor
+@Component
+public class PaymentCallbackInboxRepositoryImpl implements PaymentCallbackInboxRepository {
+
+    private final PaymentCallbackInboxJpaRepository paymentCallbackInboxJpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public PaymentCallbackInbox save(PaymentCallbackInbox inbox) {
+        return paymentCallbackInboxJpaRepository.save(inbox);
+    }
+
+    @Override
+    public List<PaymentCallbackInbox> findOldest(int limit) {
+        return queryFactory
+                .selectFrom(paymentCallbackInbox)
+                .orderBy(paymentCallbackInbox.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public void deleteAllByIds(Collection<Long> ids) {
+        queryFactory
+                .delete(paymentCallbackInbox)
+                .where(paymentCallbackInbox.id.in(ids))
+                .execute();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCompensation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+
+public interface PaymentCompensationJpaRepository extends JpaRepository<PaymentCompensation, Long> {
+
+    Optional<PaymentCompensation> findByOrderId(Long orderId);
+
+    /**
+     * 보상 등록 (affected rows - 새로 등록: 1, 이미 있음: 0)
+     * - 같은 주문을 동시에 등록해도 order_id 유니크 키 충돌은 무시되어 예외가 나지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO payment_compensation
+                (order_id, user_id, status, order_failed, stock_restored, coupon_restored, attempt_count, next_attempt_at, created_at, updated_at)
+            VALUES (:orderId, :userId, :status, false, false, false, 0, :now, :now, :now)
+        """, nativeQuery = true)
+    int insertIgnore(Long orderId, String userId, String status, ZonedDateTime now);
+
+}
@@ -0,0 +1,122 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCompensation;
+import com.loopers.domain.payment.PaymentCompensationRepository;
+import com.loopers.domain.payment.PaymentCompensationStatus;
+import com.loopers.domain.payment.PaymentCompensationStep;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.loopers.domain.payment.QPaymentCompensation.paymentCompensation;
+
+
+@RequiredArgsConstructor
+@Component
+public class PaymentCompensationRepositoryImpl implements PaymentCompensationRepository {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final PaymentCompensationJpaRepository paymentCompensationJpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    // 조회 후 저장하면 동시에 등록할 때 진 쪽이 유니크 키 예외로 결제 실패 트랜잭션까지 롤백시키므로, INSERT IGNORE 로 한 번에 처리한다
+    @Transactional
+    @Override
+    public boolean saveIfAbsent(PaymentCompensation compensation) {
+        int inserted = paymentCompensationJpaRepository.insertIgnore(
+                compensation.getOrderId(),
+                compensation.getUserId(),
+                compensation.getStatus().name(),
+                compensation.getNextAttemptAt()
+        );
+        return inserted == 1;
+    }
+
+    @Override
+    public Optional<PaymentCompensation> findByOrderId(Long orderId) {
+        return paymentCompensationJpaRepository.findByOrderId(orderId);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<PaymentCompensation> findDue(ZonedDateTime now, int limit) {
+        return queryFactory
+                .selectFrom(paymentCompensation)
+                .where(
+                        paymentCompensation.status.eq(PaymentCompensationStatus.PENDING),
+                        paymentCompensation.nextAttemptAt.loe(now)
+                )
+                .orderBy(paymentCompensation.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Transactional
+    @Override
+    public boolean claim(Long compensationId, ZonedDateTime now, ZonedDateTime claimUntil) {
+        long updated = queryFactory
+                .update(paymentCompensation)
+                .set(paymentCompensation.nextAttemptAt, claimUntil)
+                .set(paymentCompensation.attemptCount, paymentCompensation.attemptCount.add(1))
+                .set(paymentCompensation.updatedAt, now)
+                .where(
+                        paymentCompensation.id.eq(compensationId),
+                        paymentCompensation.status.eq(PaymentCompensationStatus.PENDING),
+                        paymentCompensation.nextAttemptAt.loe(now)
+                )
+                .execute();
+        return updated == 1L;
+    }
+
+    @Transactional
+    @Override
+    public boolean markStepDone(Long compensationId, PaymentCompensationStep step) {
+        BooleanPath done = switch (step) {
+            case ORDER -> paymentCompensation.orderFailed;
+            case STOCK -> paymentCompensation.stockRestored;
+            case COUPON -> paymentCompensation.couponRestored;
+        };
+
+        long updated = queryFactory
+                .update(paymentCompensation)
+                .set(done, true)
+                .set(paymentCompensation.updatedAt, ZonedDateTime.now())
+                .where(paymentCompensation.id.eq(compensationId), done.isFalse())
+                .execute();
+        return updated == 1L;
+    }
+
+    @Transactional
+    @Override
+    public void markDone(Long compensationId) {
+        queryFactory
+                .update(paymentCompensation)
+                .set(paymentCompensation.status, PaymentCompensationStatus.DONE)
+                .set(paymentCompensation.lastError, (String) null)
+                .set(paymentCompensation.updatedAt, ZonedDateTime.now())
+                .where(paymentCompensation.id.eq(compensationId))
+                .execute();
+    }
+
+    @Transactional
+    @Override
+    public void retryLater(Long compensationId, ZonedDateTime nextAttemptAt, boolean giveUp, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        queryFactory
+                .update(paymentCompensation)
+                .set(paymentCompensation.status, giveUp ? PaymentCompensationStatus.FAILED : PaymentCompensationStatus.PENDING)
+                .set(paymentCompensation.nextAttemptAt, nextAttemptAt)
+                .set(paymentCompensation.lastError, lastError)
+                .set(paymentCompensation.updatedAt, ZonedDateTime.now())
+                .where(paymentCompensation.id.eq(compensationId))
+                .execute();
+    }
+
+}
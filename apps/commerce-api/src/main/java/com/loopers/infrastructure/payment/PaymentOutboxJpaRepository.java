@@ -0,0 +1,9 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+
+public interface PaymentOutboxJpaRepository extends JpaRepository<PaymentOutbox, Long> {
+
+}
@@ -0,0 +1,119 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentOutbox;
+import com.loopers.domain.payment.PaymentOutboxRepository;
+import com.loopers.domain.payment.PaymentOutboxStatus;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static com.loopers.domain.payment.QPaymentOutbox.paymentOutbox;
+
+
+@RequiredArgsConstructor
+@Component
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+
+    private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public PaymentOutbox save(PaymentOutbox outbox) {
+        return paymentOutboxJpaRepository.save(outbox);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<PaymentOutbox> findDue(ZonedDateTime now, int maxAttempts, int limit) {
+        return queryFactory
+                .selectFrom(paymentOutbox)
+                .where(
+                        paymentOutbox.status.eq(PaymentOutboxStatus.PENDING),
+                        paymentOutbox.nextAttemptAt.loe(now),
+                        paymentOutbox.attemptCount.lt(maxAttempts)
+                )
+                .orderBy(paymentOutbox.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Transactional
+    @Override
+    public boolean claim(Long outboxId, ZonedDateTime now, ZonedDateTime claimUntil) {
+        long updated = queryFactory
+                .update(paymentOutbox)
+                .set(paymentOutbox.nextAttemptAt, claimUntil)
+                .set(paymentOutbox.attemptCount, paymentOutbox.attemptCount.add(1))
+                .set(paymentOutbox.updatedAt, now)
+                .where(
+                        paymentOutbox.id.eq(outboxId),
+                        paymentOutbox.status.eq(PaymentOutboxStatus.PENDING),
+                        paymentOutbox.nextAttemptAt.loe(now)
+                )
+                .execute();
+        return updated == 1L;
+    }
+
+    @Transactional
+    @Override
+    public void defer(Long outboxId, ZonedDateTime nextAttemptAt) {
+        queryFactory
+                .update(paymentOutbox)
+                .set(paymentOutbox.nextAttemptAt, nextAttemptAt)
+                .set(paymentOutbox.attemptCount, paymentOutbox.attemptCount.subtract(1))
+                .set(paymentOutbox.updatedAt, ZonedDateTime.now())
+                .where(
+                        paymentOutbox.id.eq(outboxId),
+                        paymentOutbox.status.eq(PaymentOutboxStatus.PENDING)
+                )
+                .execute();
+    }
+
+    @Transactional
+    @Override
+    public void markSent(Long outboxId) {
+        queryFactory
+                .update(paymentOutbox)
+                .set(paymentOutbox.status, PaymentOutboxStatus.SENT)
+                .set(paymentOutbox.updatedAt, ZonedDateTime.now())
+                .where(paymentOutbox.id.eq(outboxId))
+                .execute();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<PaymentOutbox> findExhausted(ZonedDateTime now, int maxAttempts, int limit) {
+        return queryFactory
+                .selectFrom(paymentOutbox)
+                .where(
+                        paymentOutbox.status.eq(PaymentOutboxStatus.PENDING),
+                        paymentOutbox.nextAttemptAt.loe(now),
+                        paymentOutbox.attemptCount.goe(maxAttempts)
+                )
+                .orderBy(paymentOutbox.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Transactional
+    @Override
+    public boolean markFailed(Long outboxId, ZonedDateTime now, int maxAttempts) {
+        long updated = queryFactory
+                .update(paymentOutbox)
+                .set(paymentOutbox.status, PaymentOutboxStatus.FAILED)
+                .set(paymentOutbox.updatedAt, now)
+                .where(
+                        paymentOutbox.id.eq(outboxId),
+                        paymentOutbox.status.eq(PaymentOutboxStatus.PENDING),
+                        paymentOutbox.nextAttemptAt.loe(now),
+                        paymentOutbox.attemptCount.goe(maxAttempts)
+                )
+                .execute();
+        return updated == 1L;
+    }
+
+}
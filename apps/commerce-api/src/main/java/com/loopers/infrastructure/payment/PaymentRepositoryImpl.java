@@ -1,20 +1,32 @@
 package com.loopers.infrastructure.payment;
 
+import com.loopers.application.payment.PaymentMethod;
 import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentCallback;
 import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.domain.payment.PendingPayment;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static com.loopers.domain.payment.QPayment.payment;
+
 
 @RequiredArgsConstructor
 @Component
 public class PaymentRepositoryImpl implements PaymentRepository {
 
     private final PaymentJpaRepository paymentJpaRepository;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public Payment save(Payment payment) {
@@ -22,17 +34,60 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     @Override
-    public Payment findByTransactionKeyAndOrderId(String transactionKey, Long orderId) {
-        return paymentJpaRepository.findByCardDetailTransactionKeyAndOrderId(transactionKey, orderId);
+    public Optional<Payment> findById(Long paymentId) {
+        return paymentJpaRepository.findById(paymentId);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<Payment> findByStatus(PaymentStatus status) {
-        return paymentJpaRepository.findByStatus(status);
+    public List<PendingPayment> findPendingCardPayments(int shard, int shardCount, Long lastId, int size) {
+        return queryFactory
+                .select(Projections.constructor(PendingPayment.class,
+                        payment.id,
+                        payment.cardDetail.transactionKey
+                ))
+                .from(payment)
+                .where(
+                        payment.status.eq(PaymentStatus.PENDING),
+                        payment.method.eq(PaymentMethod.CARD),
+                        payment.cardDetail.transactionKey.isNotNull(),
+                        payment.id.gt(lastId),
+                        payment.id.mod((long) shardCount).eq((long) shard)
+                )
+                .orderBy(payment.id.asc())
+                .limit(size)
+                .fetch();
     }
 
+    @Transactional
     @Override
-    public Optional<Payment> findById(Long paymentId) {
-        return paymentJpaRepository.findById(paymentId);
+    public boolean updateStatusIfPending(Long paymentId, PaymentStatus status, String reason) {
+        long updated = queryFactory
+                .update(payment)
+                .set(payment.status, status)
+                .set(payment.reason, reason)
+                .set(payment.updatedAt, ZonedDateTime.now())
+                .where(payment.id.eq(paymentId), payment.status.eq(PaymentStatus.PENDING))
+                .execute();
+        return updated == 1L;
+    }
+
+    @Transactional
+    @Override
+    public int updateStatusesIfPending(Collection<PaymentCallback> callbacks, PaymentStatus status, String reason) {
+        BooleanBuilder targets = new BooleanBuilder();
+        for (PaymentCallback callback : callbacks) {
+            targets.or(payment.cardDetail.transactionKey.eq(callback.transactionKey())
+                    .and(payment.orderId.eq(callback.orderId())));
+        }
+
+        long updated = queryFactory
+                .update(payment)
+                .set(payment.status, status)
+                .set(payment.reason, reason)
+                .set(payment.updatedAt, ZonedDateTime.now())
+                .where(targets, payment.status.eq(PaymentStatus.PENDING))
+                .execute();
+        return (int) updated;
     }
 }
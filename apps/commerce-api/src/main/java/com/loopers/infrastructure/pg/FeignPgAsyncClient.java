@@ -0,0 +1,42 @@
+package com.loopers.infrastructure.pg;
+
+import com.loopers.interfaces.api.ApiResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Feign {@link PgClient} 를 가상 스레드에서 호출하는 비동기 클라이언트 (pg.client.async=false)
+ * - 요청당 가상 스레드 하나를 점유하며, PgClient 를 대체하는 테스트 더블을 그대로 쓰기 위해 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pg.client.async", havingValue = "false")
+public class FeignPgAsyncClient implements PgAsyncClient {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final PgClient pgClient;
+
+    @Override
+    public CompletableFuture<ApiResponse<PgV1Dto.PgResponse>> callPayment(String userId, PgV1Dto.PgRequest request) {
+        return CompletableFuture.supplyAsync(() -> pgClient.callPayment(userId, request), executor);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PgV1Dto.PgDetailListResponse>> getPaymentDetails(List<String> transactionKeys) {
+        return CompletableFuture.supplyAsync(
+                () -> pgClient.getPaymentDetails(new PgV1Dto.PgDetailSearchRequest(transactionKeys)), executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+}
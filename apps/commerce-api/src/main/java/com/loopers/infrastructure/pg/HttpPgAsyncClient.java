@@ -0,0 +1,230 @@
+package com.loopers.infrastructure.pg;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.interfaces.api.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JDK HttpClient 기반 PG 비동기 클라이언트
+ * - HTTP/2 를 우선 시도하고, 지원하지 않으면 keep-alive 커넥션 풀을 쓰는 HTTP/1.1 로 동작한다.
+ * - PG 호스트로 동시에 보내는 요청 수를 max-connections 로 제한하고, 초과분은 스레드를 점유하지 않고 대기열에서 기다린다.
+ *   대기열도 가득 차면 즉시 실패시킨다.
+ * - 커넥션 풀 keep-alive 시간은 JVM 옵션 jdk.httpclient.keepalive.timeout 으로 정한다. (build.gradle.kts 참고)
+ * - 지표: pg.client.requests{uri, outcome}, pg.client.connections.active/pending, pg.client.rejected
+ */
+@Component
+@ConditionalOnProperty(name = "pg.client.async", havingValue = "true", matchIfMissing = true)
+public class HttpPgAsyncClient implements PgAsyncClient {
+
+    private static final String PAYMENTS_URI = "/api/v1/payments";
+    private static final String PAYMENT_SEARCH_URI = "/api/v1/payments/search";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final Duration pendingTimeout;
+
+    private final int maxConnections;
+    private final int maxPending;
+    private final Semaphore connections;
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter rejected;
+
+    public HttpPgAsyncClient(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${pg.url}") String baseUrl,
+            @Value("${pg.client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${pg.client.read-timeout:6s}") Duration readTimeout,
+            @Value("${pg.client.max-connections:100}") int maxConnections,
+            @Value("${pg.client.max-pending:1000}") int maxPending,
+            @Value("${pg.client.pending-timeout:3s}") Duration pendingTimeout
+    ) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl;
+        this.readTimeout = readTimeout;
+        this.pendingTimeout = pendingTimeout;
+        this.maxConnections = maxConnections;
+        this.maxPending = maxPending;
+        this.connections = new Semaphore(maxConnections);
+
+        Gauge.builder("pg.client.connections.active", () -> this.maxConnections - connections.availablePermits())
+                .description("PG 로 전송 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("pg.client.connections.pending", pending::get)
+                .description("동시 요청 한도로 대기 중인 요청 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("pg.client.rejected")
+                .description("대기열이 가득 차 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PgV1Dto.PgResponse>> callPayment(String userId, PgV1Dto.PgRequest request) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        HttpRequest httpRequest = requestBuilder(PAYMENTS_URI)
+                .header("X-USER-ID", userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return send(httpRequest, PAYMENTS_URI, PgV1Dto.PgResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PgV1Dto.PgDetailListResponse>> getPaymentDetails(List<String> transactionKeys) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(new PgV1Dto.PgDetailSearchRequest(transactionKeys));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        HttpRequest httpRequest = requestBuilder(PAYMENT_SEARCH_URI)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return send(httpRequest, PAYMENT_SEARCH_URI, PgV1Dto.PgDetailListResponse.class);
+    }
+
+    private HttpRequest.Builder requestBuilder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(readTimeout);
+    }
+
+    private <T> CompletableFuture<ApiResponse<T>> send(HttpRequest request, String uri, Class<T> dataType) {
+        JavaType responseType = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+
+        return acquire().thenCompose(ignored -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            CompletableFuture<HttpResponse<String>> response;
+            try {
+                response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+            } catch (RuntimeException e) {
+                release();
+                return CompletableFuture.failedFuture(e);
+            }
+            return response
+                    .whenComplete((response, e) -> {
+                        release();
+                        sample.stop(Timer.builder("pg.client.requests")
+                                .tag("uri", uri)
+                                .tag("outcome", outcome(response, e))
+                                .publishPercentileHistogram()
+                                .register(meterRegistry));
+                    })
+                    .thenApply(response -> this.<T>decode(response, responseType));
+        });
+    }
+
+    private <T> ApiResponse<T> decode(HttpResponse<String> response, JavaType responseType) {
+        if (response.statusCode() / 100 != 2) {
+            throw new PgClientException(response.statusCode(), response.body());
+        }
+        try {
+            return objectMapper.readValue(response.body(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("PG 응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private static String outcome(HttpResponse<String> response, Throwable e) {
+        if (e != null || response == null) {
+            return "ERROR";
+        }
+        return switch (response.statusCode() / 100) {
+            case 2 -> "SUCCESS";
+            case 4 -> "CLIENT_ERROR";
+            case 5 -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+
+    private CompletableFuture<Void> acquire() {
+        if (connections.tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            rejected.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("PG 요청 대기열이 가득 찼습니다."));
+        }
+
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        waiter.orTimeout(pendingTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, e) -> {
+                    // 대기 시간이 초과되면 대기열에서 빼서 max-pending 을 차지하지 않게 한다 (이미 drain 이 꺼냈다면 drain 이 센다)
+                    if (e != null && waiters.remove(waiter)) {
+                        pending.decrementAndGet();
+                    }
+                });
+        drain(); // 대기열에 넣는 사이 반납된 허가가 있으면 바로 넘겨준다
+        return waiter;
+    }
+
+    private void release() {
+        connections.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && connections.tryAcquire()) {
+            CompletableFuture<Void> waiter = waiters.poll();
+            if (waiter == null) {
+                connections.release();
+                return;
+            }
+            pending.decrementAndGet();
+            if (!waiter.complete(null)) {
+                connections.release(); // 대기 시간이 초과된 요청에 넘긴 허가는 돌려받는다
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.loopers.infrastructure.pg;
+
+import com.loopers.interfaces.api.ApiResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PG 비동기 클라이언트
+ * - 실패는 예외를 던지지 않고 실패한 future 로 반환한다. (resilience4j 가 future 결과로 재시도/차단을 판단한다)
+ */
+public interface PgAsyncClient {
+
+    CompletableFuture<ApiResponse<PgV1Dto.PgResponse>> callPayment(String userId, PgV1Dto.PgRequest request);
+
+    /**
+     * 여러 결제건의 상세 정보를 한 번에 조회한다. PG 에 없는 결제건은 결과에서 빠진다.
+     */
+    CompletableFuture<ApiResponse<PgV1Dto.PgDetailListResponse>> getPaymentDetails(List<String> transactionKeys);
+
+}
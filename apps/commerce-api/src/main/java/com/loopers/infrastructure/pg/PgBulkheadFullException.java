@@ -0,0 +1,13 @@
+package com.loopers.infrastructure.pg;
+
+/**
+ * PG 호출 동시 실행 한도를 넘어 호출하지 않은 경우
+ * - PG 에 요청이 가지 않았으므로 나중에 다시 보내도 안전하다.
+ */
+public class PgBulkheadFullException extends RuntimeException {
+
+    public PgBulkheadFullException(String name) {
+        super("PG bulkhead is full: " + name);
+    }
+
+}
@@ -24,6 +24,12 @@ public interface PgClient {
             @PathVariable String transactionKey
     );
 
+    // 결제 정보 일괄 확인 (가맹점 단위 조회)
+    @PostMapping("/api/v1/payments/search")
+    ApiResponse<PgV1Dto.PgDetailListResponse> getPaymentDetails(
+            @RequestBody PgV1Dto.PgDetailSearchRequest request
+    );
+
 
     // 주문에 엮인 결제 정보 조회
 
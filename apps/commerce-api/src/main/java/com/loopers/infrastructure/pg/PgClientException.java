@@ -0,0 +1,18 @@
+package com.loopers.infrastructure.pg;
+
+import lombok.Getter;
+
+/**
+ * PG 가 2xx 가 아닌 응답을 준 경우
+ */
+@Getter
+public class PgClientException extends RuntimeException {
+
+    private final int status;
+
+    public PgClientException(int status, String body) {
+        super("PG responded with status " + status + ": " + body);
+        this.status = status;
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.loopers.infrastructure.pg;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PG 호출 동시 실행 수를 응답 지연에 맞춰 조절하는 bulkhead (AIMD)
+ * - 한도 안에서 빠르게 응답하면 한도를 1/limit 씩 늘리고, 느리거나 타임아웃/5xx 로 실패하면 backoff-ratio 배로 줄인다.
+ * - 한도가 차면 기다리지 않고 {@link PgBulkheadFullException} 으로 즉시 실패한다.
+ * - 지표: pg.bulkhead.limit, pg.bulkhead.in-flight, pg.bulkhead.rejected (tag: name)
+ */
+public class PgConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final String name;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    public PgConcurrencyLimiter(
+            String name,
+            MeterRegistry meterRegistry,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            Duration latencyThreshold,
+            double backoffRatio
+    ) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("min-limit <= initial-limit <= max-limit 이어야 합니다.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoff-ratio 는 0 과 1 사이여야 합니다.");
+        }
+
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+
+        Gauge.builder("pg.bulkhead.limit", this, PgConcurrencyLimiter::getLimit)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("pg.bulkhead.in-flight", inFlight, AtomicInteger::get)
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("pg.bulkhead.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한도 안이면 호출하고, 결과가 나오면 응답 시간으로 한도를 조절한다.
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        int inFlightAtStart = tryAcquire();
+        if (inFlightAtStart == 0) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new PgBulkheadFullException(name));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+        return future.whenComplete((result, e) -> {
+            inFlight.decrementAndGet();
+            onComplete(System.nanoTime() - start, inFlightAtStart, e);
+        });
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // 성공하면 이 호출을 포함한 진행 중 호출 수, 한도가 찼으면 0
+    private int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private synchronized void onComplete(long elapsedNanos, int inFlightAtStart, Throwable e) {
+        if (isOverloaded(e) || elapsedNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (e == null && inFlightAtStart * 2 >= limit) {
+            // 한도를 절반 이상 쓰고 있을 때만 늘린다 (유휴 상태에서 한도가 무한히 커지지 않도록)
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    // 4xx 는 PG 부하와 무관하므로 한도를 줄이지 않는다
+    private boolean isOverloaded(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause == null) {
+            return false;
+        }
+        return !(cause instanceof PgClientException clientException) || clientException.getStatus() >= 500;
+    }
+
+}
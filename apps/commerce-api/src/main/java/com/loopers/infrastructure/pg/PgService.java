@@ -1,36 +1,65 @@
 package com.loopers.infrastructure.pg;
 
-import com.loopers.domain.payment.Payment;
-import com.loopers.domain.payment.PaymentStatus;
 import com.loopers.interfaces.api.ApiResponse;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PG 호출
+ * - 응답을 기다리는 동안 스레드를 점유하지 않도록 future 를 반환하며, 재시도/서킷브레이커도 future 결과 기준으로 동작한다.
+ * - 결제 요청과 상태 조회는 각각의 적응형 bulkhead 안에서 호출한다. 한도를 넘으면 {@link PgBulkheadFullException} 으로 즉시 실패한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class PgService {
 
-    private final PgClient pgClient;
+    private final PgAsyncClient pgAsyncClient;
+    private final PgConcurrencyLimiter requestLimiter;
+    private final PgConcurrencyLimiter detailLimiter;
+
+    public PgService(
+            PgAsyncClient pgAsyncClient,
+            MeterRegistry meterRegistry,
+            @Value("${pg.bulkhead.initial-limit:20}") int initialLimit,
+            @Value("${pg.bulkhead.min-limit:5}") int minLimit,
+            @Value("${pg.bulkhead.max-limit:100}") int maxLimit,
+            @Value("${pg.bulkhead.latency-threshold:2s}") Duration latencyThreshold,
+            @Value("${pg.bulkhead.backoff-ratio:0.9}") double backoffRatio
+    ) {
+        this.pgAsyncClient = pgAsyncClient;
+        this.requestLimiter = new PgConcurrencyLimiter(
+                "pgRequest", meterRegistry, initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio);
+        this.detailLimiter = new PgConcurrencyLimiter(
+                "pgDetail", meterRegistry, initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio);
+    }
 
     @Retry(name = "pgRequest")
     @CircuitBreaker(name = "pgRequest")
-    public ApiResponse<PgV1Dto.PgResponse> callPayment(String userId, PgV1Dto.PgRequest request) {
-        return pgClient.callPayment(userId, request);
+    public CompletableFuture<ApiResponse<PgV1Dto.PgResponse>> callPayment(String userId, PgV1Dto.PgRequest request) {
+        return requestLimiter.execute(() -> pgAsyncClient.callPayment(userId, request));
     }
 
-    @Retry(name = "pgDetail", fallbackMethod = "fallbackGetDetail")
-    public ApiResponse<PgV1Dto.PgDetailResponse> getPaymentDetail(Payment payment) {
-        return pgClient.getPaymentDetail(payment.getUserId(), payment.getCardDetail().getTransactionKey());
+    /**
+     * 여러 결제건의 PG 상태를 한 번에 조회한다.
+     * - 조회에 실패하면 빈 결과로 폴백해, 모든 결제가 PENDING 으로 남아 다음 동기화에서 다시 조회된다.
+     */
+    @Retry(name = "pgDetail", fallbackMethod = "fallbackGetDetails")
+    public CompletableFuture<List<PgV1Dto.PgDetailResponse>> getPaymentDetails(List<String> transactionKeys) {
+        return detailLimiter.execute(() -> pgAsyncClient.getPaymentDetails(transactionKeys))
+                .thenApply(response -> response.data().transactions());
     }
 
-    public ApiResponse<PgV1Dto.PgDetailResponse> fallbackGetDetail(Payment payment, Throwable t) {
-        return ApiResponse.success(PgV1Dto.PgDetailResponse.from(
-                payment,
-                PaymentStatus.PENDING,
-                t.getMessage() != null ? t.getMessage() : "pgDetail call failed"
-        ));
+    public CompletableFuture<List<PgV1Dto.PgDetailResponse>> fallbackGetDetails(List<String> transactionKeys, Throwable t) {
+        log.warn("PG 결제 상태 일괄 조회 실패 - {}건: {}", transactionKeys.size(), t.getMessage());
+        return CompletableFuture.completedFuture(List.of());
     }
 
 }
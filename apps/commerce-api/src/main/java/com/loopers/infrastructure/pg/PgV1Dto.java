@@ -4,14 +4,21 @@ import com.loopers.domain.payment.CardType;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentStatus;
 
+import java.util.List;
+
 public class PgV1Dto {
 
+    /**
+     * PG 결제 요청
+     * - idempotencyKey 는 결제마다 고정이므로, 응답을 받지 못해 다시 보내도 PG 는 처음 만든 결제건을 돌려준다.
+     */
     public record PgRequest(
             Long orderId,
             String cardType,
             String cardNo,
             int amount,
-            String callbackUrl
+            String callbackUrl,
+            String idempotencyKey
     ) {
         public static PgRequest from(Payment payment, String callbackUrl) {
             return new PgRequest(
@@ -19,7 +26,8 @@ public class PgV1Dto {
                     payment.getCardDetail().getCardType().toString(),
                     payment.getCardDetail().getCardNo(),
                     payment.getAmount(),
-                    callbackUrl
+                    callbackUrl,
+                    "payment-" + payment.getId()
             );
         }
     }
@@ -53,4 +61,14 @@ public class PgV1Dto {
         }
     }
 
+    public record PgDetailSearchRequest(
+            List<String> transactionKeys
+    ) {
+    }
+
+    public record PgDetailListResponse(
+            List<PgDetailResponse> transactions
+    ) {
+    }
+
 }
@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.product;
+
+import java.sql.SQLException;
+import java.util.function.Predicate;
+
+/**
+ * 교착 상태로 롤백된 경우만 재시도 대상으로 판단한다. (resilience4j retry-exception-predicate)
+ * - 락 대기 시간 초과는 재시도하지 않는다. 인기 상품에 대기가 몰린 상황이라 재시도하면 부하만 늘어난다.
+ * - MySQL deadlock: error code 1213, SQLState 40001
+ */
+public class DeadlockRetryPredicate implements Predicate<Throwable> {
+
+    private static final int MYSQL_DEADLOCK_ERROR_CODE = 1213;
+    private static final String DEADLOCK_SQL_STATE = "40001";
+
+    @Override
+    public boolean test(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == MYSQL_DEADLOCK_ERROR_CODE
+                    || DEADLOCK_SQL_STATE.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
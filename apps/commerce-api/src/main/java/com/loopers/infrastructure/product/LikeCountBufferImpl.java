@@ -0,0 +1,193 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.LikeCountBuffer;
+import com.loopers.domain.product.PendingLikeCountFlush;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요 수 증감분 버퍼 (노드 내 LongAdder + Redis 해시)
+ * - 요청 스레드는 노드 내 striped 카운터에만 더하므로 같은 상품에 대한 요청끼리 경합하지 않는다.
+ * - 반영 시 노드 내 증감분을 Redis 해시(HINCRBY)로 옮긴 뒤, 해시를 반영 중 키로 옮겨(RENAME) 꺼낸다.
+ *   반영 중 키는 DB 에 반영된 뒤에야 지우므로, 그 사이 중단되어도 다음 반영에서 같은 flush id 로 다시 꺼내진다.
+ * - 여러 노드가 같은 반영 중 증감분을 꺼내도 DB 의 flush id 기록으로 한 번만 반영되므로 별도 락을 두지 않는다.
+ * - 증감분은 캐시가 아닌 원본 데이터이므로 읽기/쓰기 모두 master 를 사용한다.
+ * - 키: like:pending-delta (field: productId), like:flushing-delta, like:flushing-id
+ */
+@Component
+public class LikeCountBufferImpl implements LikeCountBuffer {
+
+    private static final String PENDING_KEY = "like:pending-delta";
+    private static final String FLUSHING_KEY = "like:flushing-delta";
+    private static final String FLUSH_ID_KEY = "like:flushing-id";
+
+    // KEYS: pending, flushing / ARGV: productId... / 상품별 반영 대기 + 반영 중 증감분
+    private static final RedisScript<List> PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local deltas = {} " +
+            "for i = 1, #ARGV do " +
+            "  deltas[i] = tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0') " +
+            "      + tonumber(redis.call('HGET', KEYS[2], ARGV[i]) or '0') " +
+            "end " +
+            "return deltas",
+            List.class
+    );
+
+    // KEYS: pending, flushing, flush id / ARGV: 새 flush id
+    // 이전 반영이 끝나지 않아 flushing 이 남아 있으면 그것부터 같은 flush id 로 다시 꺼낸다
+    // 반환: {flush id, productId, 증감분, ...}
+    private static final RedisScript<List> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "  redis.call('SET', KEYS[3], ARGV[1]) " +
+            "end " +
+            "local flushId = redis.call('GET', KEYS[3]) " +
+            "if not flushId then flushId = ARGV[1] redis.call('SET', KEYS[3], flushId) end " +
+            "local entries = redis.call('HGETALL', KEYS[2]) " +
+            "table.insert(entries, 1, flushId) " +
+            "return entries",
+            List.class
+    );
+
+    // KEYS: flushing, flush id / ARGV: flush id
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final Map<Long, LongAdder> localDeltas = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public LikeCountBufferImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void add(Long productId, long delta) {
+        localDeltas.computeIfAbsent(productId, id -> new LongAdder()).add(delta);
+    }
+
+    @Override
+    public long getPendingDelta(Long productId) {
+        return getPendingDeltas(List.of(productId)).getOrDefault(productId, 0L);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> getPendingDeltas(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> remotes = redisTemplate.execute(
+                PENDING_SCRIPT,
+                List.of(PENDING_KEY, FLUSHING_KEY),
+                ids.stream().map(String::valueOf).toArray()
+        );
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            LongAdder local = localDeltas.get(ids.get(i));
+            long delta = (local != null ? local.sum() : 0L)
+                    + (remotes != null ? remotes.get(i) : 0L);
+            if (delta != 0) {
+                deltas.put(ids.get(i), delta);
+            }
+        }
+        return deltas;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<PendingLikeCountFlush> beginFlush() {
+        flushLocal();
+
+        List<String> entries = redisTemplate.execute(
+                BEGIN_FLUSH_SCRIPT,
+                List.of(PENDING_KEY, FLUSHING_KEY, FLUSH_ID_KEY),
+                UUID.randomUUID().toString()
+        );
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (int i = 1; i + 1 < entries.size(); i += 2) {
+            long delta = Long.parseLong(entries.get(i + 1));
+            if (delta != 0) {
+                deltas.put(Long.valueOf(entries.get(i)), delta);
+            }
+        }
+
+        // 좋아요 후 취소되어 상쇄된 증감분만 있으면 반영할 것이 없다
+        if (deltas.isEmpty()) {
+            completeFlush(entries.get(0));
+            return Optional.empty();
+        }
+        return Optional.of(new PendingLikeCountFlush(entries.get(0), deltas));
+    }
+
+    @Override
+    public void completeFlush(String flushId) {
+        redisTemplate.execute(COMPLETE_FLUSH_SCRIPT, List.of(FLUSHING_KEY, FLUSH_ID_KEY), flushId);
+    }
+
+    /**
+     * 노드 내 증감분을 Redis 로 옮긴다.
+     * - sumThenReset 은 동시에 더해진 값을 잃을 수 있으므로 읽은 값만큼 빼서 비운다.
+     */
+    @Override
+    public void flushLocal() {
+        Map<Long, Long> deltas = new HashMap<>();
+        localDeltas.forEach((productId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                deltas.put(productId, delta);
+            }
+        });
+
+        try {
+            incrementAll(deltas);
+        } catch (RuntimeException e) {
+            // Redis 반영 실패 시 다음 주기에 다시 시도하도록 노드 내 버퍼로 되돌린다
+            deltas.forEach(this::add);
+            throw e;
+        }
+    }
+
+    private void incrementAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        byte[] key = PENDING_KEY.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((productId, delta) -> connection.hashCommands().hIncrBy(
+                    key,
+                    String.valueOf(productId).getBytes(StandardCharsets.UTF_8),
+                    delta
+            ));
+            return null;
+        });
+    }
+
+}
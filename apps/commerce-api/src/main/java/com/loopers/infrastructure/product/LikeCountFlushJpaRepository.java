@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.LikeCountFlush;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.ZonedDateTime;
+
+
+public interface LikeCountFlushJpaRepository extends JpaRepository<LikeCountFlush, Long> {
+
+    /**
+     * 반영 기록 (affected rows - 처음 기록: 1, 이미 기록됨: 0)
+     * - 같은 flush id 를 동시에 기록하면 먼저 기록한 트랜잭션이 끝날 때까지 유니크 키에서 대기한다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO like_count_flushes (flush_id, created_at, updated_at)
+            VALUES (:flushId, :now, :now)
+        """, nativeQuery = true)
+    int insertIgnore(String flushId, ZonedDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM LikeCountFlush f WHERE f.createdAt < :before")
+    int deleteCreatedBefore(ZonedDateTime before);
+
+}
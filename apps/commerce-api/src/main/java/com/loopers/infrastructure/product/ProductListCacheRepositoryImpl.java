@@ -0,0 +1,134 @@
+package com.loopers.infrastructure.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.product.ProductListCacheRepository;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.ProductSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 상품 목록 캐시
+ * - 페이지: product:{version}:list:{brandId|all}:{sort}:{page}:{size}
+ * - 전체 개수: product:{version}:count:{brandId|all}
+ * - 브랜드별 페이지 키 목록: product:{version}:list-keys:{brandId|all} (일괄 제거용)
+ * - 재적재 대상: product:{version}:list-dirty
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductListCacheRepositoryImpl implements ProductListCacheRepository {
+
+    private static final String ALL = "all";
+    private static final TypeReference<List<ProductSummary>> CONTENTS_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    @Value("${cache.version.product}") private String cacheVersion;
+    @Value("${cache.ttl.product-list:5m}") private Duration pageTtl;
+    @Value("${cache.ttl.product-count:10m}") private Duration countTtl;
+
+    @Override
+    public Optional<List<ProductSummary>> findPage(Long brandId, ProductSortType sortType, int page, int size) {
+        String json = redisTemplate.opsForValue().get(pageKey(brandId, sortType, page, size));
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(json, CONTENTS_TYPE));
+        } catch (JsonProcessingException e) {
+            // 스키마가 바뀐 캐시는 미스로 처리 (버전 갱신 누락 대비)
+            log.warn("상품 목록 캐시 역직렬화 실패 - brandId: {}, sort: {}, page: {}", brandId, sortType, page, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void savePage(Long brandId, ProductSortType sortType, int page, int size, List<ProductSummary> contents) {
+        String key = pageKey(brandId, sortType, page, size);
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(contents), pageTtl);
+            redisTemplate.opsForSet().add(indexKey(brandId), key);
+            redisTemplate.expire(indexKey(brandId), pageTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 목록 캐시 직렬화 실패 - brandId: {}, sort: {}, page: {}", brandId, sortType, page, e);
+        }
+    }
+
+    @Override
+    public boolean existsPage(Long brandId, ProductSortType sortType, int page, int size) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(pageKey(brandId, sortType, page, size)));
+    }
+
+    @Override
+    public Optional<Long> findTotalCount(Long brandId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(countKey(brandId)))
+                .map(Long::valueOf);
+    }
+
+    @Override
+    public void saveTotalCount(Long brandId, long totalCount) {
+        redisTemplate.opsForValue().set(countKey(brandId), String.valueOf(totalCount), countTtl);
+    }
+
+    @Override
+    public void evictPages(Long brandId) {
+        String indexKey = indexKey(brandId);
+        Set<String> keys = redisTemplate.opsForSet().members(indexKey);
+
+        List<String> targets = new ArrayList<>();
+        targets.add(indexKey);
+        if (keys != null) {
+            targets.addAll(keys);
+        }
+        redisTemplate.delete(targets);
+        redisTemplate.opsForSet().add(dirtyKey(), brandToken(brandId));
+    }
+
+    @Override
+    public List<Long> popDirtyBrands() {
+        List<String> tokens = redisTemplate.opsForSet().pop(dirtyKey(), 100);
+        if (tokens == null) {
+            return List.of();
+        }
+
+        List<Long> brandIds = new ArrayList<>();
+        for (String token : tokens) {
+            brandIds.add(ALL.equals(token) ? null : Long.valueOf(token));
+        }
+        return brandIds;
+    }
+
+    private String pageKey(Long brandId, ProductSortType sortType, int page, int size) {
+        return "product:" + cacheVersion + ":list:" + brandToken(brandId) + ":" + sortType.name() + ":" + page + ":" + size;
+    }
+
+    private String countKey(Long brandId) {
+        return "product:" + cacheVersion + ":count:" + brandToken(brandId);
+    }
+
+    private String indexKey(Long brandId) {
+        return "product:" + cacheVersion + ":list-keys:" + brandToken(brandId);
+    }
+
+    private String dirtyKey() {
+        return "product:" + cacheVersion + ":list-dirty";
+    }
+
+    private String brandToken(Long brandId) {
+        return brandId == null ? ALL : String.valueOf(brandId);
+    }
+
+}
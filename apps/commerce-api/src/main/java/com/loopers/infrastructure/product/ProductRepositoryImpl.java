@@ -1,20 +1,49 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSearchCondition;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.ProductSummary;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.loopers.domain.brand.QBrand.brand;
+import static com.loopers.domain.product.QProduct.product;
 
 @RequiredArgsConstructor
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
+    private final StockFlushJpaRepository stockFlushJpaRepository;
+    private final LikeCountFlushJpaRepository likeCountFlushJpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Page<Product> findByCondition(ProductSearchCondition condition) {
@@ -28,6 +57,123 @@ public class ProductRepositoryImpl implements ProductRepository {
         }
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Page<ProductSummary> findSummariesByCondition(ProductSearchCondition condition) {
+        List<ProductSummary> contents = findSummaryContentsByCondition(condition);
+        return PageableExecutionUtils.getPage(
+                contents,
+                condition.pageable(),
+                () -> countByBrandId(condition.brandId())
+        );
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ProductSummary> findSummaryContentsByCondition(ProductSearchCondition condition) {
+        Pageable pageable = condition.pageable();
+        return selectSummary()
+                .where(brandIdEq(condition.brandId()))
+                .orderBy(orderBy(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public long countByBrandId(Long brandId) {
+        if (brandId != null) {
+            return productJpaRepository.countByBrandId(brandId);
+        } else {
+            return productJpaRepository.count();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ProductSummary> findByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int limit) {
+        return selectSummary()
+                .where(
+                        brandIdEq(brandId),
+                        afterCursor(sortType, cursor)
+                )
+                .orderBy(orderBy(sortType))
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 상품 + 브랜드를 평탄화한 읽기 모델로 조회한다.
+     * - DTO 프로젝션이므로 엔티티/스냅샷이 생성되지 않는다.
+     */
+    private JPAQuery<ProductSummary> selectSummary() {
+        return queryFactory
+                .select(Projections.constructor(ProductSummary.class,
+                        product.id,
+                        product.name,
+                        product.description,
+                        product.imageUrl,
+                        product.price,
+                        product.likeCount,
+                        brand.id,
+                        brand.name,
+                        product.createdAt
+                ))
+                .from(product)
+                .join(product.brand, brand);
+    }
+
+    private BooleanExpression brandIdEq(Long brandId) {
+        return brandId != null ? product.brand.id.eq(brandId) : null;
+    }
+
+    /**
+     * (정렬 키, id) 기준 seek 조건
+     * - 정렬 키가 같은 상품은 id 로 순서를 정해 중복/누락 없이 이어서 조회한다.
+     */
+    private BooleanExpression afterCursor(ProductSortType sortType, ProductCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        boolean desc = sortType.getDirection().isDescending();
+        BooleanExpression idAfter = desc ? product.id.lt(cursor.id()) : product.id.gt(cursor.id());
+
+        return switch (sortType) {
+            case CREATED_AT_ASC -> product.createdAt.gt(cursor.createdAtValue())
+                    .or(product.createdAt.eq(cursor.createdAtValue()).and(idAfter));
+            case CREATED_AT_DESC -> product.createdAt.lt(cursor.createdAtValue())
+                    .or(product.createdAt.eq(cursor.createdAtValue()).and(idAfter));
+            case PRICE_ASC -> product.price.gt(cursor.priceValue())
+                    .or(product.price.eq(cursor.priceValue()).and(idAfter));
+            case PRICE_DESC -> product.price.lt(cursor.priceValue())
+                    .or(product.price.eq(cursor.priceValue()).and(idAfter));
+            case LIKE_COUNT_DESC -> product.likeCount.lt(cursor.likeCountValue())
+                    .or(product.likeCount.eq(cursor.likeCountValue()).and(idAfter));
+        };
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] orderBy(Sort sort) {
+        PathBuilder<Product> path = new PathBuilder<>(Product.class, product.getMetadata());
+        return sort.stream()
+                .map(order -> new OrderSpecifier(
+                        order.isAscending() ? Order.ASC : Order.DESC,
+                        path.get(order.getProperty())
+                ))
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    private OrderSpecifier<?>[] orderBy(ProductSortType sortType) {
+        return switch (sortType) {
+            case CREATED_AT_ASC -> new OrderSpecifier<?>[]{product.createdAt.asc(), product.id.asc()};
+            case CREATED_AT_DESC -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.desc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.asc(), product.id.asc()};
+            case PRICE_DESC -> new OrderSpecifier<?>[]{product.price.desc(), product.id.desc()};
+            case LIKE_COUNT_DESC -> new OrderSpecifier<?>[]{product.likeCount.desc(), product.id.desc()};
+        };
+    }
+
     @Override
     public Optional<Product> findById(Long productId) {
         return productJpaRepository.findById(productId);
@@ -48,11 +194,6 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findAllById(productIds);
     }
 
-    @Override
-    public List<Product> findAllWithLock(List<Long> productIds) {
-        return productJpaRepository.findAllWithLock(productIds);
-    }
-
     @Override
     public Product save(Product product) {
         return productJpaRepository.save(product);
@@ -63,4 +204,199 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findAll();
     }
 
+    /**
+     * 엔티티를 거치지 않는 UPDATE 이므로 version 을 직접 올려,
+     * 같은 상품을 엔티티로 수정하던 트랜잭션이 이전 좋아요 수로 덮어쓰지 않도록 한다.
+     * - 동시 취소로 증감분 합이 현재 값보다 작아져도 0 아래로 내려가지 않도록 UPDATE 안에서 하한을 건다.
+     * - flush id 기록과 반영을 한 트랜잭션으로 묶어, 두 노드가 같은 증감분을 꺼내도 뒤의 노드는 유니크 키에서 대기한 뒤 건너뛴다.
+     */
+    @Transactional
+    @Override
+    public boolean addLikeCounts(String flushId, Map<Long, Long> deltas) {
+        ZonedDateTime now = ZonedDateTime.now();
+        if (likeCountFlushJpaRepository.insertIgnore(flushId, now) == 0) {
+            return false;
+        }
+
+        groupByValue(deltas).forEach((delta, productIds) -> queryFactory
+                .update(product)
+                .set(product.likeCount, new CaseBuilder()
+                        .when(product.likeCount.add(delta).lt(0L)).then(0L)
+                        .otherwise(product.likeCount.add(delta)))
+                .set(product.version, product.version.add(1L))
+                .set(product.updatedAt, now)
+                .where(product.id.in(productIds))
+                .execute());
+        return true;
+    }
+
+    @Transactional
+    @Override
+    public int deleteLikeCountFlushesBefore(ZonedDateTime before) {
+        return likeCountFlushJpaRepository.deleteCreatedBefore(before);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<Long, Long> findBrandIdsByIds(Collection<Long> productIds) {
+        return queryFactory
+                .select(product.id, product.brand.id)
+                .from(product)
+                .where(product.id.in(productIds))
+                .fetch().stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(product.id),
+                        tuple -> tuple.get(product.brand.id)
+                ));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<Long, Long> findLikeCountsByIds(Collection<Long> productIds) {
+        return queryFactory
+                .select(product.id, product.likeCount)
+                .from(product)
+                .where(product.id.in(productIds))
+                .fetch().stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(product.id),
+                        tuple -> tuple.get(product.likeCount)
+                ));
+    }
+
+    @Transactional
+    @Override
+    public boolean updateLikeCountIfEquals(Long productId, long expected, long likeCount) {
+        long updated = queryFactory
+                .update(product)
+                .set(product.likeCount, likeCount)
+                .set(product.version, product.version.add(1L))
+                .set(product.updatedAt, ZonedDateTime.now())
+                .where(product.id.eq(productId), product.likeCount.eq(expected))
+                .execute();
+        return updated == 1L;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Long> findIdsAfter(Long cursor, int limit) {
+        return queryFactory
+                .select(product.id)
+                .from(product)
+                .where(product.id.gt(cursor))
+                .orderBy(product.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * flush id 기록과 차감을 한 트랜잭션으로 묶는다.
+     * - 락이 만료되어 두 노드가 같은 차감분을 반영하더라도, 뒤의 노드는 유니크 키에서 대기한 뒤 기록에 실패해 건너뛴다.
+     */
+    @Transactional
+    @Override
+    public boolean decreaseStocks(String flushId, Map<Long, Long> quantities) {
+        ZonedDateTime now = ZonedDateTime.now();
+        if (stockFlushJpaRepository.insertIgnore(flushId, now) == 0) {
+            return false;
+        }
+
+        groupByValue(quantities).forEach((quantity, productIds) -> queryFactory
+                .update(product)
+                .set(product.stock, product.stock.subtract(quantity.intValue()))
+                .set(product.version, product.version.add(1L))
+                .set(product.updatedAt, now)
+                .where(product.id.in(productIds))
+                .execute());
+        return true;
+    }
+
+    @Transactional
+    @Override
+    public int deleteStockFlushesBefore(ZonedDateTime before) {
+        return stockFlushJpaRepository.deleteCreatedBefore(before);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<Long, Integer> findStocksByIds(Collection<Long> productIds) {
+        return queryFactory
+                .select(product.id, product.stock)
+                .from(product)
+                .where(product.id.in(productIds))
+                .fetch().stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(product.id),
+                        tuple -> tuple.get(product.stock)
+                ));
+    }
+
+    @Transactional
+    @Override
+    public int decreaseStocksIfEnough(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+
+        NumberExpression<Integer> quantity = quantityOf(quantities);
+        int decreased = (int) queryFactory
+                .update(product)
+                .set(product.stock, product.stock.subtract(quantity))
+                .set(product.version, product.version.add(1L))
+                .set(product.updatedAt, ZonedDateTime.now())
+                .where(product.id.in(quantities.keySet()), product.stock.goe(quantity))
+                .execute();
+        refreshLoaded(quantities.keySet());
+        return decreased;
+    }
+
+    @Transactional
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        queryFactory
+                .update(product)
+                .set(product.stock, product.stock.add(quantityOf(quantities)))
+                .set(product.version, product.version.add(1L))
+                .set(product.updatedAt, ZonedDateTime.now())
+                .where(product.id.in(quantities.keySet()))
+                .execute();
+        refreshLoaded(quantities.keySet());
+    }
+
+    // CASE WHEN id = ? THEN ? ... ELSE 0 END
+    private static NumberExpression<Integer> quantityOf(Map<Long, Integer> quantities) {
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            cases = cases == null
+                    ? new CaseBuilder().when(product.id.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(product.id.eq(entry.getKey())).then(entry.getValue());
+        }
+        return cases.otherwise(0);
+    }
+
+    /**
+     * 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 이미 읽어 둔 상품은 다시 읽어
+     * 바뀐 재고와 version 을 맞춘다. (읽어 두지 않은 상품은 조회하지 않는다)
+     */
+    private void refreshLoaded(Collection<Long> productIds) {
+        productIds.forEach(productId -> {
+            Product loaded = entityManager.getReference(Product.class, productId);
+            if (Hibernate.isInitialized(loaded)) {
+                entityManager.refresh(loaded);
+            }
+        });
+    }
+
+    private static Map<Long, List<Long>> groupByValue(Map<Long, Long> values) {
+        return values.entrySet().stream()
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+                ));
+    }
+
 }
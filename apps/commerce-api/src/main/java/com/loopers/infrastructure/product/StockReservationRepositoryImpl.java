@@ -0,0 +1,267 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.PendingStockFlush;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.domain.product.StockReservationResult;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis 재고 예약 저장소
+ * - 재고: stock:available:{productId}
+ * - 예약 내역: stock:reservation:{reservationId} (field: productId, value: 수량)
+ * - DB 반영 대기 차감분: stock:pending-decrease (field: productId, 음수면 복원)
+ * - DB 반영 중 차감분: stock:flushing-decrease (한 노드만 반영하도록 stock:flush-lock 으로 보호)
+ * - DB 반영 중 차감분의 flush id: stock:flushing-id (DB 에 함께 기록되어 중복 반영을 막는다)
+ * - 초기화된 상품 목록: stock:products (정합성 점검 대상)
+ */
+@Component
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+
+    private static final String STOCK_PREFIX = "stock:available:";
+    private static final String RESERVATION_PREFIX = "stock:reservation:";
+    private static final String PENDING_KEY = "stock:pending-decrease";
+    private static final String FLUSHING_KEY = "stock:flushing-decrease";
+    private static final String FLUSH_LOCK_KEY = "stock:flush-lock";
+    private static final String FLUSH_ID_KEY = "stock:flushing-id";
+    private static final String PRODUCTS_KEY = "stock:products";
+
+    // KEYS: pending, reservation, stock... / ARGV: ttl(s), (productId, quantity)...
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS - 2 " +
+            "local missing = {} " +
+            "for i = 1, n do " +
+            "  if redis.call('EXISTS', KEYS[i + 2]) == 0 then missing[#missing + 1] = ARGV[i * 2] end " +
+            "end " +
+            "if #missing > 0 then table.insert(missing, 1, 'MISSING') return missing end " +
+            "for i = 1, n do " +
+            "  if tonumber(redis.call('GET', KEYS[i + 2])) < tonumber(ARGV[i * 2 + 1]) then " +
+            "    return {'INSUFFICIENT', ARGV[i * 2]} " +
+            "  end " +
+            "end " +
+            "for i = 1, n do " +
+            "  redis.call('DECRBY', KEYS[i + 2], ARGV[i * 2 + 1]) " +
+            "  redis.call('HINCRBY', KEYS[1], ARGV[i * 2], ARGV[i * 2 + 1]) " +
+            "  redis.call('HSET', KEYS[2], ARGV[i * 2], ARGV[i * 2 + 1]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return {'RESERVED'}",
+            List.class
+    );
+
+    // KEYS: stock, pending, flushing, products / ARGV: DB 재고, productId
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0') " +
+            "local flushing = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0') " +
+            "redis.call('SET', KEYS[1], tonumber(ARGV[1]) - pending - flushing) " +
+            "redis.call('SADD', KEYS[4], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    // KEYS: pending, reservation / ARGV: 재고 키 prefix
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[2]) " +
+            "if #entries == 0 then return 0 end " +
+            "for i = 1, #entries, 2 do " +
+            "  redis.call('INCRBY', ARGV[1] .. entries[i], entries[i + 1]) " +
+            "  redis.call('HINCRBY', KEYS[1], entries[i], -tonumber(entries[i + 1])) " +
+            "end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    // KEYS: pending, flushing, lock, flush id / ARGV: token, 락 유지 시간(ms), 새 flush id
+    // 이전 반영이 중단되어 flushing 이 남아 있으면 그것부터 같은 flush id 로 다시 반영한다
+    // 반환: {flush id, productId, 수량, ...}
+    private static final RedisScript<List> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then return {} end " +
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('DEL', KEYS[3]) return {} end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "  redis.call('SET', KEYS[4], ARGV[3]) " +
+            "end " +
+            "local flushId = redis.call('GET', KEYS[4]) " +
+            "if not flushId then flushId = ARGV[3] redis.call('SET', KEYS[4], flushId) end " +
+            "local entries = redis.call('HGETALL', KEYS[2]) " +
+            "table.insert(entries, 1, flushId) " +
+            "return entries",
+            List.class
+    );
+
+    // KEYS: flushing, lock, flush id / ARGV: token
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1], KEYS[2], KEYS[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    // KEYS: lock / ARGV: token
+    private static final RedisScript<Long> ABORT_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    // KEYS: stock, pending, flushing / ARGV: productId
+    private static final RedisScript<String> SETTLED_STOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 or redis.call('HEXISTS', KEYS[3], ARGV[1]) == 1 then " +
+            "  return false " +
+            "end " +
+            "return redis.call('GET', KEYS[1])",
+            String.class
+    );
+
+    // KEYS: stock, pending, flushing / ARGV: productId, expected, stock
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 or redis.call('HEXISTS', KEYS[3], ARGV[1]) == 1 then " +
+            "  return 0 " +
+            "end " +
+            "if redis.call('GET', KEYS[1]) ~= ARGV[2] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String flushToken = UUID.randomUUID().toString();
+    @Value("${stock.reservation.record-ttl:7d}") private Duration recordTtl;
+    @Value("${stock.reservation.flush-lock-timeout:30s}") private Duration flushLockTimeout;
+
+    public StockReservationRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public StockReservationResult reserve(String reservationId, Map<Long, Integer> quantities) {
+        List<String> keys = new ArrayList<>();
+        keys.add(PENDING_KEY);
+        keys.add(RESERVATION_PREFIX + reservationId);
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(recordTtl.toSeconds()));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(STOCK_PREFIX + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+
+        List<String> result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("재고 예약 결과를 확인할 수 없습니다.");
+        }
+
+        StockReservationResult.Status status = StockReservationResult.Status.valueOf(result.get(0));
+        List<Long> productIds = result.subList(1, result.size()).stream()
+                .map(Long::valueOf)
+                .toList();
+        return new StockReservationResult(status, productIds);
+    }
+
+    @Override
+    public void initialize(Long productId, int stock) {
+        redisTemplate.execute(
+                INITIALIZE_SCRIPT,
+                List.of(STOCK_PREFIX + productId, PENDING_KEY, FLUSHING_KEY, PRODUCTS_KEY),
+                String.valueOf(stock), String.valueOf(productId)
+        );
+    }
+
+    @Override
+    public boolean release(String reservationId) {
+        Long released = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(PENDING_KEY, RESERVATION_PREFIX + reservationId),
+                STOCK_PREFIX
+        );
+        return released != null && released == 1L;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<PendingStockFlush> beginFlush() {
+        List<String> entries = redisTemplate.execute(
+                BEGIN_FLUSH_SCRIPT,
+                List.of(PENDING_KEY, FLUSHING_KEY, FLUSH_LOCK_KEY, FLUSH_ID_KEY),
+                flushToken, String.valueOf(flushLockTimeout.toMillis()), UUID.randomUUID().toString()
+        );
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Long, Long> decreases = new HashMap<>();
+        for (int i = 1; i + 1 < entries.size(); i += 2) {
+            long quantity = Long.parseLong(entries.get(i + 1));
+            if (quantity != 0) {
+                decreases.put(Long.valueOf(entries.get(i)), quantity);
+            }
+        }
+
+        // 예약 후 취소되어 상쇄된 차감분만 있으면 반영할 것이 없다
+        if (decreases.isEmpty()) {
+            completeFlush();
+            return Optional.empty();
+        }
+        return Optional.of(new PendingStockFlush(entries.get(0), decreases));
+    }
+
+    @Override
+    public void completeFlush() {
+        redisTemplate.execute(COMPLETE_FLUSH_SCRIPT, List.of(FLUSHING_KEY, FLUSH_LOCK_KEY, FLUSH_ID_KEY), flushToken);
+    }
+
+    @Override
+    public void abortFlush() {
+        redisTemplate.execute(ABORT_FLUSH_SCRIPT, List.of(FLUSH_LOCK_KEY), flushToken);
+    }
+
+    @Override
+    public Collection<Long> findReservedProductIds() {
+        Set<String> members = redisTemplate.opsForSet().members(PRODUCTS_KEY);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public Optional<Long> findSettledStock(Long productId) {
+        String stock = redisTemplate.execute(
+                SETTLED_STOCK_SCRIPT,
+                List.of(STOCK_PREFIX + productId, PENDING_KEY, FLUSHING_KEY),
+                String.valueOf(productId)
+        );
+        return Optional.ofNullable(stock).map(Long::valueOf);
+    }
+
+    @Override
+    public boolean compareAndSetStock(Long productId, long expected, long stock) {
+        Long updated = redisTemplate.execute(
+                COMPARE_AND_SET_SCRIPT,
+                List.of(STOCK_PREFIX + productId, PENDING_KEY, FLUSHING_KEY),
+                String.valueOf(productId), String.valueOf(expected), String.valueOf(stock)
+        );
+        return updated != null && updated == 1L;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.loopers.interfaces.api.like;
+
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.like.LikeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class LikeChangedEventListener {
+
+    private final LikeService likeService;
+
+    /**
+     * 좋아요 커밋 후 사용자별 좋아요 상품 색인 무효화
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(LikeChangedEvent event) {
+        likeService.invalidateLikedIndex(event.userId());
+    }
+
+}
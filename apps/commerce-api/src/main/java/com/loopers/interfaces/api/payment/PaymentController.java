@@ -7,11 +7,15 @@ import com.loopers.application.payment.ProcessPaymentCommand;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,6 +25,8 @@ public class PaymentController implements PaymentV1ApiSpec {
 
     private final PaymentFacade paymentFacade;
 
+    // 결제 요청은 접수만 하고 PG 전송은 비동기로 처리하므로 202 로 응답한다
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @PostMapping("")
     public ApiResponse<PaymentV1Dto.ProcessResponse> processPayment(
             @RequestBody PaymentV1Dto.ProcessRequest request
@@ -46,4 +52,14 @@ public class PaymentController implements PaymentV1ApiSpec {
         return ApiResponse.success();
     }
 
+    @PostMapping("/callback/batch")
+    public ApiResponse<Object> paymentCallbacks(
+            @RequestBody PaymentV1Dto.CallbackBatchRequest request
+    ) {
+        List<CallbackPaymentCommand> commands = PaymentV1Dto.CallbackBatchRequest.toCommands(request);
+        paymentFacade.paymentCallbacks(commands);
+
+        return ApiResponse.success();
+    }
+
 }
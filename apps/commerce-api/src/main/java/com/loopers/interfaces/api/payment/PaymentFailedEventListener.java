@@ -1,12 +1,11 @@
 package com.loopers.interfaces.api.payment;
 
-import com.loopers.application.payment.PaymentFacade;
+import com.loopers.application.payment.PaymentCompensator;
+import com.loopers.domain.payment.PaymentCompensationService;
 import com.loopers.domain.payment.PaymentFailedEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -14,17 +13,27 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class PaymentFailedEventListener {
 
-    private final PaymentFacade paymentFacade;
+    private final PaymentCompensationService paymentCompensationService;
+    private final PaymentCompensator paymentCompensator;
 
     /**
-     * 결제 실패 이벤트 처리
+     * 결제 실패와 같은 트랜잭션에서 보상을 저장한다. (커밋 후 노드가 죽어도 보상이 유실되지 않는다)
      * @param event
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-//    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @Async
-    public void handle(PaymentFailedEvent event) {
-        paymentFacade.paymentFailedEventHandler(event);
+    @Order(1)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true) // PG 전송 실패는 트랜잭션 밖에서 발행된다
+    public void register(PaymentFailedEvent event) {
+        paymentCompensationService.register(event);
+    }
+
+    /**
+     * 커밋되면 polling 을 기다리지 않고 바로 보상을 실행한다.
+     * @param event
+     */
+    @Order(2)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void dispatch(PaymentFailedEvent event) {
+        paymentCompensator.dispatch(event.orderId());
     }
 
 }
@@ -0,0 +1,24 @@
+package com.loopers.interfaces.api.payment;
+
+import com.loopers.application.payment.PaymentRequestDispatcher;
+import com.loopers.domain.payment.PaymentRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentRequestedEventListener {
+
+    private final PaymentRequestDispatcher paymentRequestDispatcher;
+
+    /**
+     * 결제 요청이 커밋되면 polling 을 기다리지 않고 바로 PG 로 전송한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PaymentRequestedEvent event) {
+        paymentRequestDispatcher.dispatch(event.outboxId(), event.paymentId());
+    }
+
+}
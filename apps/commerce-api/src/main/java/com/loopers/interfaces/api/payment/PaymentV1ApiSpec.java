@@ -12,7 +12,7 @@ public interface PaymentV1ApiSpec {
 
     @Operation(
         summary = "결제 요청",
-        description = "주문 생성이 성공된 후 결제를 요청합니다."
+        description = "주문 생성이 성공된 후 결제를 요청합니다. 요청은 접수(202)만 되며, 카드 결제 결과는 PG 콜백으로 확정됩니다."
     )
     ApiResponse<PaymentV1Dto.ProcessResponse> processPayment(
             @Parameter(
@@ -25,7 +25,7 @@ public interface PaymentV1ApiSpec {
 
     @Operation(
             summary = "외부 결제 시스템 콜백",
-            description = "외부 결제 요청에 대한 콜백을 처리합니다."
+            description = "외부 결제 요청에 대한 콜백을 접수합니다. 결제 상태는 접수 후 비동기로 일괄 반영됩니다."
     )
     ApiResponse<Object> paymentCallback(
             @Parameter(
@@ -36,4 +36,17 @@ public interface PaymentV1ApiSpec {
             @RequestBody PaymentV1Dto.CallbackRequest request
     );
 
+    @Operation(
+            summary = "외부 결제 시스템 일괄 콜백",
+            description = "같은 콜백 URL 로 쌓인 여러 결제 결과를 한 번에 접수합니다. 이미 접수된 콜백은 무시되므로 다시 보내도 됩니다."
+    )
+    ApiResponse<Object> paymentCallbacks(
+            @Parameter(
+                    name = "request",
+                    description = "외부 결제 요청 정보 목록",
+                    required = true
+            )
+            @RequestBody PaymentV1Dto.CallbackBatchRequest request
+    );
+
 }
@@ -3,6 +3,9 @@ package com.loopers.interfaces.api.payment;
 
 import com.loopers.application.payment.*;
 import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.PaymentStatus;
+
+import java.util.List;
 
 public class PaymentV1Dto {
 
@@ -30,14 +33,16 @@ public class PaymentV1Dto {
             Long paymentId,
             Long orderId,
             int amount,
-            PaymentMethod paymentMethod
+            PaymentMethod paymentMethod,
+            PaymentStatus status // 카드 결제는 PG 전송 전이라 PENDING, 결과는 콜백으로 확정된다
     ) {
         public static ProcessResponse from(PaymentInfo paymentInfo) {
             return new ProcessResponse(
                     paymentInfo.paymentId(),
                     paymentInfo.orderId(),
                     paymentInfo.amount(),
-                    paymentInfo.paymentMethod()
+                    paymentInfo.paymentMethod(),
+                    paymentInfo.status()
             );
         }
     }
@@ -64,4 +69,14 @@ public class PaymentV1Dto {
         }
     }
 
+    public record CallbackBatchRequest(
+            List<CallbackRequest> callbacks
+    ) {
+        public static List<CallbackPaymentCommand> toCommands(CallbackBatchRequest request) {
+            return request.callbacks.stream()
+                    .map(CallbackRequest::toCommand)
+                    .toList();
+        }
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.domain.product.LikeCountChangedEvent;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class LikeCountChangedEventListener {
+
+    private final ProductService productService;
+
+    /**
+     * 좋아요 커밋 후 증감분을 버퍼에 누적
+     * - 롤백된 좋아요가 좋아요 수에 반영되지 않도록 커밋 후에 누적한다.
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(LikeCountChangedEvent event) {
+        productService.bufferLikeCount(event.productId(), event.delta());
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.domain.product.ProductChangedEvent;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductChangedEventListener {
+
+    private final ProductService productService;
+
+    /**
+     * 상품 변경 커밋 후 상세/목록 캐시 제거
+     * - 커밋 전에 제거하면 다른 요청이 이전 값을 다시 캐시에 올릴 수 있다.
+     * - 목록 캐시에는 재고가 포함되지 않으므로 좋아요 수 변경 시에만 제거한다.
+     * - 좋아요 수 일괄 반영은 트랜잭션 밖에서 발행하므로 즉시 처리한다.
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductChangedEvent event) {
+        try {
+            productService.evictDetailCache(event.productId());
+        } catch (Exception e) {
+            log.warn("상품 캐시 제거 실패 - productId: {}", event.productId(), e);
+        }
+
+        if (event.type() != ProductChangedEvent.ChangeType.LIKE_COUNT) {
+            return;
+        }
+        try {
+            productService.evictListCache(event.brandId());
+        } catch (Exception e) {
+            log.warn("상품 목록 캐시 제거 실패 - brandId: {}", event.brandId(), e);
+        }
+    }
+
+}
@@ -4,6 +4,9 @@ import com.loopers.application.product.ProductCommand;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.product.ProductInfo;
 import com.loopers.application.product.ProductListInfo;
+import com.loopers.application.product.ProductScrollCommand;
+import com.loopers.application.product.ProductScrollInfo;
+import com.loopers.domain.product.ProductSortType;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +38,25 @@ public class ProductController implements ProductV1ApiSpec{
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/scroll")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductScrollResponse> getProductScroll(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(defaultValue = "CREATED_AT_DESC") ProductSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader("X-USER-ID") String userId
+    ) {
+        // command 생성
+        ProductScrollCommand command = new ProductScrollCommand(brandId, sort, cursor, size);
+        // facade 호출
+        ProductScrollInfo productScrollInfo = productFacade.getProductScroll(command, userId);
+        // result -> response
+        ProductV1Dto.ProductScrollResponse response = ProductV1Dto.ProductScrollResponse.from(productScrollInfo);
+
+        return ApiResponse.success(response);
+    }
+
     @GetMapping("/{productId}")
     @Override
     public ApiResponse<ProductV1Dto.ProductDetailResponse> getProductDetail(
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.domain.product.ProductSortType;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -39,6 +40,43 @@ public interface ProductV1ApiSpec {
             @RequestHeader("X-USER-ID") String userId
     );
 
+    @Operation(
+            summary = "상품 목록 커서 조회",
+            description = "커서 기반으로 상품 목록을 조회합니다. 전체 개수 대신 다음 페이지 여부와 이어보기 토큰을 반환합니다."
+    )
+    ApiResponse<ProductV1Dto.ProductScrollResponse> getProductScroll(
+            @Parameter(
+                    name = "brandId",
+                    description = "브랜드 ID (쿼리 파라미터)",
+                    required = false
+            )
+            @RequestParam Long brandId,
+            @Parameter(
+                    name = "sort",
+                    description = "정렬 (CREATED_AT_ASC, CREATED_AT_DESC, PRICE_ASC, PRICE_DESC, LIKE_COUNT_DESC)",
+                    required = false
+            )
+            @RequestParam ProductSortType sort,
+            @Parameter(
+                    name = "cursor",
+                    description = "이전 응답의 nextCursor (첫 페이지는 생략)",
+                    required = false
+            )
+            @RequestParam String cursor,
+            @Parameter(
+                    name = "size",
+                    description = "조회 개수 (최대 100)",
+                    required = false
+            )
+            @RequestParam int size,
+            @Parameter(
+                    name = "X-USER-ID",
+                    description = "유저 ID (헤더)",
+                    required = false
+            )
+            @RequestHeader("X-USER-ID") String userId
+    );
+
     @Operation(
             summary = "상품 정보 조회",
             description = "상품 ID로 상품 정보를 조회합니다."
@@ -2,7 +2,8 @@ package com.loopers.interfaces.api.product;
 
 import com.loopers.application.product.ProductInfo;
 import com.loopers.application.product.ProductListInfo;
-import com.loopers.domain.product.Product;
+import com.loopers.application.product.ProductScrollInfo;
+import com.loopers.domain.like.LikeStatus;
 
 import java.util.List;
 
@@ -30,6 +31,24 @@ public class ProductV1Dto {
         }
     }
 
+    public record ProductScrollResponse(
+            List<ProductContentResponse> contents,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        public static ProductScrollResponse from(ProductScrollInfo info) {
+            List<ProductContentResponse> contentResponses = info.contents().stream()
+                    .map(ProductContentResponse::from)
+                    .toList();
+
+            return new ProductScrollResponse(
+                    contentResponses,
+                    info.nextCursor(),
+                    info.hasNext()
+            );
+        }
+    }
+
     public record ProductContentResponse(
             Long id,
             String name,
@@ -38,18 +57,20 @@ public class ProductV1Dto {
             int price,
             Long likeCount,
             Long brandId,
-            String brandName
+            String brandName,
+            LikeStatus likedYn
     ) {
-        public static ProductContentResponse from(Product product) {
+        public static ProductContentResponse from(ProductInfo info) {
             return new ProductContentResponse(
-                    product.getId(),
-                    product.getName(),
-                    product.getDescription(),
-                    product.getImageUrl(),
-                    product.getPrice(),
-                    product.getLikeCount(),
-                    product.getBrand().getId(),
-                    product.getBrand().getName()
+                    info.id(),
+                    info.name(),
+                    info.description(),
+                    info.imageUrl(),
+                    info.price(),
+                    info.likeCount(),
+                    info.brandId(),
+                    info.brandName(),
+                    info.likedYn()
             );
         }
     }
@@ -62,7 +83,8 @@ public class ProductV1Dto {
             int price,
             Long likeCount,
             Long brandId,
-            String brandName
+            String brandName,
+            LikeStatus likedYn
     ) {
         public static ProductDetailResponse from(ProductInfo info) {
             return new ProductDetailResponse(
@@ -73,7 +95,8 @@ public class ProductV1Dto {
                     info.price(),
                     info.likeCount(),
                     info.brandId(),
-                    info.brandName()
+                    info.brandName(),
+                    info.likedYn()
             );
         }
     }
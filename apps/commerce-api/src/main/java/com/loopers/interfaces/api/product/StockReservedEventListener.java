@@ -0,0 +1,32 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.domain.product.StockReservationService;
+import com.loopers.domain.product.StockReservedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservedEventListener {
+
+    private final StockReservationService stockReservationService;
+
+    /**
+     * 주문 트랜잭션 롤백 시 재고 예약 취소
+     * - Redis 예약은 트랜잭션에 참여하지 않으므로 롤백 후 직접 되돌린다.
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handle(StockReservedEvent event) {
+        try {
+            stockReservationService.release(event.reservationId());
+        } catch (Exception e) {
+            log.error("재고 예약 취소 실패 - reservationId: {}", event.reservationId(), e);
+        }
+    }
+
+}
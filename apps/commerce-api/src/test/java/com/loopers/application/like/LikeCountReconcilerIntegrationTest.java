@@ -0,0 +1,135 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeCountReconcileLease;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.support.TestFixture;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+// 대조 시점을 테스트에서 직접 제어하기 위해 스케줄러 주기를 길게 두고, 연속 대조 사이의 대기 시간은 없앤다
+@SpringBootTest(properties = {
+        "like.reconcile.interval-ms=3600000",
+        "like.reconcile.settle-delay=0s"
+})
+class LikeCountReconcilerIntegrationTest {
+
+    @Autowired
+    private LikeCountReconciler likeCountReconciler;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private LikeCountReconcileLease likeCountReconcileLease;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product drifted; // 좋아요 2건, 상품 좋아요 수 0
+    private Product consistent; // 좋아요 1건, 상품 좋아요 수 1
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandRepository.save(TestFixture.createBrand());
+        drifted = productRepository.save(TestFixture.createProduct(brand));
+        Product product = TestFixture.createProduct(brand);
+        product.increaseLikeCount();
+        consistent = productRepository.save(product);
+
+        User user1 = userRepository.save(User.create("user1", Gender.F, "1999-08-21", "user1@loopers.com"));
+        User user2 = userRepository.save(User.create("user2", Gender.M, "1999-08-21", "user2@loopers.com"));
+        likeRepository.save(Like.create(user1, drifted));
+        likeRepository.save(Like.create(user2, drifted));
+        likeRepository.save(Like.create(user1, consistent));
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        productService.flushLikeCounts();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("같은 차이가 두 번 연속 보이면, 상품 좋아요 수를 likes 집계로 보정한다.")
+    @Test
+    void correctsLikeCount_whenDriftIsSeenTwice() {
+        // when
+        likeCountReconciler.reconcile();
+        long afterFirst = productRepository.findById(drifted.getId()).orElseThrow().getLikeCount();
+        likeCountReconciler.reconcile();
+
+        // then
+        Map<Long, Long> likeCounts = productService.getLikeCounts(List.of(drifted.getId(), consistent.getId()));
+        assertAll(
+                () -> assertThat(afterFirst).isZero(), // 처음 보이는 차이는 보정하지 않는다
+                () -> assertThat(likeCounts.get(drifted.getId())).isEqualTo(2L),
+                () -> assertThat(likeCounts.get(consistent.getId())).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("다른 노드가 대조 임대를 잡고 있으면, 대조하지 않는다.")
+    @Test
+    void skipsReconcile_whenLeaseIsHeldByOtherNode() {
+        // given
+        String otherNode = likeCountReconcileLease.acquire().orElseThrow();
+
+        // when
+        likeCountReconciler.reconcile();
+        likeCountReconciler.reconcile();
+
+        // then
+        likeCountReconcileLease.release(otherNode);
+        assertThat(productRepository.findById(drifted.getId()).orElseThrow().getLikeCount()).isZero();
+    }
+
+    @DisplayName("반영 대기 중인 증감분이 있는 상품은 보정하지 않는다.")
+    @Test
+    void skipsProduct_whenDeltaIsPending() {
+        // given
+        productService.bufferLikeCount(drifted.getId(), 2L);
+
+        // when
+        likeCountReconciler.reconcile();
+        likeCountReconciler.reconcile();
+
+        // then
+        assertAll(
+                () -> assertThat(productRepository.findById(drifted.getId()).orElseThrow().getLikeCount()).isZero(),
+                () -> assertThat(productService.getLikeCounts(List.of(drifted.getId())).get(drifted.getId())).isEqualTo(2L)
+        );
+    }
+
+}
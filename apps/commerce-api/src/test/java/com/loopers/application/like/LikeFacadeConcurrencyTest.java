@@ -7,6 +7,7 @@ import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.Gender;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
@@ -25,8 +26,10 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SpringBootTest
 @DisplayName("동시성 테스트")
@@ -50,15 +53,19 @@ class LikeFacadeConcurrencyTest {
     @Autowired
     private LikeRepository likeRepository;
 
+    @Autowired
+    private ProductService productService;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
     private List<User> users;
+    private Brand brand;
     private Product savedProduct;
 
     @BeforeEach
     void setUp() {
-        Brand brand = brandRepository.save(TestFixture.createBrand());
+        brand = brandRepository.save(TestFixture.createBrand());
         Product product = productRepository.save(TestFixture.createProduct(brand));
 
         users = new ArrayList<>();
@@ -79,6 +86,7 @@ class LikeFacadeConcurrencyTest {
 
     @AfterEach
     void cleanDatabase() {
+        productService.flushLikeCounts(); // 반영 대기 중인 좋아요 수가 다음 테스트로 넘어가지 않도록 비운다
         databaseCleanUp.truncateAllTables();
     }
 
@@ -118,6 +126,7 @@ class LikeFacadeConcurrencyTest {
         Long finalLikeCount = likeService.getLikeCount(productId);
         System.out.printf("\n최종 좋아요 수: %d\n", finalLikeCount);
 
+        productService.flushLikeCounts();
         Long likeCountFromProduct = productRepository.findById(productId)
                 .orElseThrow()
                 .getLikeCount();
@@ -127,4 +136,43 @@ class LikeFacadeConcurrencyTest {
         assertThat(finalLikeCount).isBetween(0L, (long) testUsers.size());
     }
 
+    @DisplayName("같은 유저가 같은 상품에 동시에 좋아요를 여러 번 눌러도, 좋아요는 한 건만 생기고 좋아요 수는 1만 증가한다.")
+    @Test
+    void like_should_be_idempotent_under_concurrent_double_taps() throws InterruptedException {
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        Long productId = productRepository.save(TestFixture.createProduct(brand)).getId();
+        String userId = users.get(0).getUserId();
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    likeFacade.like(productId, userId);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.printf("[%s] 요청 실패: %s\n", userId, e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        productService.flushLikeCounts();
+        Long likeCountFromProduct = productRepository.findById(productId)
+                .orElseThrow()
+                .getLikeCount();
+
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(threadCount),
+                () -> assertThat(likeService.getLikeCount(productId)).isEqualTo(1L),
+                () -> assertThat(likeCountFromProduct).isEqualTo(1L)
+        );
+    }
+
 }
@@ -7,6 +7,7 @@ import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.LikeStatus;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.Gender;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
@@ -39,6 +40,9 @@ class LikeFacadeIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ProductService productService;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -89,6 +93,7 @@ class LikeFacadeIntegrationTest {
 
     @AfterEach
     void cleanDatabase() {
+        productService.flushLikeCounts(); // 반영 대기 중인 좋아요 수가 다음 테스트로 넘어가지 않도록 비운다
         databaseCleanUp.truncateAllTables();
     }
 
@@ -112,6 +117,7 @@ class LikeFacadeIntegrationTest {
                     () -> assertThat(info.likedYn()).isEqualTo(LikeStatus.Y)
             );
 
+            productService.flushLikeCounts();
             Product updated = productRepository.findById(product.getId()).orElseThrow();
             assertThat(updated.getLikeCount()).isEqualTo(3L);
         }
@@ -132,6 +138,7 @@ class LikeFacadeIntegrationTest {
                     () -> assertThat(info.likedYn()).isEqualTo(LikeStatus.Y)
             );
 
+            productService.flushLikeCounts();
             Product updated = productRepository.findById(product.getId()).orElseThrow();
             assertThat(updated.getLikeCount()).isEqualTo(2L);
         }
@@ -159,6 +166,7 @@ class LikeFacadeIntegrationTest {
                     () -> assertThat(info.likedYn()).isEqualTo(LikeStatus.N)
             );
 
+            productService.flushLikeCounts();
             Product updated = productRepository.findById(product.getId()).orElseThrow();
             assertThat(updated.getLikeCount()).isEqualTo(1L);
         }
@@ -181,6 +189,7 @@ class LikeFacadeIntegrationTest {
                     () -> assertThat(info.likedYn()).isEqualTo(LikeStatus.N)
             );
 
+            productService.flushLikeCounts();
             Product updated = productRepository.findById(product.getId()).orElseThrow();
             assertThat(updated.getLikeCount()).isEqualTo(1L); // 좋아요 수
         }
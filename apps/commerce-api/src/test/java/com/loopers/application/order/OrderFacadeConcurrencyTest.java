@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -54,6 +55,7 @@ class OrderFacadeConcurrencyTest {
     private DatabaseCleanUp databaseCleanUp;
 
     private List<User> users;
+    private Brand brand;
     private Product product;
     private Coupon coupon;
 
@@ -69,7 +71,7 @@ class OrderFacadeConcurrencyTest {
             users.add(user);
         }
 
-        Brand brand = brandRepository.save(TestFixture.createBrand());
+        brand = brandRepository.save(TestFixture.createBrand());
         product = productRepository.save(TestFixture.createProduct(brand));
 
         coupon = couponRepository.save(
@@ -133,7 +135,7 @@ class OrderFacadeConcurrencyTest {
         assertThat(couponUsedCount).isEqualTo(1); // 정확히 한 번만 사용되어야 함
     }
 
-    @DisplayName("동일 상품에 대해 동시에 여러 주문을 해도 재고는 정확히 차감된다. (비관적 락)")
+    @DisplayName("동일 상품에 대해 동시에 여러 주문을 해도 재고는 정확히 차감된다. (조건부 UPDATE)")
     @Test
     void stock_should_be_deducted_correctly_concurrently() throws InterruptedException {
         int threadCount = users.size();
@@ -172,4 +174,44 @@ class OrderFacadeConcurrencyTest {
         );
     }
 
+    @DisplayName("상품이 겹치는 주문을 서로 다른 순서로 동시에 해도 교착 상태 없이 모두 성공한다. (id 순 UPDATE)")
+    @Test
+    void orders_with_overlapping_products_should_not_deadlock() throws InterruptedException {
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        Product other = productRepository.save(TestFixture.createProduct(brand));
+        List<OrderItemCommand> forward = List.of(
+                new OrderItemCommand(product.getId(), 1, 1000),
+                new OrderItemCommand(other.getId(), 1, 1000)
+        );
+        List<OrderItemCommand> reverse = forward.reversed();
+
+        for (int i = 0; i < threadCount; i++) {
+            String userId = users.get(i % users.size()).getUserId();
+            List<OrderItemCommand> items = i % 2 == 0 ? forward : reverse;
+            executor.submit(() -> {
+                try {
+                    orderFacade.placeOrder(new OrderCommand(userId, items, null));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.println("🛍️주문 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(threadCount),
+                () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isZero(),
+                () -> assertThat(productRepository.findById(other.getId()).orElseThrow().getStock()).isZero()
+        );
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentOutbox;
+import com.loopers.domain.payment.PaymentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PaymentRequestDispatcherTest {
+
+    @DisplayName("전송을 맡기지 못하면 허가를 돌려줘, 다음 polling 이 허가를 기다리며 멈추지 않는다.")
+    @Test
+    void releasesPermit_whenSubmitIsRejected() throws InterruptedException {
+        // given
+        PaymentService paymentService = mock(PaymentService.class);
+        when(paymentService.findDueRequests(anyInt())).thenReturn(List.of(
+                PaymentOutbox.create(1L), PaymentOutbox.create(2L), PaymentOutbox.create(3L)));
+        PaymentRequestDispatcher dispatcher = new PaymentRequestDispatcher(paymentService, 1);
+        dispatcher.shutdown(); // 이후 전송은 모두 거절된다
+
+        // when & then
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            dispatcher.dispatchPending();
+            dispatcher.dispatchPending();
+        });
+    }
+
+}
@@ -8,6 +8,7 @@ import com.loopers.domain.user.Gender;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 
@@ -41,9 +43,15 @@ class LikeServiceIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private LikedProductIndex likedProductIndex;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     private List<Product> testProductList;
 
     @BeforeEach
@@ -82,6 +90,7 @@ class LikeServiceIntegrationTest {
     @AfterEach
     void cleanDatabase() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @DisplayName("상품별 좋아요 수 조회 시,")
@@ -190,9 +199,9 @@ class LikeServiceIntegrationTest {
             // then
             assertAll(
                     () -> assertThat(savedLike).isNotNull(),
-                    () -> assertThat(savedLike.like().getProduct().getId()).isEqualTo(product.getId()),
-                    () -> assertThat(savedLike.like().getUser().getUserId()).isEqualTo(user.get().getUserId()),
-                    () -> assertThat(savedLike.like().getLikedYn()).isEqualTo(LikeStatus.Y),
+                    () -> assertThat(savedLike.productId()).isEqualTo(product.getId()),
+                    () -> assertThat(savedLike.userId()).isEqualTo(user.get().getUserId()),
+                    () -> assertThat(savedLike.likedYn()).isEqualTo(LikeStatus.Y),
                     () -> assertThat(savedLike.changed()).isTrue()
             );
         }
@@ -210,12 +219,31 @@ class LikeServiceIntegrationTest {
             // then
             assertAll(
                     () -> assertThat(savedLike).isNotNull(),
-                    () -> assertThat(savedLike.like().getProduct().getId()).isEqualTo(product.getId()),
-                    () -> assertThat(savedLike.like().getUser().getUserId()).isEqualTo(user.get().getUserId()),
-                    () -> assertThat(savedLike.like().getLikedYn()).isEqualTo(LikeStatus.Y),
+                    () -> assertThat(savedLike.productId()).isEqualTo(product.getId()),
+                    () -> assertThat(savedLike.userId()).isEqualTo(user.get().getUserId()),
+                    () -> assertThat(savedLike.likedYn()).isEqualTo(LikeStatus.Y),
                     () -> assertThat(savedLike.changed()).isFalse()
             );
         }
+
+        @DisplayName("좋아요를 취소했던 상품이면 다시 Y로 바꾼다.")
+        @Test
+        void relikes_whenUnLikedBefore() {
+            // given
+            Product product = testProductList.get(0); // 이미 좋아요가 등록된 상품
+            Optional<User> user = userRepository.findByUserId("user1");
+            likeService.unLike(product, user.get());
+
+            // when
+            LikeChange savedLike = likeService.like(product, user.get());
+
+            // then
+            assertAll(
+                    () -> assertThat(savedLike.likedYn()).isEqualTo(LikeStatus.Y),
+                    () -> assertThat(savedLike.changed()).isTrue(),
+                    () -> assertThat(likeService.like(product, user.get()).changed()).isFalse()
+            );
+        }
     }
 
 
@@ -237,9 +265,9 @@ class LikeServiceIntegrationTest {
             // then
             assertAll(
                     () -> assertThat(savedLike).isNotNull(),
-                    () -> assertThat(savedLike.like().getProduct().getId()).isEqualTo(product.getId()),
-                    () -> assertThat(savedLike.like().getUser().getUserId()).isEqualTo(user.get().getUserId()),
-                    () -> assertThat(savedLike.like().getLikedYn()).isEqualTo(LikeStatus.N),
+                    () -> assertThat(savedLike.productId()).isEqualTo(product.getId()),
+                    () -> assertThat(savedLike.userId()).isEqualTo(user.get().getUserId()),
+                    () -> assertThat(savedLike.likedYn()).isEqualTo(LikeStatus.N),
                     () -> assertThat(savedLike.changed()).isTrue()
             );
         }
@@ -301,4 +329,79 @@ class LikeServiceIntegrationTest {
         }
     }
 
+
+    @DisplayName("좋아요한 상품 조회 시,")
+    @Nested
+    class getLikedProductIds {
+
+        @DisplayName("색인이 없으면 DB 에서 색인을 만들고, 주어진 상품 중 좋아요한 상품만 반환한다.")
+        @Test
+        void rebuildsIndexFromDb_whenIndexIsMissing() {
+            // given
+            List<Long> productIds = testProductList.stream().map(Product::getId).toList();
+
+            // when
+            Set<Long> liked = likeService.getLikedProductIds("user1", productIds);
+
+            // then
+            assertAll(
+                    () -> assertThat(liked).containsExactlyInAnyOrder(productIds.get(0), productIds.get(1)),
+                    () -> assertThat(likedProductIndex.findLiked("user1", productIds)).contains(liked)
+            );
+        }
+
+        @DisplayName("좋아요한 상품이 없는 사용자도 색인이 만들어진다.")
+        @Test
+        void buildsEmptyIndex_whenUserHasNoLikes() {
+            // given
+            List<Long> productIds = testProductList.stream().map(Product::getId).toList();
+
+            // when
+            Set<Long> liked = likeService.getLikedProductIds("user3", productIds);
+
+            // then
+            assertAll(
+                    () -> assertThat(liked).isEmpty(),
+                    () -> assertThat(likedProductIndex.findLiked("user3", productIds)).contains(Set.of())
+            );
+        }
+
+        @DisplayName("좋아요 취소가 커밋되면 색인에서도 빠진다.")
+        @Test
+        void removesFromIndex_afterUnLikeCommitted() {
+            // given
+            List<Long> productIds = testProductList.stream().map(Product::getId).toList();
+            likeService.getLikedProductIds("user1", productIds); // 색인 생성
+            User user = userRepository.findByUserId("user1").orElseThrow();
+
+            // when
+            likeService.unLike(testProductList.get(0), user);
+
+            // then
+            assertThat(likeService.getLikedProductIds("user1", productIds)).containsExactly(productIds.get(1));
+        }
+
+        @DisplayName("색인을 다시 만드는 중에 좋아요가 커밋되면, 먼저 읽은 목록으로 색인을 만들지 않는다.")
+        @Test
+        void discardsStaleRebuild_whenLikeCommittedDuringRebuild() {
+            // given: 재생성이 세대를 읽고 DB 를 읽은 뒤
+            List<Long> productIds = testProductList.stream().map(Product::getId).toList();
+            long generation = likedProductIndex.generation("user1");
+            Set<Long> staleLiked = Set.copyOf(likeRepository.findLikedProductIds("user1"));
+            User user = userRepository.findByUserId("user1").orElseThrow();
+
+            // when: 색인을 쓰기 전에 좋아요가 커밋되면
+            likeService.like(testProductList.get(2), user);
+            boolean rebuilt = likedProductIndex.rebuild("user1", generation, staleLiked);
+
+            // then
+            assertAll(
+                    () -> assertThat(rebuilt).isFalse(),
+                    () -> assertThat(likedProductIndex.findLiked("user1", productIds)).isEmpty(),
+                    () -> assertThat(likeService.getLikedProductIds("user1", productIds))
+                            .containsExactlyInAnyOrder(productIds.get(0), productIds.get(1), productIds.get(2))
+            );
+        }
+    }
+
 }
@@ -1,7 +1,10 @@
 package com.loopers.domain.payment;
 
 import com.loopers.application.payment.CallbackPaymentCommand;
+import com.loopers.application.payment.PaymentCallbackIngestor;
+import com.loopers.application.payment.PaymentCompensator;
 import com.loopers.application.payment.PaymentMethod;
+import com.loopers.application.payment.PaymentRequestDispatcher;
 import com.loopers.application.payment.ProcessPaymentCommand;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
@@ -30,7 +33,11 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.awaitility.Awaitility.await;
@@ -67,7 +74,17 @@ import static org.awaitility.Awaitility.await;
                 "resilience4j.circuitbreaker.instances.pgDetail.minimum-number-of-calls=10",
                 "resilience4j.circuitbreaker.instances.pgDetail.failure-rate-threshold=100",
                 "resilience4j.circuitbreaker.instances.pgDetail.wait-duration-in-open-state=1s",
-                "resilience4j.circuitbreaker.instances.pgDetail.permitted-number-of-calls-in-half-open-state=3"
+                "resilience4j.circuitbreaker.instances.pgDetail.permitted-number-of-calls-in-half-open-state=3",
+
+                // 상태 동기화: 페이징과 샤드 분배가 드러나도록 작게 설정
+                "payment.reconcile.shards=2",
+                "payment.reconcile.page-size=2",
+                "payment.reconcile.interval-ms=3600000",
+
+                // outbox polling 과 콜백 반영 시점을 테스트에서 직접 제어한다
+                "payment.outbox.poll-interval-ms=3600000",
+                "payment.callback.flush-interval-ms=3600000",
+                "payment.callback.inbox-poll-interval-ms=3600000"
         }
 )
 class PaymentServiceIntegrationTest {
@@ -86,6 +103,14 @@ class PaymentServiceIntegrationTest {
     @Autowired private CouponRepository couponRepository;
     @Autowired private UserCouponRepository userCouponRepository;
     @Autowired private CouponService couponService;
+    @Autowired private PaymentShardLease paymentShardLease;
+    @Autowired private PaymentRequestDispatcher paymentRequestDispatcher;
+    @Autowired private PaymentCallbackIngestor paymentCallbackIngestor;
+    @Autowired private PaymentCompensationService paymentCompensationService;
+    @Autowired private PaymentCompensator paymentCompensator;
+    @Autowired private PaymentOutboxRepository paymentOutboxRepository;
+    private Product savedProduct; // 재고 10
+    private Order savedOrder; // 상품 2개, 쿠폰 사용
 
     @TestConfiguration
     static class TestConfig {
@@ -184,6 +209,32 @@ class PaymentServiceIntegrationTest {
                     null
             ));
         }
+
+        @Override
+        public ApiResponse<PgV1Dto.PgDetailListResponse> getPaymentDetails(PgV1Dto.PgDetailSearchRequest request) {
+            detailCallCount.incrementAndGet();
+
+            // 실패 시뮬레이션
+            if (detailAlwaysFail) throw new RuntimeException("PG detail down");
+            if (detailFailsThenSuccess.getAndUpdate(x -> Math.max(0, x - 1)) > 0) {
+                throw new RuntimeException("temporary detail failure");
+            }
+
+            // 기본: 모든 결제건 성공 응답
+            return ApiResponse.success(new PgV1Dto.PgDetailListResponse(
+                    request.transactionKeys().stream()
+                            .map(transactionKey -> new PgV1Dto.PgDetailResponse(
+                                    transactionKey,
+                                    1L, // 임의의 주문 ID
+                                    CardType.SAMSUNG,
+                                    "1234-5678-1234-5678",
+                                    1000,
+                                    PaymentStatus.SUCCESS,
+                                    null
+                            ))
+                            .toList()
+            ));
+        }
     }
 
     static class TestEventListener {
@@ -237,14 +288,14 @@ class PaymentServiceIntegrationTest {
                 10000,
                 10
         );
-        Product savedProduct = productRepository.save(product);
+        savedProduct = productRepository.save(product);
         List<OrderItem> items = TestFixture.createOrderItems(savedProduct, 2);
 
         Coupon coupon = couponRepository.save(new Coupon("10% 할인 쿠폰", CouponType.RATE, 10, 10, ZonedDateTime.now()));
         userCouponRepository.save(UserCoupon.create(savedUser.getUserId(), coupon.getId(), ZonedDateTime.now().plusDays(2)));
         DiscountedOrderByCoupon discountedOrderByCoupon = couponService.useCoupon(savedUser.getUserId(), coupon.getId(), items);
 
-        orderService.createOrder(savedUser, items, discountedOrderByCoupon);
+        savedOrder = orderService.createOrder(savedUser, items, discountedOrderByCoupon);
     }
 
     @AfterEach
@@ -398,75 +449,176 @@ class PaymentServiceIntegrationTest {
     }
 
 
-    @DisplayName("updateStatusFromCallback()")
+    @DisplayName("콜백 일괄 반영")
     @Nested
-    class UpdateStatusFromCallback {
-
-        @Test
-        @DisplayName("성공 - 콜백 상태로 업데이트(SUCCESS)")
-        void success_updateStatusFromCallback() {
-            Payment cardPending = newCardPending();
-            cardPending.updateTransactionKey("TX-123"); // 트랜잭션 키 설정
-            paymentRepository.save(cardPending);
+    class IngestCallbacks {
 
-            CallbackPaymentCommand cmd = new CallbackPaymentCommand(
-                    "TX-123",
-                    cardPending.getOrderId(),
+        private CallbackPaymentCommand callback(Payment payment, String status, String reason) {
+            return new CallbackPaymentCommand(
+                    payment.getCardDetail().getTransactionKey(),
+                    payment.getOrderId(),
                     "SAMSUNG",
                     "1234-5678-1234-5678",
                     1000,
-                    "SUCCESS",
-                    null
+                    status,
+                    reason
             );
+        }
 
-            paymentService.updateStatusFromCallback(cmd);
+        @Test
+        @DisplayName("성공 - 중복 콜백과 늦게 온 PENDING 콜백이 섞여도 확정 상태가 유지된다")
+        void keepsTerminalStatus_whenDuplicatedOrStale() {
+            // given
+            Payment succeeded = newCardPending();
+            succeeded.updateTransactionKey("TX-CB-1");
+            paymentRepository.save(succeeded);
+            Payment failed = newCardPending();
+            failed.updateTransactionKey("TX-CB-2");
+            paymentRepository.save(failed);
 
-            Payment reloaded = paymentRepository.findById(cardPending.getId()).orElseThrow();
-            assertThat(reloaded.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
-            assertThat(reloaded.getReason()).isNull();
+            // when
+            paymentCallbackIngestor.accept(callback(succeeded, "SUCCESS", null));
+            paymentCallbackIngestor.accept(callback(succeeded, "SUCCESS", null));
+            paymentCallbackIngestor.accept(callback(failed, "FAILED", "한도초과입니다."));
+            paymentCallbackIngestor.flush();
+
+            paymentCallbackIngestor.accept(callback(succeeded, "PENDING", null));
+            paymentCallbackIngestor.accept(callback(succeeded, "FAILED", "늦은 콜백"));
+            paymentCallbackIngestor.flush();
+
+            // then
+            Payment reloadedSucceeded = paymentRepository.findById(succeeded.getId()).orElseThrow();
+            Payment reloadedFailed = paymentRepository.findById(failed.getId()).orElseThrow();
+            assertThat(reloadedSucceeded.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+            assertThat(reloadedSucceeded.getReason()).isNull();
+            assertThat(reloadedFailed.getStatus()).isEqualTo(PaymentStatus.FAILED);
+            assertThat(reloadedFailed.getReason()).isEqualTo("한도초과입니다.");
         }
 
         @Test
-        @DisplayName("실패 - 미존재 키/주문ID (NPE 발생 가능)")
-        void fail_WhenTransactionKeyIsNotFound() {
-            CallbackPaymentCommand cmd = new CallbackPaymentCommand(
-                    "NOPE",
-                    999L,
-                    "SAMSUNG",
-                    "1234-5678-1234-5678",
-                    1000,
-                    "FAILED",
-                    "Transaction not found"
+        @DisplayName("성공 - inbox 에 저장된 콜백은 반영 후 삭제된다")
+        void appliesInboxCallbacks() {
+            // given
+            Payment cardPending = newCardPending();
+            cardPending.updateTransactionKey("TX-INBOX");
+            paymentRepository.save(cardPending);
+            paymentService.saveCallbackToInbox(new PaymentCallback("TX-INBOX", cardPending.getOrderId(), PaymentStatus.SUCCESS, null));
 
-            );
+            // when
+            paymentCallbackIngestor.flushInbox();
 
-            assertThatThrownBy(() -> paymentService.updateStatusFromCallback(cmd))
-                    .isInstanceOf(NullPointerException.class);
+            // then
+            Payment reloaded = paymentRepository.findById(cardPending.getId()).orElseThrow();
+            assertThat(reloaded.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+            assertThat(paymentService.applyInboxCallbacks(10)).isZero();
         }
 
         @Test
-        @DisplayName("실패 - 잘못된 결제 상태 문자열")
-        void fail_whenPaymentStatusIsInvalid() {
+        @DisplayName("실패 - 알 수 없는 결제 상태는 접수하지 않는다")
+        void fail_whenStatusIsInvalid() {
             Payment cardPending = newCardPending();
-            cardPending.updateTransactionKey("TX-XYZ"); // 트랜잭션 키 설정
+            cardPending.updateTransactionKey("TX-BAD");
             paymentRepository.save(cardPending);
 
-            CallbackPaymentCommand cmd = new CallbackPaymentCommand(
-                    "TX-XYZ",
-                    cardPending.getOrderId(),
-                    "SAMSUNG",
-                    "1234-5678-1234-5678",
-                    1000,
-                    "NOT_A_STATUS",
-                    "PaymentStatus Invalid string"
-            );
+            assertThatThrownBy(() -> paymentCallbackIngestor.accept(callback(cardPending, "NOT_A_STATUS", null)))
+                    .isInstanceOf(CoreException.class);
+        }
 
-            // findByTransactionKeyAndOrderId 에서 null을 반환하지 않도록 미리 상태값 세팅
-            cardPending.updateStatus(PaymentStatus.PENDING, null);
-            paymentRepository.save(cardPending);
+    }
+
+
+    @DisplayName("결제 실패 보상")
+    @Nested
+    class Compensation {
+
+        @Test
+        @DisplayName("성공 - 같은 실패 이벤트가 여러 번 와도 재고와 쿠폰은 한 번만 복원된다")
+        void compensatesOnce_whenEventDuplicated() {
+            // given
+            PaymentFailedEvent event = new PaymentFailedEvent(savedOrder.getId(), savedOrder.getUser().getUserId());
 
-            assertThatThrownBy(() -> paymentService.updateStatusFromCallback(cmd))
-                    .isInstanceOf(IllegalArgumentException.class);
+            // when
+            boolean first = paymentCompensationService.register(event);
+            boolean second = paymentCompensationService.register(event);
+            paymentCompensator.dispatchPending();
+            paymentCompensator.dispatchPending();
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            await().untilAsserted(() -> {
+                PaymentCompensation compensation = paymentCompensationService.getByOrderId(savedOrder.getId());
+                assertThat(compensation.getStatus()).isEqualTo(PaymentCompensationStatus.DONE);
+                assertThat(orderRepository.findById(savedOrder.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.FAILED);
+                assertThat(productRepository.findById(savedProduct.getId()).orElseThrow().getStock()).isEqualTo(12);
+                assertThat(userCouponRepository.findByUserIdAndCouponId(savedOrder.getUser().getUserId(), savedOrder.getCouponId())
+                        .orElseThrow().getStatus()).isEqualTo(UserCouponStatus.AVAILABLE);
+            });
+        }
+
+        @Test
+        @DisplayName("성공 - 같은 주문의 보상을 동시에 등록해도 하나만 등록되고 예외가 나지 않는다")
+        void registersOnce_whenRegisteredConcurrently() throws InterruptedException {
+            // given
+            PaymentFailedEvent event = new PaymentFailedEvent(savedOrder.getId(), savedOrder.getUser().getUserId());
+            int threadCount = 10;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch ready = new CountDownLatch(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threadCount);
+            AtomicInteger registered = new AtomicInteger();
+            List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        ready.countDown();
+                        start.await();
+                        if (paymentCompensationService.register(event)) {
+                            registered.incrementAndGet();
+                        }
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            start.countDown();
+            done.await();
+            executor.shutdown();
+
+            // then
+            assertThat(errors).isEmpty();
+            assertThat(registered.get()).isEqualTo(1);
+            assertThat(paymentCompensationService.getByOrderId(savedOrder.getId()).getUserId())
+                    .isEqualTo(savedOrder.getUser().getUserId());
+        }
+
+        @Test
+        @DisplayName("성공 - 중단된 보상은 완료된 단계를 건너뛰고 남은 단계부터 이어서 수행한다")
+        void resumesRemainingSteps() {
+            // given: 재고 복원까지 마친 뒤 중단된 보상
+            PaymentFailedEvent event = new PaymentFailedEvent(savedOrder.getId(), savedOrder.getUser().getUserId());
+            paymentCompensationService.register(event);
+            Long compensationId = paymentCompensationService.getByOrderId(savedOrder.getId()).getId();
+            paymentCompensationService.markStepDone(compensationId, PaymentCompensationStep.ORDER);
+            paymentCompensationService.markStepDone(compensationId, PaymentCompensationStep.STOCK);
+
+            // when
+            paymentCompensator.dispatchPending();
+
+            // then
+            await().untilAsserted(() -> {
+                PaymentCompensation compensation = paymentCompensationService.getByOrderId(savedOrder.getId());
+                assertThat(compensation.getStatus()).isEqualTo(PaymentCompensationStatus.DONE);
+                assertThat(compensation.isCouponRestored()).isTrue();
+                assertThat(productRepository.findById(savedProduct.getId()).orElseThrow().getStock()).isEqualTo(10); // 다시 복원되지 않음
+                assertThat(userCouponRepository.findByUserIdAndCouponId(savedOrder.getUser().getUserId(), savedOrder.getCouponId())
+                        .orElseThrow().getStatus()).isEqualTo(UserCouponStatus.AVAILABLE);
+            });
         }
 
     }
@@ -489,6 +641,98 @@ class PaymentServiceIntegrationTest {
     }
 
 
+    @DisplayName("enqueueRequest()")
+    @Nested
+    class EnqueueRequest {
+
+        @Test
+        @DisplayName("성공 - 커밋 후 PG 로 비동기 전송되어 트랜잭션키가 저장된다")
+        void success_dispatchAfterCommit() {
+            Payment payment = newCardPending();
+
+            paymentService.enqueueRequest(payment);
+
+            await().untilAsserted(() -> {
+                Payment reloaded = paymentRepository.findById(payment.getId()).orElseThrow();
+                assertThat(reloaded.getCardDetail().getTransactionKey()).startsWith("TX-");
+                assertThat(reloaded.getStatus()).isEqualTo(PaymentStatus.PENDING);
+            });
+        }
+
+        @Test
+        @DisplayName("성공 - 여러 번 전송을 시도해도 PG 에는 한 번만 요청된다")
+        void sendsOnce_whenDispatchedRepeatedly() {
+            Payment payment = newCardPending();
+            paymentService.enqueueRequest(payment);
+
+            paymentRequestDispatcher.dispatchPending();
+            paymentRequestDispatcher.dispatchPending();
+
+            await().untilAsserted(() -> assertThat(paymentRepository.findById(payment.getId()).orElseThrow()
+                    .getCardDetail().getTransactionKey()).isNotNull());
+            assertThat(pg.getCallCount()).isEqualTo(1);
+        }
+
+    }
+
+
+    @DisplayName("failExhaustedRequests()")
+    @Nested
+    class FailExhaustedRequests {
+
+        private PaymentOutbox exhaustedOutbox(Payment payment) {
+            PaymentOutbox outbox = paymentOutboxRepository.save(PaymentOutbox.create(payment.getId()));
+            ZonedDateTime now = ZonedDateTime.now();
+            for (int i = 0; i < 5; i++) {
+                paymentOutboxRepository.claim(outbox.getId(), now, now); // 점유 시간이 바로 지나도록
+            }
+            return outbox;
+        }
+
+        @Test
+        @DisplayName("성공 - 시도 횟수를 다 쓴 요청은 FAILED 로 끝나고 결제 실패 보상이 실행된다")
+        void failsPaymentAndCompensates() {
+            // given
+            Payment payment = paymentRepository.save(Payment.createCardPayment(
+                    savedOrder.getUser().getUserId(), savedOrder.getId(), 1000,
+                    new CardDetail("1234-5678-1234-5678", CardType.SAMSUNG, null)));
+            exhaustedOutbox(payment);
+
+            // when
+            int failed = paymentService.failExhaustedRequests(10);
+
+            // then
+            assertThat(failed).isEqualTo(1);
+            assertThat(paymentOutboxRepository.findExhausted(ZonedDateTime.now(), 5, 10)).isEmpty();
+            assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.FAILED);
+            assertThat(eventListener.get()).extracting(PaymentFailedEvent::orderId).containsExactly(savedOrder.getId());
+            await().untilAsserted(() -> assertThat(orderRepository.findById(savedOrder.getId()).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.FAILED));
+            assertThat(pg.getCallCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 트랜잭션키가 저장된 결제는 실패시키지 않고 전송 완료로 바꾼다")
+        void marksSent_whenPgAccepted() {
+            // given
+            Payment payment = newCardPending();
+            payment.updateTransactionKey("TX-accepted");
+            paymentRepository.save(payment);
+            exhaustedOutbox(payment);
+
+            // when
+            int failed = paymentService.failExhaustedRequests(10);
+
+            // then
+            assertThat(failed).isZero();
+            assertThat(paymentOutboxRepository.findExhausted(ZonedDateTime.now(), 5, 10)).isEmpty();
+            assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.PENDING);
+            assertThat(eventListener.get()).isEmpty();
+        }
+
+    }
+
+
     @DisplayName("updatePaymentStatusWithScheduler()")
     @Nested
     class UpdatePaymentStatusWithScheduler {
@@ -547,6 +791,52 @@ class PaymentServiceIntegrationTest {
             assertThat(pg.getDetailCallCount()).isEqualTo(3);
         }
 
+        @Test
+        @DisplayName("성공 - 여러 페이지에 걸친 PENDING 결제가 모두 동기화된다")
+        void success_syncAllPages() {
+            // given: 샤드 2개 x 페이지 크기 2 보다 많은 결제
+            List<Long> paymentIds = IntStream.range(0, 7)
+                    .mapToObj(i -> {
+                        Payment cardPending = newCardPending();
+                        cardPending.updateTransactionKey("TX-" + i);
+                        return paymentRepository.save(cardPending).getId();
+                    })
+                    .toList();
+
+            // when
+            paymentService.updatePaymentStatusWithScheduler();
+
+            // then
+            assertThat(paymentIds)
+                    .map(id -> paymentRepository.findById(id).orElseThrow().getStatus())
+                    .containsOnly(PaymentStatus.SUCCESS);
+            assertThat(pg.getDetailCallCount()).isEqualTo(4); // 샤드별 4건/3건을 페이지(2건)마다 한 번씩 일괄 조회
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 노드가 임대한 샤드의 결제는 건너뛴다")
+        void skipsShard_whenLeasedByOtherNode() {
+            // given
+            Payment cardPending = newCardPending();
+            cardPending.updateTransactionKey("TX-LEASED");
+            paymentRepository.save(cardPending);
+
+            int shard = (int) (cardPending.getId() % 2);
+            String token = paymentShardLease.acquire(shard).orElseThrow();
+
+            try {
+                // when
+                paymentService.updatePaymentStatusWithScheduler();
+
+                // then
+                Payment reloaded = paymentRepository.findById(cardPending.getId()).orElseThrow();
+                assertThat(reloaded.getStatus()).isEqualTo(PaymentStatus.PENDING);
+                assertThat(pg.getDetailCallCount()).isZero();
+            } finally {
+                paymentShardLease.release(shard, token);
+            }
+        }
+
     }
 
 
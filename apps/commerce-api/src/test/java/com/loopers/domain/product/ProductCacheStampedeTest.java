@@ -0,0 +1,93 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.support.TestFixture;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@DisplayName("캐시 스탬피드 테스트")
+class ProductCacheStampedeTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product savedProduct;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandRepository.save(TestFixture.createBrand());
+        savedProduct = productRepository.save(TestFixture.createProduct(brand));
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("캐시가 없는 상품을 동시에 조회해도 DB 조회는 한 번만 수행된다.")
+    @Test
+    void loadsFromDbOnce_whenConcurrentMiss() throws InterruptedException {
+        int threadCount = 30;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Queue<Product> results = new ConcurrentLinkedQueue<>();
+
+        Long productId = savedProduct.getId();
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    results.add(productService.getProductDetailForRedisTemplate(productId));
+                } catch (Exception e) {
+                    System.out.printf("[%s] 요청 실패: %s\n", Thread.currentThread().getName(), e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        latch.await();
+
+        List<Long> ids = results.stream().map(Product::getId).distinct().toList();
+        assertThat(results).hasSize(threadCount);
+        assertThat(ids).containsExactly(productId);
+        verify(productRepository, times(1)).findWithBrandById(productId);
+    }
+
+}
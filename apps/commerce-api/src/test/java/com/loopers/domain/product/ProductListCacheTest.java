@@ -0,0 +1,121 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.product.ProductCommand;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "cache.warm.product-list-pages=3")
+class ProductListCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductListCacheRepository productListCacheRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Brand testBrand;
+    private List<Product> testProducts;
+
+    @BeforeEach
+    void setupTestData() {
+        testBrand = brandRepository.save(Brand.create(
+                "브랜드명",
+                "브랜드설명",
+                "https://example.com/brand-image.jpg"
+        ));
+
+        testProducts = productRepository.saveAll(IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> Product.create(
+                        testBrand,
+                        "상품" + i,
+                        "상품설명",
+                        "https://example.com/product-image.jpg",
+                        i * 1000,
+                        10
+                ))
+                .toList());
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        productService.flushLikeCounts(); // 반영 대기 중인 좋아요 수가 다음 테스트로 넘어가지 않도록 비운다
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("목록 조회 시 페이지와 전체 개수가 캐시에 저장된다.")
+    @Test
+    void savesPageAndTotalCount_whenListIsRequested() {
+        // given
+        ProductCommand command = new ProductCommand(testBrand.getId(), 0, 20, Sort.by(Sort.Direction.ASC, "price"));
+
+        // when
+        Page<ProductSummary> result = productService.getProductSummaries(command);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(productListCacheRepository.findPage(testBrand.getId(), ProductSortType.PRICE_ASC, 0, 20))
+                .hasValueSatisfying(contents -> assertThat(contents).hasSize(5));
+        assertThat(productListCacheRepository.findTotalCount(testBrand.getId())).contains(5L);
+    }
+
+    @DisplayName("좋아요 수가 변경되어 커밋되면 목록 캐시가 제거되어 변경된 값이 조회된다.")
+    @Test
+    void evictsPages_whenLikeCountChanges() {
+        // given
+        Long productId = testProducts.get(0).getId();
+        ProductCommand command = new ProductCommand(testBrand.getId(), 0, 20, Sort.by(Sort.Direction.DESC, "likeCount"));
+        productService.getProductSummaries(command);
+
+        // when
+        productService.updateLikeCount(productId, "like");
+        productService.flushLikeCounts();
+        Page<ProductSummary> result = productService.getProductSummaries(command);
+
+        // then
+        assertThat(result.getContent().get(0).id()).isEqualTo(productId);
+        assertThat(result.getContent().get(0).likeCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("목록 캐시가 제거되면 다음 적재 주기에 앞쪽 페이지가 다시 채워진다.")
+    @Test
+    void rewarmsPages_afterEviction() {
+        // given
+        productService.evictListCache(testBrand.getId());
+
+        // when
+        productService.warmListCaches();
+
+        // then
+        assertThat(productListCacheRepository.existsPage(testBrand.getId(), ProductSortType.CREATED_AT_DESC, 0, 20))
+                .isTrue();
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "cache.near.enabled=true")
+class ProductNearCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setupTestData() {
+        Brand brand = brandRepository.save(Brand.create(
+                "브랜드명",
+                "브랜드설명",
+                "https://example.com/brand-image.jpg"
+        ));
+
+        testProduct = productRepository.save(Product.create(
+                brand,
+                "상품명",
+                "상품설명",
+                "https://example.com/product-image.jpg",
+                1000,
+                10
+        ));
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        productService.flushLikeCounts(); // 반영 대기 중인 좋아요 수가 다음 테스트로 넘어가지 않도록 비운다
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("L1 에 적재된 상품은 Redis 키가 없어도 L1 에서 조회된다.")
+    @Test
+    void returnsFromNearCache_whenRedisKeyIsGone() throws Exception {
+        // given
+        Long productId = testProduct.getId();
+        productService.getProductDetailForRedisTemplate(productId);
+        redisCleanUp.truncateAll();
+
+        // when
+        Product result = productService.getProductDetailForRedisTemplate(productId);
+
+        // then
+        assertThat(result.getId()).isEqualTo(productId);
+        assertThat(meterRegistry.get("cache.tier.gets")
+                .tags("cache", "productDetail", "tier", "l1", "result", "hit")
+                .counter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @DisplayName("좋아요 수가 변경되어 커밋되면 L1, L2 캐시가 모두 제거되어 변경된 값이 조회된다.")
+    @Test
+    void evictsBothTiers_whenLikeCountChanges() throws Exception {
+        // given
+        Long productId = testProduct.getId();
+        productService.getProductDetailForRedisTemplate(productId);
+
+        // when
+        productService.updateLikeCount(productId, "like");
+        productService.flushLikeCounts();
+        Product result = productService.getProductDetailForRedisTemplate(productId);
+
+        // then
+        assertThat(result.getLikeCount()).isEqualTo(1L);
+    }
+
+}
@@ -5,6 +5,8 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
 import com.loopers.domain.order.OrderItem;
 import com.loopers.support.TestFixture;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +15,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -34,6 +38,9 @@ class ProductServiceIntegrationTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -64,6 +71,7 @@ class ProductServiceIntegrationTest {
 
     @AfterEach
     void cleanDatabase() {
+        productService.flushLikeCounts(); // 반영 대기 중인 좋아요 수가 다음 테스트로 넘어가지 않도록 비운다
         databaseCleanUp.truncateAllTables();
     }
 
@@ -223,6 +231,100 @@ class ProductServiceIntegrationTest {
 
     }
 
+    @DisplayName("상품 읽기 모델 목록 조회 시,")
+    @Nested
+    class getProductSummaries {
+
+        @DisplayName("캐시하지 않는 정렬도 브랜드 정보와 전체 개수가 함께 조회된다.")
+        @Test
+        void returnsSummariesWithBrand_whenSortIsNotCached() {
+            // given
+            ProductCommand command = new ProductCommand(
+                    testBrand.getId(),
+                    1,
+                    10,
+                    Sort.by(Sort.Direction.ASC, "name")
+            );
+
+            // when
+            Page<ProductSummary> summaries = productService.getProductSummaries(command);
+
+            // then
+            assertAll(
+                    () -> assertThat(summaries.getContent()).hasSize(10),
+                    () -> assertThat(summaries.getTotalElements()).isEqualTo(30),
+                    () -> assertThat(summaries.getContent())
+                            .allSatisfy(summary -> assertThat(summary.brandName()).isEqualTo(testBrand.getName())),
+                    () -> assertThat(summaries.getContent())
+                            .extracting(ProductSummary::name)
+                            .isSorted()
+            );
+        }
+
+    }
+
+    @DisplayName("상품 목록 커서 조회 시,")
+    @Nested
+    class getProductScroll {
+
+        @DisplayName("커서를 따라가면 중복/누락 없이 모든 상품이 가격순으로 조회된다.")
+        @Test
+        void returnsAllProductsInOrder_whenFollowingCursor() {
+            // given
+            List<Long> ids = new ArrayList<>();
+            String cursor = null;
+            boolean hasNext = true;
+
+            // when
+            while (hasNext) {
+                ProductScroll scroll = productService.getProductScroll(testBrand.getId(), ProductSortType.PRICE_ASC, cursor, 7);
+                scroll.contents().forEach(summary -> ids.add(summary.id()));
+                cursor = scroll.nextCursor();
+                hasNext = scroll.hasNext();
+            }
+
+            // then
+            List<Long> expected = testProducts.stream()
+                    .sorted(Comparator.comparingInt(Product::getPrice))
+                    .map(Product::getId)
+                    .toList();
+            assertThat(ids).containsExactlyElementsOf(expected);
+        }
+
+        @DisplayName("정렬 키가 같은 상품은 id 로 구분되어 누락되지 않는다.")
+        @Test
+        void returnsAllProducts_whenSortKeysAreEqual() {
+            // given
+            ProductScroll first = productService.getProductScroll(testBrand.getId(), ProductSortType.LIKE_COUNT_DESC, null, 20);
+
+            // when
+            ProductScroll second = productService.getProductScroll(testBrand.getId(), ProductSortType.LIKE_COUNT_DESC, first.nextCursor(), 20);
+
+            // then
+            assertAll(
+                    () -> assertThat(first.hasNext()).isTrue(),
+                    () -> assertThat(second.hasNext()).isFalse(),
+                    () -> assertThat(second.nextCursor()).isNull(),
+                    () -> assertThat(first.contents().size() + second.contents().size()).isEqualTo(30)
+            );
+        }
+
+        @DisplayName("다른 정렬에서 발급된 커서로 조회하면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenCursorSortTypeMismatches() {
+            // given
+            ProductScroll first = productService.getProductScroll(testBrand.getId(), ProductSortType.PRICE_ASC, null, 10);
+
+            // when
+            CoreException exception = assertThrows(CoreException.class,
+                    () -> productService.getProductScroll(testBrand.getId(), ProductSortType.PRICE_DESC, first.nextCursor(), 10));
+
+            // then
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+    }
+
     @DisplayName("상품 상세 조회 시,")
     @Nested
     class getProductDetail {
@@ -264,95 +366,91 @@ class ProductServiceIntegrationTest {
 
     }
 
-    @DisplayName("상품 ID 목록으로 조회 시,")
+    @DisplayName("상품 재고 차감 시,")
     @Nested
-    class getProductsByIds {
+    class CheckAndDecreaseStock {
 
+        @DisplayName("재고가 충분하면 정상적으로 차감된다.")
         @Test
-        @DisplayName("존재하는 상품 ID 리스트로 상품들을 정상 조회한다.")
-        void success_whenProductIdsExist() {
+        void successToDecreaseStock() {
             // given
-            List<Product> savedProducts = productRepository.findByAll().subList(0, 3);
-            List<Long> productIds = savedProducts.stream()
-                    .map(Product::getId)
-                    .toList();
+            Product product = productRepository.findByAll().get(0); // 재고 10
+            List<OrderItem> items = TestFixture.createOrderItems(product, 3); // 수량 3
 
             // when
-            List<Product> foundProducts = productService.getProductsByIdsWithLock(productIds);
+            productService.checkAndDecreaseStock(items);
 
             // then
-            assertThat(foundProducts).hasSize(3);
-            assertThat(foundProducts)
-                    .extracting(Product::getId)
-                    .containsExactlyElementsOf(productIds);
+            Product updated = productRepository.findById(product.getId()).orElseThrow();
+            assertThat(updated.getStock()).isEqualTo(7);
         }
 
+        @DisplayName("같은 트랜잭션에서 이미 읽어 둔 상품은 차감된 재고로 다시 읽힌다.")
         @Test
-        @DisplayName("빈 ID 리스트를 전달하면 빈 결과를 반환한다.")
-        void returnEmpty_whenProductIdsIsEmpty() {
+        @Transactional
+        void refreshesLoadedProduct_afterDecrease() {
             // given
-            List<Long> productIds = List.of();
+            Product product = productRepository.findById(testProducts.get(0).getId()).orElseThrow(); // 재고 10
+            List<OrderItem> items = TestFixture.createOrderItems(product, 3);
 
             // when
-            List<Product> products = productService.getProductsByIdsWithLock(productIds);
+            productService.checkAndDecreaseStock(items);
 
             // then
-            assertThat(products).isEmpty();
+            assertThat(product.getStock()).isEqualTo(7);
         }
 
+        @DisplayName("차감 수량이 현재 재고보다 많으면 예외가 발생한다.")
         @Test
-        @DisplayName("존재하지 않는 상품 ID를 포함해도, 존재하는 상품만 조회된다.")
-        void returnPartial_whenSomeIdsDoNotExist() {
+        void failToDecreaseStock_whenInsufficientStock() {
             // given
-            List<Product> savedProducts = productRepository.findByAll().subList(0, 2);
-            List<Long> productIds = savedProducts.stream()
-                    .map(Product::getId)
-                    .toList();
-
-            List<Long> mixedIds = List.of(productIds.get(0), 999L, productIds.get(1));
-
-            // when
-            List<Product> found = productService.getProductsByIdsWithLock(mixedIds);
+            Product product = productRepository.findByAll().get(2); // 재고 10
+            List<OrderItem> items = TestFixture.createOrderItems(product, 15); // 수량 15
 
-            // then
-            assertThat(found).hasSize(2);
-            assertThat(found)
-                    .extracting(Product::getId)
-                    .containsExactlyInAnyOrderElementsOf(productIds);
+            // when & then
+            assertThrows(IllegalStateException.class, () -> {
+                productService.checkAndDecreaseStock(items);
+            });
         }
 
-    }
-
-    @DisplayName("상품 재고 차감 시,")
-    @Nested
-    class CheckAndDecreaseStock {
-
-        @DisplayName("재고가 충분하면 정상적으로 차감된다.")
+        @DisplayName("여러 상품 중 하나라도 재고가 부족하면, 어떤 상품의 재고도 차감되지 않는다.")
         @Test
-        void successToDecreaseStock() {
+        void failToDecreaseStock_whenAnyProductIsInsufficient() {
             // given
-            Product product = productRepository.findByAll().get(0); // 재고 10
-            List<OrderItem> items = TestFixture.createOrderItems(product, 3); // 수량 3
+            Product enough = testProducts.get(0); // 재고 10
+            Product insufficient = testProducts.get(1); // 재고 10
+            List<OrderItem> items = List.of(
+                    OrderItem.create(enough, 3, enough.getPrice()),
+                    OrderItem.create(insufficient, 11, insufficient.getPrice())
+            );
 
             // when
-            productService.checkAndDecreaseStock(items);
+            assertThrows(IllegalStateException.class, () -> productService.checkAndDecreaseStock(items));
 
             // then
-            Product updated = productRepository.findById(product.getId()).orElseThrow();
-            assertThat(updated.getStock()).isEqualTo(7);
+            assertThat(productRepository.findById(enough.getId()).orElseThrow().getStock()).isEqualTo(10);
         }
 
-        @DisplayName("차감 수량이 현재 재고보다 많으면 예외가 발생한다.")
+        @DisplayName("같은 상품이 여러 줄이면 수량을 합쳐 차감하고, 복원 시 같은 수량이 되돌아간다.")
         @Test
-        void failToDecreaseStock_whenInsufficientStock() {
+        void mergesQuantities_andRestoresSameAmount() {
             // given
-            Product product = productRepository.findByAll().get(2); // 재고 10
-            List<OrderItem> items = TestFixture.createOrderItems(product, 15); // 수량 15
+            Product product = testProducts.get(0); // 재고 10
+            List<OrderItem> items = List.of(
+                    OrderItem.create(product, 2, product.getPrice()),
+                    OrderItem.create(product, 3, product.getPrice())
+            );
 
-            // when & then
-            assertThrows(IllegalStateException.class, () -> {
-                productService.checkAndDecreaseStock(items);
-            });
+            // when
+            productService.checkAndDecreaseStock(items);
+            int decreasedStock = productRepository.findById(product.getId()).orElseThrow().getStock();
+            productService.restoreStocks(items);
+
+            // then
+            assertAll(
+                    () -> assertThat(decreasedStock).isEqualTo(5),
+                    () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(10)
+            );
         }
     }
 
@@ -390,6 +488,73 @@ class ProductServiceIntegrationTest {
             assertThat(productService.getLikeCount(product.getId())).isEqualTo(1L);
         }
 
+        @DisplayName("DB 반영 전에는 증감분이 합산되어 조회되고, 반영 후에는 상품에 저장된다")
+        @Test
+        void mergesPendingDelta_untilFlushed() {
+            // given
+            Product product = productRepository.findByAll().get(4);
+            productService.updateLikeCount(product.getId(), "like");
+            productService.updateLikeCount(product.getId(), "like");
+
+            // when
+            Long pendingLikeCount = productService.getLikeCount(product.getId());
+            Long storedBeforeFlush = productRepository.findById(product.getId()).orElseThrow().getLikeCount();
+            productService.flushLikeCounts();
+            Long storedAfterFlush = productRepository.findById(product.getId()).orElseThrow().getLikeCount();
+
+            // then
+            assertAll(
+                    () -> assertThat(pendingLikeCount).isEqualTo(2L),
+                    () -> assertThat(storedBeforeFlush).isEqualTo(0L),
+                    () -> assertThat(storedAfterFlush).isEqualTo(2L),
+                    () -> assertThat(productService.getLikeCount(product.getId())).isEqualTo(2L)
+            );
+        }
+
+        @DisplayName("반영이 커밋된 뒤 완료 전에 중단되어도, 반영 중 증감분은 조회에 합산되고 다음 반영에서 두 번 더해지지 않는다")
+        @Test
+        void appliesOnce_whenFlushInterruptedAfterCommit() {
+            // given (증감분을 꺼내 DB 에 반영한 뒤, 반영 중 증감분을 지우기 전에 중단된 상태)
+            Product product = productRepository.findByAll().get(6);
+            productService.updateLikeCount(product.getId(), "like");
+            PendingLikeCountFlush pending = likeCountBuffer.beginFlush().orElseThrow();
+            Long inFlightLikeCount = productService.getLikeCount(product.getId());
+            productRepository.addLikeCounts(pending.flushId(), pending.deltas());
+
+            // when
+            productService.flushLikeCounts();
+
+            // then
+            assertAll(
+                    () -> assertThat(inFlightLikeCount).isEqualTo(1L),
+                    () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getLikeCount())
+                            .isEqualTo(1L),
+                    () -> assertThat(productService.getLikeCount(product.getId())).isEqualTo(1L)
+            );
+        }
+
+        @DisplayName("동시 취소로 증감분 합이 현재 값보다 작아져도, 반영된 좋아요 수는 0 아래로 내려가지 않는다")
+        @Test
+        void floorsAtZero_whenConcurrentUnlikesOvershoot() {
+            // given
+            Product product = productRepository.findByAll().get(5);
+            productService.updateLikeCount(product.getId(), "like");
+            productService.flushLikeCounts();
+
+            // when (각자 1 을 읽고 통과한 두 취소 요청의 증감분)
+            productService.bufferLikeCount(product.getId(), -1L);
+            productService.bufferLikeCount(product.getId(), -1L);
+            Long pendingLikeCount = productService.getLikeCount(product.getId());
+            productService.flushLikeCounts();
+
+            // then
+            assertAll(
+                    () -> assertThat(pendingLikeCount).isEqualTo(0L),
+                    () -> assertThat(productRepository.findById(product.getId()).orElseThrow().getLikeCount())
+                            .isEqualTo(0L)
+            );
+        }
+
         @DisplayName("현재 카운트가 0일 때 unlike 타입을 호출하면 예외가 발생한다")
         @Test
         void fail_unlike_whenZero() {
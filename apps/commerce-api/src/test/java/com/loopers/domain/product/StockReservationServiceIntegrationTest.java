@@ -0,0 +1,227 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.support.TestFixture;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 반영 시점을 테스트에서 직접 제어하기 위해 스케줄러 주기를 길게 둔다
+@SpringBootTest(properties = {
+        "stock.reservation.enabled=true",
+        "stock.reservation.flush-interval-ms=3600000",
+        "stock.reservation.reconcile-interval-ms=3600000"
+})
+class StockReservationServiceIntegrationTest {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Brand brand;
+    private Product product; // 재고 10
+
+    @BeforeEach
+    void setUp() {
+        brand = brandRepository.save(TestFixture.createBrand());
+        product = productRepository.save(TestFixture.createProduct(brand));
+    }
+
+    @AfterEach
+    void cleanDatabase() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("재고 예약 시,")
+    @Nested
+    class Reserve {
+
+        @DisplayName("동시에 재고보다 많이 예약해도 재고만큼만 성공하고, 반영 후 DB 재고가 0이 된다.")
+        @Test
+        void reservesOnlyAvailableStock_underConcurrency() throws InterruptedException {
+            // given
+            int threadCount = 15;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        stockReservationService.reserve(TestFixture.createOrderItems(product, 1));
+                        successCount.incrementAndGet();
+                    } catch (Exception ignored) {
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+            stockReservationService.flush();
+
+            // then
+            Product updated = productRepository.findById(product.getId()).orElseThrow();
+            assertAll(
+                    () -> assertThat(successCount.get()).isEqualTo(10),
+                    () -> assertThat(updated.getStock()).isZero()
+            );
+        }
+
+        @DisplayName("여러 상품 중 하나라도 재고가 부족하면, 어떤 상품의 재고도 차감되지 않는다.")
+        @Test
+        void reservesNothing_whenAnyProductIsInsufficient() {
+            // given
+            Product other = productRepository.save(Product.create(
+                    brand, "한정판", "운동화", "https://example.com/logo.png", 1000, 1));
+            List<OrderItem> items = List.of(
+                    OrderItem.create(product, 3, product.getPrice()),
+                    OrderItem.create(other, 2, other.getPrice())
+            );
+
+            // when
+            assertThrows(IllegalStateException.class, () -> stockReservationService.reserve(items));
+
+            // then
+            stockReservationService.reserve(TestFixture.createOrderItems(product, 10)); // 10 모두 남아 있어야 성공
+            assertThrows(IllegalStateException.class,
+                    () -> stockReservationService.reserve(TestFixture.createOrderItems(product, 1)));
+        }
+
+    }
+
+    @DisplayName("예약 차감분 반영 시,")
+    @Nested
+    class Flush {
+
+        @DisplayName("DB 반영 후 완료 전에 중단되어 같은 차감분을 다시 꺼내도, 한 번만 반영된다.")
+        @Test
+        void appliesOnce_whenInterruptedAfterCommit() {
+            // given
+            stockReservationService.reserve(TestFixture.createOrderItems(product, 3));
+            PendingStockFlush pending = stockReservationRepository.beginFlush().orElseThrow();
+            productRepository.decreaseStocks(pending.flushId(), pending.decreases()); // 커밋 후
+            stockReservationRepository.abortFlush(); // 완료 전에 중단되어 락만 풀림
+
+            // when
+            stockReservationService.flush();
+            stockReservationService.flush();
+
+            // then
+            Product updated = productRepository.findById(product.getId()).orElseThrow();
+            assertAll(
+                    () -> assertThat(updated.getStock()).isEqualTo(7),
+                    () -> assertThat(stockReservationRepository.beginFlush()).isEmpty()
+            );
+        }
+
+        @DisplayName("반영에 실패한 차감분은 남아 있다가 다음 반영에서 새 예약분과 함께 반영된다.")
+        @Test
+        void retriesSameFlush_afterAbort() {
+            // given
+            stockReservationService.reserve(TestFixture.createOrderItems(product, 2));
+            PendingStockFlush first = stockReservationRepository.beginFlush().orElseThrow();
+            stockReservationRepository.abortFlush();
+            stockReservationService.reserve(TestFixture.createOrderItems(product, 1));
+
+            // when
+            PendingStockFlush retried = stockReservationRepository.beginFlush().orElseThrow();
+            stockReservationRepository.abortFlush();
+            stockReservationService.flush();
+            stockReservationService.flush();
+
+            // then
+            Product updated = productRepository.findById(product.getId()).orElseThrow();
+            assertAll(
+                    () -> assertThat(retried.flushId()).isEqualTo(first.flushId()),
+                    () -> assertThat(retried.decreases()).containsEntry(product.getId(), 2L),
+                    () -> assertThat(updated.getStock()).isEqualTo(7)
+            );
+        }
+
+    }
+
+    @DisplayName("재고 예약 취소 시,")
+    @Nested
+    class Release {
+
+        @DisplayName("예약한 재고가 되돌아가고, 두 번 취소해도 한 번만 되돌아간다.")
+        @Test
+        void restoresStockOnce() {
+            // given
+            String reservationId = stockReservationService.reserve(TestFixture.createOrderItems(product, 4));
+            stockReservationService.flush();
+
+            // when
+            boolean first = stockReservationService.release(reservationId);
+            boolean second = stockReservationService.release(reservationId);
+            stockReservationService.flush();
+
+            // then
+            Product updated = productRepository.findById(product.getId()).orElseThrow();
+            assertAll(
+                    () -> assertThat(first).isTrue(),
+                    () -> assertThat(second).isFalse(),
+                    () -> assertThat(updated.getStock()).isEqualTo(10)
+            );
+        }
+
+    }
+
+    @DisplayName("재고 대조 시,")
+    @Nested
+    class Reconcile {
+
+        @DisplayName("반영 대기 차감분이 없으면 Redis 재고를 DB 재고로 맞춘다.")
+        @Test
+        void overwritesRedisStock_whenDbStockChanged() {
+            // given
+            stockReservationService.reserve(TestFixture.createOrderItems(product, 1));
+            stockReservationService.flush();
+
+            Product restocked = productRepository.findById(product.getId()).orElseThrow();
+            restocked.restoreStock(5); // 9 -> 14 (예약을 거치지 않은 입고)
+            productRepository.save(restocked);
+
+            // when
+            stockReservationService.reconcile();
+
+            // then
+            stockReservationService.reserve(TestFixture.createOrderItems(product, 14));
+            assertThrows(IllegalStateException.class,
+                    () -> stockReservationService.reserve(TestFixture.createOrderItems(product, 1)));
+        }
+
+    }
+
+}
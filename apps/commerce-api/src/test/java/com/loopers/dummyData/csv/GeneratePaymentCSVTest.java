@@ -0,0 +1,91 @@
+package com.loopers.dummyData.csv;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * 결제 이력 대량 데이터 생성 (콜백/상태 동기화 조회 성능 측정용)
+ * - 대부분 확정(SUCCESS/FAILED)된 과거 결제이고, 최근 결제 일부만 PENDING 으로 남긴다.
+ * - 적재 및 측정 쿼리: docs/sql/결제조회.sql
+ */
+public class GeneratePaymentCSVTest {
+
+    static final Random random = new Random(42); // 재현성 위해 고정 시드
+    static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    static final DateTimeFormatter keyFormatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    public static void main(String[] args) throws IOException {
+        String projectRoot = System.getProperty("user.dir");
+        String outputDir = projectRoot + "/apps/commerce-api/src/test/java/com/loopers/dummyData/csv";
+        new java.io.File(outputDir).mkdirs();
+
+        int paymentCount = 3_000_000; // ← 필요 시 변경 (1백만 / 3백만 / 1천만으로 바꿔가며 콜백 조회 시간을 비교)
+        int pendingCount = 5_000;     // ← 최근 결제 중 PENDING 으로 남길 건수
+
+        String paymentFile = outputDir + "/payments_" + paymentCount + ".csv";
+        generatePayments(paymentFile, paymentCount, pendingCount);
+
+        System.out.println("✅ CSV 생성 완료!");
+        System.out.println("결제: " + paymentFile);
+    }
+
+    /**
+     * 결제 생성:
+     * - id 순으로 created_at 이 증가한다 (최근 365일)
+     * - method: CARD 80%, POINT 20% (POINT 는 카드 정보/transaction_key 없음)
+     * - status: 마지막 pendingCount 건의 카드 결제는 PENDING, 나머지는 SUCCESS 90% / FAILED 10%
+     * - transaction_key: yyyyMMdd:TR:{id 16진수} (PG 형식, 유일)
+     */
+    private static void generatePayments(String filePath, int count, int pendingCount) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(Paths.get(filePath))) {
+            w.write("id,user_id,order_id,amount,method,status,reason,card_no,card_type,transaction_key,created_at,updated_at");
+            w.newLine();
+
+            LocalDateTime start = LocalDateTime.now().minusDays(365);
+            long stepSeconds = Math.max(1, 365L * 24 * 60 * 60 / count);
+
+            for (int id = 1; id <= count; id++) {
+                LocalDateTime createdAt = start.plusSeconds(stepSeconds * id);
+                String userId = "user" + (random.nextInt(100_000) + 1);
+                int amount = (random.nextInt(2000) + 10) * 100; // 1,000 ~ 200,000
+                boolean card = random.nextInt(100) < 80;
+
+                String status;
+                String reason = "";
+                if (card && id > count - pendingCount) {
+                    status = "PENDING";
+                } else if (random.nextInt(100) < 90) {
+                    status = "SUCCESS";
+                } else {
+                    status = "FAILED";
+                    reason = "한도초과입니다.";
+                }
+
+                String cardNo = card ? String.format("1234-5678-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)) : "\\N";
+                String cardType = card ? pickCardType() : "\\N";
+                String transactionKey = card ? createdAt.format(keyFormatter) + ":TR:" + Integer.toHexString(id) : "\\N";
+
+                w.write(String.format(
+                        "%d,%s,%d,%d,%s,%s,%s,%s,%s,%s,%s,%s",
+                        id, userId, id, amount, card ? "CARD" : "POINT", status, reason,
+                        cardNo, cardType, transactionKey, createdAt.format(formatter), createdAt.format(formatter)
+                ));
+                w.newLine();
+            }
+        }
+    }
+
+    private static String pickCardType() {
+        return switch (random.nextInt(3)) {
+            case 0 -> "SAMSUNG";
+            case 1 -> "KB";
+            default -> "HYUNDAI";
+        };
+    }
+
+}
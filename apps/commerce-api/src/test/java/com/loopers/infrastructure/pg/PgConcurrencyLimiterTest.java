@@ -0,0 +1,65 @@
+package com.loopers.infrastructure.pg;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PgConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PgConcurrencyLimiter limiter(int initialLimit) {
+        return new PgConcurrencyLimiter("test", meterRegistry, initialLimit, 1, 10, Duration.ofSeconds(2), 0.5);
+    }
+
+    @DisplayName("한도만큼 진행 중이면 호출하지 않고 즉시 거절한다.")
+    @Test
+    void rejects_whenLimitReached() {
+        PgConcurrencyLimiter limiter = limiter(2);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        limiter.execute(() -> first);
+        limiter.execute(() -> second);
+
+        CompletableFuture<String> rejected = limiter.execute(() -> CompletableFuture.completedFuture("called"));
+
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(PgBulkheadFullException.class);
+        assertThat(meterRegistry.get("pg.bulkhead.rejected").counter().count()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @DisplayName("PG 장애로 실패하면 한도를 줄이고, 4xx 는 한도를 줄이지 않는다.")
+    @Test
+    void decreasesLimit_onlyWhenOverloaded() {
+        PgConcurrencyLimiter limiter = limiter(8);
+
+        limiter.execute(() -> CompletableFuture.failedFuture(new PgClientException(400, "bad request")));
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        limiter.execute(() -> CompletableFuture.failedFuture(new IOException("timeout")));
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @DisplayName("한도를 절반 이상 쓰는 동안 빠르게 응답하면 한도를 늘린다.")
+    @Test
+    void increasesLimit_whenFastAndUtilized() {
+        PgConcurrencyLimiter limiter = limiter(2);
+        CompletableFuture<String> holding = new CompletableFuture<>();
+        limiter.execute(() -> holding);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.execute(() -> CompletableFuture.completedFuture("ok"));
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(3);
+    }
+
+}
@@ -8,37 +8,51 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class PaymentApplicationService {
 
-    private static final int RATE_LIMIT_EXCEEDED_START = 1;
-    private static final int RATE_LIMIT_EXCEEDED_END = 20;
-    private static final int RATE_INVALID_CARD_START = 21;
-    private static final int RATE_INVALID_CARD_END = 30;
+    public static final int MAX_TRANSACTION_KEYS = 1000;
 
     private final PaymentRepository paymentRepository;
     private final PaymentEventPublisher paymentEventPublisher;
     private final PaymentRelay paymentRelay;
     private final TransactionKeyGenerator transactionKeyGenerator;
+    private final PaymentSimulationPolicy paymentSimulationPolicy;
 
     public PaymentApplicationService(
     PaymentRepository paymentRepository,
     PaymentEventPublisher paymentEventPublisher,
     PaymentRelay paymentRelay,
-    TransactionKeyGenerator transactionKeyGenerator
+    TransactionKeyGenerator transactionKeyGenerator,
+    PaymentSimulationPolicy paymentSimulationPolicy
     ) {
         this.paymentRepository = paymentRepository;
         this.paymentEventPublisher = paymentEventPublisher;
         this.paymentRelay = paymentRelay;
         this.transactionKeyGenerator = transactionKeyGenerator;
+        this.paymentSimulationPolicy = paymentSimulationPolicy;
     }
 
+    /**
+     * 결제건을 만든다.
+     * - 멱등키가 같은 결제건이 이미 있으면 새로 만들지 않고 그 결제건을 돌려준다. (응답을 받지 못한 가맹점의 재전송)
+     * - 같은 키로 동시에 들어오면 한쪽은 유니크 키 위반으로 실패하며, 호출 측에서 {@link #findByIdempotencyKey} 로 다시 읽는다.
+     */
     @Transactional
     public TransactionInfo createTransaction(PaymentCommand command) {
         command.validate();
 
+        if (command.idempotencyKey() != null) {
+            Optional<Payment> existing = paymentRepository.findByIdempotencyKey(command.userId(), command.idempotencyKey());
+            if (existing.isPresent()) {
+                return TransactionInfo.from(existing.get());
+            }
+        }
+
         String transactionKey = transactionKeyGenerator.generate();
         Payment payment = paymentRepository.save(
                 Payment.create(
@@ -48,7 +62,8 @@ public class PaymentApplicationService {
                         command.cardType(),
                         command.cardNo(),
                         command.amount(),
-                        command.callBackUrl()
+                        command.callBackUrl(),
+                        command.idempotencyKey()
                 )
         );
 
@@ -56,6 +71,14 @@ public class PaymentApplicationService {
         return TransactionInfo.from(payment);
     }
 
+    @Transactional(readOnly = true)
+    public TransactionInfo findByIdempotencyKey(String userId, String idempotencyKey) {
+        Payment payment = paymentRepository.findByIdempotencyKey(userId, idempotencyKey)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "(idempotencyKey: " + idempotencyKey + ") 결제건이 존재하지 않습니다."));
+
+        return TransactionInfo.from(payment);
+    }
+
     @Transactional(readOnly = true)
     public TransactionInfo getTransactionDetailInfo(UserInfo userInfo, String transactionKey) {
         Payment payment = paymentRepository.findByTransactionKey(userInfo.userId(), transactionKey)
@@ -78,18 +101,32 @@ public class PaymentApplicationService {
         return new OrderInfo(orderId, transactions);
     }
 
+    /**
+     * 여러 결제건을 한 번에 조회한다. 가맹점의 상태 대조용이므로 사용자로 제한하지 않으며, 없는 결제건은 결과에서 빠진다.
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionInfo> findTransactions(List<String> transactionKeys) {
+        if (transactionKeys == null || transactionKeys.isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회할 트랜잭션 KEY 는 1개 이상이어야 합니다.");
+        }
+        if (transactionKeys.size() > MAX_TRANSACTION_KEYS) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 트랜잭션은 " + MAX_TRANSACTION_KEYS + "건 이하입니다.");
+        }
+
+        return paymentRepository.findByTransactionKeys(Set.copyOf(transactionKeys)).stream()
+            .map(TransactionInfo::from)
+            .toList();
+    }
+
     @Transactional
     public void handle(String transactionKey) {
         Payment payment = paymentRepository.findByTransactionKey(transactionKey)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "(transactionKey: " + transactionKey + ") 결제건이 존재하지 않습니다."));
 
-        int rate = (int) (Math.random() * 100) + 1;
-        if (rate >= RATE_LIMIT_EXCEEDED_START && rate <= RATE_LIMIT_EXCEEDED_END) {
-            payment.limitExceeded();
-        } else if (rate >= RATE_INVALID_CARD_START && rate <= RATE_INVALID_CARD_END) {
-            payment.invalidCard();
-        } else {
-            payment.approve();
+        switch (paymentSimulationPolicy.nextOutcome()) {
+            case LIMIT_EXCEEDED -> payment.limitExceeded();
+            case INVALID_CARD -> payment.invalidCard();
+            case APPROVED -> payment.approve();
         }
         paymentEventPublisher.publish(PaymentEvent.PaymentHandled.from(payment));
     }
@@ -0,0 +1,24 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentRelay;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentCallbackRetryScheduler {
+
+    private final PaymentRelay paymentRelay;
+
+    public PaymentCallbackRetryScheduler(PaymentRelay paymentRelay) {
+        this.paymentRelay = paymentRelay;
+    }
+
+    /**
+     * 전송에 실패한 콜백을 다시 보내는 스케줄러
+     */
+    @Scheduled(fixedDelayString = "${pg.callback.retry.poll-interval-ms:1000}")
+    public void retryFailedCallbacks() {
+        paymentRelay.retryPending();
+    }
+
+}
@@ -11,7 +11,8 @@ public record PaymentCommand(
     CardType cardType,
     String cardNo,
     int amount,
-    String callBackUrl
+    String callBackUrl,
+    String idempotencyKey
 ) {
 
     public void validate() {
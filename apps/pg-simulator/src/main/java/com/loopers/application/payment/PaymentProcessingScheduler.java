@@ -0,0 +1,81 @@
+package com.loopers.application.payment;
+
+import com.loopers.config.simulation.PaymentSimulationProperties;
+import com.loopers.domain.payment.PaymentSimulationPolicy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 처리 지연 큐
+ * - 결제마다 스레드를 재우지 않고, 처리 시각을 타이머 큐(ScheduledThreadPoolExecutor)에 등록해 수만 건이 대기해도 스레드를 점유하지 않는다.
+ * - 처리 시각이 되면 가상 스레드에서 처리하며, 동시 처리 수는 pg.simulation.processing.concurrency 로 제한한다.
+ * - 대기 중인 결제는 메모리에만 있으므로 재시작하면 PENDING 으로 남는다.
+ */
+@Component
+public class PaymentProcessingScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentProcessingScheduler.class);
+
+    private final PaymentApplicationService paymentApplicationService;
+    private final PaymentSimulationPolicy paymentSimulationPolicy;
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutorService worker = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public PaymentProcessingScheduler(
+            PaymentApplicationService paymentApplicationService,
+            PaymentSimulationPolicy paymentSimulationPolicy,
+            PaymentSimulationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentApplicationService = paymentApplicationService;
+        this.paymentSimulationPolicy = paymentSimulationPolicy;
+        this.timer = new ScheduledThreadPoolExecutor(properties.getProcessing().getTimerThreads());
+        this.permits = new Semaphore(properties.getProcessing().getConcurrency());
+
+        Gauge.builder("pg.simulation.pending", pending, AtomicInteger::get)
+                .description("처리 시각을 기다리거나 처리 중인 결제 수")
+                .register(meterRegistry);
+    }
+
+    public void schedule(String transactionKey) {
+        pending.incrementAndGet();
+        timer.schedule(
+                () -> worker.execute(() -> process(transactionKey)),
+                paymentSimulationPolicy.nextDelay().toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void process(String transactionKey) {
+        permits.acquireUninterruptibly();
+        try {
+            paymentApplicationService.handle(transactionKey);
+        } catch (Exception e) {
+            logger.error("결제 처리를 실패했습니다. transactionKey: {}", transactionKey, e);
+        } finally {
+            permits.release();
+            pending.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        timer.shutdownNow();
+        worker.shutdown();
+        worker.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.loopers.config.callback;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제 결과 콜백 전송 설정
+ */
+@ConfigurationProperties(value = "pg.callback")
+@Getter
+@Setter
+public class PaymentCallbackProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration requestTimeout = Duration.ofSeconds(3);
+    // 콜백 호스트별 동시 요청 수
+    private int maxConnectionsPerHost = 50;
+    // 전송 대기 중인 콜백 수 상한 (초과분은 재시도 큐에 저장한다)
+    private int maxPending = 50_000;
+
+    private Batch batch = new Batch();
+    private Retry retry = new Retry();
+
+    @Getter
+    @Setter
+    public static class Batch {
+        // 같은 URL 로 쌓인 콜백을 {callbackUrl}/batch 로 한 번에 보낸다 (받는 쪽이 지원해야 한다)
+        private boolean enabled = false;
+        private int maxSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        private int batchSize = 500;
+        // 재시도 대기 시간 (시도마다 2배, 최대 max-backoff)
+        private Duration backoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofMinutes(5);
+        private int maxAttempts = 10;
+        // 재시도 점유 시간 (요청 타임아웃보다 길게 둔다)
+        private Duration claimTimeout = Duration.ofSeconds(30);
+    }
+
+}
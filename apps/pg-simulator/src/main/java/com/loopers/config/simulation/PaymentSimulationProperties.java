@@ -0,0 +1,55 @@
+package com.loopers.config.simulation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제 처리 시뮬레이션 설정
+ * - 결제 요청 후 처리 결과가 나오기까지의 지연과 실패 비율을 부하 테스트 시나리오에 맞게 조절한다.
+ */
+@ConfigurationProperties(value = "pg.simulation")
+@Getter
+@Setter
+public class PaymentSimulationProperties {
+
+    private Latency latency = new Latency();
+    private Failure failure = new Failure();
+    private Processing processing = new Processing();
+
+    public enum Distribution {
+        FIXED,      // 항상 min
+        UNIFORM,    // min ~ max 균등 분포
+        LOG_NORMAL  // 중앙값 median, 꼬리 두께 sigma 인 로그 정규 분포 (min ~ max 로 자른다)
+    }
+
+    @Getter
+    @Setter
+    public static class Latency {
+        private Distribution distribution = Distribution.UNIFORM;
+        private Duration min = Duration.ofSeconds(1);
+        private Duration max = Duration.ofSeconds(5);
+        private Duration median = Duration.ofSeconds(2);
+        private double sigma = 0.5;
+    }
+
+    @Getter
+    @Setter
+    public static class Failure {
+        // 나머지 비율은 승인된다
+        private double limitExceededRate = 0.2;
+        private double invalidCardRate = 0.1;
+    }
+
+    @Getter
+    @Setter
+    public static class Processing {
+        // 지연 대기 중인 결제는 타이머 큐에만 쌓이고 스레드를 점유하지 않는다
+        private int timerThreads = 2;
+        // 지연이 끝난 결제를 동시에 처리하는 수 (DB 커넥션 풀 크기보다 작게 둔다)
+        private int concurrency = 32;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.loopers.domain.payment;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전송에 실패한 결제 결과 콜백
+ * - 보낸 본문을 그대로 저장해 두고, next_attempt_at 이 지나면 다시 보낸다. 전송에 성공하면 삭제된다.
+ */
+@Getter
+@Entity
+@Table(
+    name = "callback_retries",
+    indexes = {
+        @Index(name = "idx_status_next_attempt", columnList = "status, next_attempt_at")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CallbackRetry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "callback_url", nullable = false)
+    private String callbackUrl;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CallbackRetryStatus status = CallbackRetryStatus.PENDING;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", nullable = true)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public static CallbackRetry create(
+        String callbackUrl,
+        String payload,
+        int attemptCount,
+        LocalDateTime nextAttemptAt,
+        boolean giveUp,
+        String lastError
+    ) {
+        CallbackRetry retry = new CallbackRetry();
+
+        retry.callbackUrl = callbackUrl;
+        retry.payload = payload;
+        retry.attemptCount = attemptCount;
+        retry.nextAttemptAt = nextAttemptAt;
+        retry.status = giveUp ? CallbackRetryStatus.FAILED : CallbackRetryStatus.PENDING;
+        retry.lastError = lastError;
+
+        return retry;
+    }
+
+}
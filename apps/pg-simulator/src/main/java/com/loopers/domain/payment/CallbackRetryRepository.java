@@ -0,0 +1,19 @@
+package com.loopers.domain.payment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CallbackRetryRepository {
+
+    void saveAll(List<CallbackRetry> retries);
+
+    List<CallbackRetry> findDue(LocalDateTime now, int limit);
+
+    boolean claim(Long id, LocalDateTime now, LocalDateTime claimUntil);
+
+    void reschedule(Long id, int attemptCount, LocalDateTime nextAttemptAt, boolean giveUp, String lastError);
+
+    void deleteAllByIds(Collection<Long> ids);
+
+}
@@ -0,0 +1,6 @@
+package com.loopers.domain.payment;
+
+public enum CallbackRetryStatus {
+    PENDING,
+    FAILED
+}
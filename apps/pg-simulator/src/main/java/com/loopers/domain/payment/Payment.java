@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_user_transaction", columnList = "user_id, transaction_key"),
         @Index(name = "idx_user_order", columnList = "user_id, order_id"),
-        @Index(name = "idx_unique_user_order_transaction", columnList = "user_id, order_id, transaction_key", unique = true)
+        @Index(name = "idx_unique_user_order_transaction", columnList = "user_id, order_id, transaction_key", unique = true),
+        @Index(name = "idx_unique_user_idempotency_key", columnList = "user_id, idempotency_key", unique = true)
     }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -45,6 +46,10 @@ public class Payment {
     @Column(name = "callback_url", nullable = false)
     private String callbackUrl;
 
+    // 같은 키로 다시 요청하면 새 결제건을 만들지 않는다 (없으면 중복 검사 안 함)
+    @Column(name = "idempotency_key", nullable = true)
+    private String idempotencyKey;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private TransactionStatus status = TransactionStatus.PENDING;
@@ -65,7 +70,8 @@ public class Payment {
         CardType cardType,
         String cardNo,
         int amount,
-        String callbackUrl
+        String callbackUrl,
+        String idempotencyKey
     ) {
         Payment payment = new Payment();
 
@@ -76,6 +82,7 @@ public class Payment {
         payment.cardNo = cardNo;
         payment.amount = amount;
         payment.callbackUrl = callbackUrl;
+        payment.idempotencyKey = idempotencyKey;
 
         return payment;
     }
@@ -0,0 +1,7 @@
+package com.loopers.domain.payment;
+
+public enum PaymentOutcome {
+    APPROVED,
+    LIMIT_EXCEEDED,
+    INVALID_CARD
+}
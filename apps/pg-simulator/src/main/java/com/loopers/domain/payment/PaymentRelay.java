@@ -4,6 +4,14 @@ import com.loopers.application.payment.TransactionInfo;
 
 public interface PaymentRelay {
 
+    /**
+     * 결제 결과를 콜백 URL 로 전송한다. 전송은 비동기로 이루어지며, 실패하면 재시도 큐에 저장된다.
+     */
     void notify(String callbackUrl, TransactionInfo transactionInfo);
 
+    /**
+     * 재시도 시각이 지난 콜백을 다시 전송한다.
+     */
+    void retryPending();
+
 }
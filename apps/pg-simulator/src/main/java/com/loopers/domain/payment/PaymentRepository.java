@@ -1,5 +1,6 @@
 package com.loopers.domain.payment;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +14,8 @@ public interface PaymentRepository {
 
     List<Payment> findByOrderId(String userId, Long orderId);
 
+    Optional<Payment> findByIdempotencyKey(String userId, String idempotencyKey);
+
+    List<Payment> findByTransactionKeys(Collection<String> transactionKeys);
+
 }
@@ -0,0 +1,14 @@
+package com.loopers.domain.payment;
+
+import java.time.Duration;
+
+/**
+ * 결제 처리 지연과 결과를 정한다.
+ */
+public interface PaymentSimulationPolicy {
+
+    Duration nextDelay();
+
+    PaymentOutcome nextOutcome();
+
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.CallbackRetry;
+import com.loopers.domain.payment.CallbackRetryRepository;
+import com.loopers.domain.payment.CallbackRetryStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+public class CallbackRetryCoreRepository implements CallbackRetryRepository {
+
+    private final CallbackRetryJpaRepository callbackRetryJpaRepository;
+
+    public CallbackRetryCoreRepository(CallbackRetryJpaRepository callbackRetryJpaRepository) {
+        this.callbackRetryJpaRepository = callbackRetryJpaRepository;
+    }
+
+    @Transactional
+    @Override
+    public void saveAll(List<CallbackRetry> retries) {
+        callbackRetryJpaRepository.saveAll(retries);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<CallbackRetry> findDue(LocalDateTime now, int limit) {
+        return callbackRetryJpaRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                CallbackRetryStatus.PENDING, now, PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    @Override
+    public boolean claim(Long id, LocalDateTime now, LocalDateTime claimUntil) {
+        return callbackRetryJpaRepository.claim(id, now, claimUntil) == 1;
+    }
+
+    @Transactional
+    @Override
+    public void reschedule(Long id, int attemptCount, LocalDateTime nextAttemptAt, boolean giveUp, String lastError) {
+        callbackRetryJpaRepository.reschedule(
+                id,
+                attemptCount,
+                nextAttemptAt,
+                giveUp ? CallbackRetryStatus.FAILED : CallbackRetryStatus.PENDING,
+                lastError,
+                LocalDateTime.now()
+        );
+    }
+
+    @Transactional
+    @Override
+    public void deleteAllByIds(Collection<Long> ids) {
+        callbackRetryJpaRepository.deleteAllByIdInBatch(ids);
+    }
+
+}
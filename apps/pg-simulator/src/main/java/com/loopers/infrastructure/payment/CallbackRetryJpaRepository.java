@@ -0,0 +1,36 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.CallbackRetry;
+import com.loopers.domain.payment.CallbackRetryStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CallbackRetryJpaRepository extends JpaRepository<CallbackRetry, Long> {
+
+    List<CallbackRetry> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            CallbackRetryStatus status, LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update CallbackRetry r set r.nextAttemptAt = :claimUntil, r.updatedAt = :now " +
+            "where r.id = :id and r.status = com.loopers.domain.payment.CallbackRetryStatus.PENDING and r.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("claimUntil") LocalDateTime claimUntil);
+
+    @Modifying
+    @Query("update CallbackRetry r set r.attemptCount = :attemptCount, r.nextAttemptAt = :nextAttemptAt, " +
+            "r.status = :status, r.lastError = :lastError, r.updatedAt = :now where r.id = :id")
+    int reschedule(
+            @Param("id") Long id,
+            @Param("attemptCount") int attemptCount,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("status") CallbackRetryStatus status,
+            @Param("lastError") String lastError,
+            @Param("now") LocalDateTime now
+    );
+
+}
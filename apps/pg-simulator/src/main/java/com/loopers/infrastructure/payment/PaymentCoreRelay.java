@@ -1,24 +1,314 @@
 package com.loopers.infrastructure.payment;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.payment.TransactionInfo;
+import com.loopers.config.callback.PaymentCallbackProperties;
+import com.loopers.domain.payment.CallbackRetry;
+import com.loopers.domain.payment.CallbackRetryRepository;
 import com.loopers.domain.payment.PaymentRelay;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 결과 콜백 전송
+ * - JDK HttpClient(keep-alive 커넥션 풀)로 비동기 전송하며, 콜백 호스트별 동시 요청 수를 max-connections-per-host 로 제한한다.
+ *   한도를 넘는 콜백은 URL 별 대기열에서 기다리고, batch 를 켜면 대기열에 쌓인 콜백을 callbackUrl 경로 끝에 /batch 를 붙인 URL 로 한 번에 보낸다.
+ * - 전송에 실패하거나 대기열이 가득 차면 callback_retries 에 저장하고, 지수 백오프로 max-attempts 까지 다시 보낸다.
+ *   4xx(429 제외)는 다시 보내도 실패하므로 바로 FAILED 로 둔다.
+ * - 지표: pg.callback.requests{host, outcome}, pg.callback.deliveries{result}, pg.callback.batch.size, pg.callback.pending
+ */
 @Component
 public class PaymentCoreRelay implements PaymentRelay {
 
     private static final Logger logger = LoggerFactory.getLogger(PaymentCoreRelay.class);
-    private static final RestTemplate restTemplate = new RestTemplate();
+    private static final String BATCH_PATH_SEGMENT = "batch";
+    private static final String SPILL_ERROR = "전송 대기열이 가득 찼습니다.";
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final CallbackRetryRepository callbackRetryRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final PaymentCallbackProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final DistributionSummary batchSize;
+
+    public PaymentCoreRelay(
+            CallbackRetryRepository callbackRetryRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            PaymentCallbackProperties properties
+    ) {
+        this.callbackRetryRepository = callbackRetryRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .executor(executor)
+                .build();
+
+        Gauge.builder("pg.callback.pending", pending, AtomicInteger::get)
+                .description("전송 대기 중이거나 전송 중인 콜백 수")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("pg.callback.batch.size")
+                .description("요청 한 번에 보낸 콜백 수")
+                .register(meterRegistry);
+    }
 
     @Override
     public void notify(String callbackUrl, TransactionInfo transactionInfo) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(transactionInfo);
+        } catch (JsonProcessingException e) {
+            logger.error("콜백 본문을 만들 수 없습니다. transactionKey: {}", transactionInfo.transactionKey(), e);
+            return;
+        }
+        enqueue(new Delivery(callbackUrl, payload, null, 0));
+    }
+
+    @Override
+    public void retryPending() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimUntil = now.plus(properties.getRetry().getClaimTimeout());
+        for (CallbackRetry retry : callbackRetryRepository.findDue(now, properties.getRetry().getBatchSize())) {
+            if (callbackRetryRepository.claim(retry.getId(), now, claimUntil)) {
+                enqueue(new Delivery(retry.getCallbackUrl(), retry.getPayload(), retry.getId(), retry.getAttemptCount()));
+            }
+        }
+    }
+
+    private void enqueue(Delivery delivery) {
+        String authority = authority(delivery.callbackUrl());
+        if (authority == null) {
+            count("gave_up", 1);
+            logger.error("콜백 URL 이 올바르지 않습니다. {}", delivery.callbackUrl());
+            return;
+        }
+        Host host = hosts.computeIfAbsent(authority, Host::new);
+
+        if (pending.incrementAndGet() > properties.getMaxPending()) {
+            pending.decrementAndGet();
+            spill(delivery);
+            return;
+        }
+        host.queues.computeIfAbsent(delivery.callbackUrl(), ignored -> new ConcurrentLinkedQueue<>()).add(delivery);
+        drain(host);
+    }
+
+    /**
+     * 대기열이 가득 차 보내지 못한 콜백은 시도 횟수를 늘리지 않고 재시도 큐로 넘긴다.
+     * - 재시도 큐에서 꺼낸 콜백은 claim-timeout 까지 묶여 있지 않도록 점유를 풀고 backoff 뒤에 다시 꺼내지게 한다.
+     */
+    private void spill(Delivery delivery) {
+        count("spilled", 1);
+        LocalDateTime now = LocalDateTime.now();
+        if (delivery.retryId() == null) {
+            callbackRetryRepository.saveAll(List.of(CallbackRetry.create(
+                    delivery.callbackUrl(), delivery.payload(), 0, now, false, SPILL_ERROR)));
+        } else {
+            callbackRetryRepository.reschedule(
+                    delivery.retryId(), delivery.attemptCount(), now.plus(properties.getRetry().getBackoff()), false, SPILL_ERROR);
+        }
+    }
+
+    private void drain(Host host) {
+        int maxBatchSize = properties.getBatch().isEnabled() ? properties.getBatch().getMaxSize() : 1;
+        for (Map.Entry<String, Queue<Delivery>> entry : host.queues.entrySet()) {
+            Queue<Delivery> queue = entry.getValue();
+            while (!queue.isEmpty() && host.connections.tryAcquire()) {
+                List<Delivery> batch = new ArrayList<>(maxBatchSize);
+                Delivery delivery;
+                while (batch.size() < maxBatchSize && (delivery = queue.poll()) != null) {
+                    batch.add(delivery);
+                }
+                if (batch.isEmpty()) {
+                    host.connections.release();
+                    break;
+                }
+                send(host, entry.getKey(), batch);
+            }
+        }
+    }
+
+    private void send(Host host, String callbackUrl, List<Delivery> batch) {
+        boolean batched = batch.size() > 1;
+        String body = batched
+                ? batch.stream().map(Delivery::payload).collect(Collectors.joining(",", "{\"callbacks\":[", "]}"))
+                : batch.get(0).payload();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            restTemplate.postForEntity(callbackUrl, transactionInfo, Object.class);
-        } catch (Exception e) {
-            logger.error("콜백 호출을 실패했습니다. {}", e.getMessage(), e);
+            String uri = batched ? batchUrl(callbackUrl) : callbackUrl;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                    .timeout(properties.getRequestTimeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        sample.stop(Timer.builder("pg.callback.requests")
+                                .tag("host", host.name)
+                                .tag("outcome", outcome(response, e))
+                                .publishPercentileHistogram()
+                                .register(meterRegistry));
+                        complete(host, batch, response, e);
+                    });
+        } catch (RuntimeException e) {
+            sample.stop(Timer.builder("pg.callback.requests")
+                    .tag("host", host.name)
+                    .tag("outcome", "ERROR")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            complete(host, batch, null, e);
         }
     }
+
+    private void complete(Host host, List<Delivery> batch, HttpResponse<Void> response, Throwable e) {
+        pending.addAndGet(-batch.size());
+        host.connections.release();
+        batchSize.record(batch.size());
+        try {
+            if (e == null && response.statusCode() / 100 == 2) {
+                onSuccess(batch);
+            } else if (e == null) {
+                int status = response.statusCode();
+                boolean retryable = status / 100 == 5 || status == 429;
+                onFailure(batch, "HTTP " + status, retryable);
+            } else {
+                onFailure(batch, e.getClass().getSimpleName() + ": " + e.getMessage(), true);
+            }
+        } catch (RuntimeException ex) {
+            logger.error("콜백 전송 결과를 기록하지 못했습니다. {}건", batch.size(), ex); // 점유가 풀리면 다시 보낸다
+        } finally {
+            drain(host);
+        }
+    }
+
+    private void onSuccess(List<Delivery> batch) {
+        List<Long> retryIds = batch.stream()
+                .map(Delivery::retryId)
+                .filter(id -> id != null)
+                .toList();
+        if (!retryIds.isEmpty()) {
+            callbackRetryRepository.deleteAllByIds(retryIds);
+        }
+        count("delivered", batch.size());
+    }
+
+    private void onFailure(List<Delivery> batch, String error, boolean retryable) {
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        PaymentCallbackProperties.Retry retry = properties.getRetry();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<CallbackRetry> retries = new ArrayList<>();
+        for (Delivery delivery : batch) {
+            int attemptCount = delivery.attemptCount() + 1;
+            boolean giveUp = !retryable || attemptCount >= retry.getMaxAttempts();
+            LocalDateTime nextAttemptAt = now.plus(backoff(attemptCount));
+            if (delivery.retryId() == null) {
+                retries.add(CallbackRetry.create(
+                        delivery.callbackUrl(), delivery.payload(), attemptCount, nextAttemptAt, giveUp, lastError));
+            } else {
+                callbackRetryRepository.reschedule(delivery.retryId(), attemptCount, nextAttemptAt, giveUp, lastError);
+            }
+            count(giveUp ? "gave_up" : "retry_scheduled", 1);
+        }
+        if (!retries.isEmpty()) {
+            callbackRetryRepository.saveAll(retries);
+        }
+        logger.warn("콜백 전송을 실패했습니다. {}건, {}", batch.size(), lastError);
+    }
+
+    private Duration backoff(int attemptCount) {
+        PaymentCallbackProperties.Retry retry = properties.getRetry();
+        Duration delay = retry.getBackoff().multipliedBy(1L << Math.min(attemptCount - 1, 20));
+        return delay.compareTo(retry.getMaxBackoff()) > 0 ? retry.getMaxBackoff() : delay;
+    }
+
+    private void count(String result, int amount) {
+        meterRegistry.counter("pg.callback.deliveries", "result", result).increment(amount);
+    }
+
+    /**
+     * 쿼리 문자열이 있어도 경로 끝에 /batch 를 붙인다. (http://host/callback?k=v → http://host/callback/batch?k=v)
+     */
+    static String batchUrl(String callbackUrl) {
+        return UriComponentsBuilder.fromUriString(callbackUrl)
+                .pathSegment(BATCH_PATH_SEGMENT)
+                .build(true)
+                .toUriString();
+    }
+
+    private static String authority(String callbackUrl) {
+        try {
+            return URI.create(callbackUrl).getAuthority();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static String outcome(HttpResponse<Void> response, Throwable e) {
+        if (e != null || response == null) {
+            return "ERROR";
+        }
+        return switch (response.statusCode() / 100) {
+            case 2 -> "SUCCESS";
+            case 4 -> "CLIENT_ERROR";
+            case 5 -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @param retryId 재시도 큐에서 꺼낸 콜백이면 callback_retries id, 처음 보내는 콜백이면 null
+     */
+    private record Delivery(String callbackUrl, String payload, Long retryId, int attemptCount) {
+    }
+
+    private class Host {
+        private final String name;
+        private final Semaphore connections = new Semaphore(properties.getMaxConnectionsPerHost());
+        private final Map<String, Queue<Delivery>> queues = new ConcurrentHashMap<>();
+
+        private Host(String name) {
+            this.name = name;
+        }
+    }
+
 }
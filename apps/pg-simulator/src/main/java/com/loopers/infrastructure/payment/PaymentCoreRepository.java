@@ -5,6 +5,7 @@ import com.loopers.domain.payment.PaymentRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -42,4 +43,16 @@ public class PaymentCoreRepository implements PaymentRepository {
         payments.sort(Comparator.comparing(Payment::getUpdatedAt).reversed());
         return payments;
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Payment> findByIdempotencyKey(String userId, String idempotencyKey) {
+        return paymentJpaRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Payment> findByTransactionKeys(Collection<String> transactionKeys) {
+        return paymentJpaRepository.findByTransactionKeyIn(transactionKeys);
+    }
 }
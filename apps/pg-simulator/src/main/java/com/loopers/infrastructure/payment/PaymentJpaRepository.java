@@ -2,6 +2,7 @@ package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +12,8 @@ public interface PaymentJpaRepository extends JpaRepository<Payment, String> {
 
     List<Payment> findByUserIdAndOrderId(String userId, Long orderId);
 
+    Optional<Payment> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+
+    List<Payment> findByTransactionKeyIn(Collection<String> transactionKeys);
+
 }
@@ -0,0 +1,68 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.config.simulation.PaymentSimulationProperties;
+import com.loopers.domain.payment.PaymentOutcome;
+import com.loopers.domain.payment.PaymentSimulationPolicy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 설정한 분포에 따라 결제 처리 지연과 결과를 무작위로 정한다.
+ */
+@Component
+public class RandomPaymentSimulationPolicy implements PaymentSimulationPolicy {
+
+    private final PaymentSimulationProperties.Distribution distribution;
+    private final long minMillis;
+    private final long maxMillis;
+    private final double logMedian;
+    private final double sigma;
+    private final double limitExceededRate;
+    private final double invalidCardRate;
+
+    public RandomPaymentSimulationPolicy(PaymentSimulationProperties properties) {
+        PaymentSimulationProperties.Latency latency = properties.getLatency();
+        PaymentSimulationProperties.Failure failure = properties.getFailure();
+        if (latency.getMin().isNegative() || latency.getMin().compareTo(latency.getMax()) > 0) {
+            throw new IllegalArgumentException("pg.simulation.latency 는 0 <= min <= max 여야 합니다.");
+        }
+        if (failure.getLimitExceededRate() < 0 || failure.getInvalidCardRate() < 0
+                || failure.getLimitExceededRate() + failure.getInvalidCardRate() > 1.0) {
+            throw new IllegalArgumentException("pg.simulation.failure 비율의 합은 0 ~ 1 사이여야 합니다.");
+        }
+
+        this.distribution = latency.getDistribution();
+        this.minMillis = latency.getMin().toMillis();
+        this.maxMillis = latency.getMax().toMillis();
+        this.logMedian = Math.log(Math.max(latency.getMedian().toMillis(), 1L));
+        this.sigma = latency.getSigma();
+        this.limitExceededRate = failure.getLimitExceededRate();
+        this.invalidCardRate = failure.getInvalidCardRate();
+    }
+
+    @Override
+    public Duration nextDelay() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = switch (distribution) {
+            case FIXED -> minMillis;
+            case UNIFORM -> random.nextLong(minMillis, maxMillis + 1);
+            case LOG_NORMAL -> Math.round(Math.exp(logMedian + sigma * random.nextGaussian()));
+        };
+        return Duration.ofMillis(Math.clamp(millis, minMillis, maxMillis));
+    }
+
+    @Override
+    public PaymentOutcome nextOutcome() {
+        double rate = ThreadLocalRandom.current().nextDouble();
+        if (rate < limitExceededRate) {
+            return PaymentOutcome.LIMIT_EXCEEDED;
+        }
+        if (rate < limitExceededRate + invalidCardRate) {
+            return PaymentOutcome.INVALID_CARD;
+        }
+        return PaymentOutcome.APPROVED;
+    }
+
+}
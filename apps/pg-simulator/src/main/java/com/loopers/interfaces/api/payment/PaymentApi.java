@@ -1,10 +1,12 @@
 package com.loopers.interfaces.api.payment;
 
 import com.loopers.application.payment.PaymentApplicationService;
+import com.loopers.application.payment.TransactionInfo;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.domain.user.UserInfo;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -38,11 +40,17 @@ public class PaymentApi {
             throw new CoreException(ErrorType.INTERNAL_ERROR, "현재 서버가 불안정합니다. 잠시 후 다시 시도해주세요.");
         }
 
-        return ApiResponse.success(
-                PaymentDto.TransactionResponse.from(
-                        paymentApplicationService.createTransaction(request.toCommand(userInfo.userId()))
-                )
-        );
+        TransactionInfo transaction;
+        try {
+            transaction = paymentApplicationService.createTransaction(request.toCommand(userInfo.userId()));
+        } catch (DataIntegrityViolationException e) {
+            if (request.idempotencyKey() == null) {
+                throw e;
+            }
+            // 같은 멱등키로 동시에 들어온 요청이 먼저 만든 결제건을 돌려준다
+            transaction = paymentApplicationService.findByIdempotencyKey(userInfo.userId(), request.idempotencyKey());
+        }
+        return ApiResponse.success(PaymentDto.TransactionResponse.from(transaction));
     }
 
     @GetMapping("/{transactionKey}")
@@ -57,6 +65,19 @@ public class PaymentApi {
         );
     }
 
+    @PostMapping("/search")
+    public ApiResponse<PaymentDto.TransactionListResponse> searchTransactions(
+            @RequestBody PaymentDto.TransactionSearchRequest request
+    ) {
+        request.validate();
+
+        return ApiResponse.success(
+                PaymentDto.TransactionListResponse.from(
+                        paymentApplicationService.findTransactions(request.transactionKeys())
+                )
+        );
+    }
+
     @GetMapping
     public ApiResponse<PaymentDto.OrderResponse> getTransactionsByOrder(
             UserInfo userInfo,
@@ -1,6 +1,7 @@
 package com.loopers.interfaces.api.payment;
 
 import com.loopers.application.payment.OrderInfo;
+import com.loopers.application.payment.PaymentApplicationService;
 import com.loopers.application.payment.PaymentCommand;
 import com.loopers.application.payment.TransactionInfo;
 import com.loopers.domain.payment.CardType;
@@ -18,9 +19,11 @@ public class PaymentDto {
             CardTypeDto cardType,
             String cardNo,
             int amount,
-            String callbackUrl
+            String callbackUrl,
+            String idempotencyKey
     ) {
 
+        private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
         private static final Pattern REGEX_CARD_NO = Pattern.compile("^\\d{4}-\\d{4}-\\d{4}-\\d{4}$");
         private static final String PREFIX_CALLBACK_URL = "http://localhost:8080";
 
@@ -37,6 +40,9 @@ public class PaymentDto {
             if (callbackUrl == null || !callbackUrl.startsWith(PREFIX_CALLBACK_URL)) {
                 throw new CoreException(ErrorType.BAD_REQUEST, "콜백 URL 은 " + PREFIX_CALLBACK_URL + " 로 시작해야 합니다.");
             }
+            if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "멱등키는 1~" + MAX_IDEMPOTENCY_KEY_LENGTH + "자여야 합니다.");
+            }
         }
 
         public PaymentCommand toCommand(String userId) {
@@ -46,7 +52,8 @@ public class PaymentDto {
                     cardType.toCardType(),
                     cardNo,
                     amount,
-                    callbackUrl
+                    callbackUrl,
+                    idempotencyKey
             );
         }
     }
@@ -73,6 +80,31 @@ public class PaymentDto {
         }
     }
 
+    public record TransactionSearchRequest(
+            List<String> transactionKeys
+    ) {
+        public void validate() {
+            if (transactionKeys == null || transactionKeys.isEmpty()) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "조회할 트랜잭션 KEY 는 1개 이상이어야 합니다.");
+            }
+            if (transactionKeys.size() > PaymentApplicationService.MAX_TRANSACTION_KEYS) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 트랜잭션은 " + PaymentApplicationService.MAX_TRANSACTION_KEYS + "건 이하입니다.");
+            }
+        }
+    }
+
+    public record TransactionListResponse(
+            List<TransactionDetailResponse> transactions
+    ) {
+        public static TransactionListResponse from(List<TransactionInfo> transactionInfos) {
+            return new TransactionListResponse(
+                    transactionInfos.stream()
+                            .map(TransactionDetailResponse::from)
+                            .toList()
+            );
+        }
+    }
+
     public record TransactionResponse(
             String transactionKey,
             TransactionStatusResponse status,
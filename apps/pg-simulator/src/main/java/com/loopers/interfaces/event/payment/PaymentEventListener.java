@@ -1,36 +1,33 @@
 package com.loopers.interfaces.event.payment;
 
 import com.loopers.application.payment.PaymentApplicationService;
+import com.loopers.application.payment.PaymentProcessingScheduler;
 import com.loopers.domain.payment.PaymentEvent;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 @Component
 public class PaymentEventListener {
 
     private final PaymentApplicationService paymentApplicationService;
+    private final PaymentProcessingScheduler paymentProcessingScheduler;
 
-    public PaymentEventListener(PaymentApplicationService paymentApplicationService) {
+    public PaymentEventListener(
+            PaymentApplicationService paymentApplicationService,
+            PaymentProcessingScheduler paymentProcessingScheduler
+    ) {
         this.paymentApplicationService = paymentApplicationService;
+        this.paymentProcessingScheduler = paymentProcessingScheduler;
     }
 
-    @Async
+    // 지연 큐에 등록만 하므로 요청 스레드에서 바로 처리한다
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(PaymentEvent.PaymentCreated event) {
-        long thresholdMillis = ThreadLocalRandom.current().nextLong(1000L, 5001L);
-        try {
-            Thread.sleep(thresholdMillis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        paymentApplicationService.handle(event.transactionKey());
+        paymentProcessingScheduler.schedule(event.transactionKey());
     }
 
-    @Async
+    // 콜백은 전송 대기열에 넣기만 하고 비동기로 전송된다
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(PaymentEvent.PaymentHandled event) {
         paymentApplicationService.notifyTransactionResult(event.transactionKey());
@@ -0,0 +1,81 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.user.UserInfo;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                // 테스트 중에는 결제 처리/콜백이 돌지 않도록 지연을 길게 둔다
+                "pg.simulation.latency.distribution=FIXED",
+                "pg.simulation.latency.min=1h",
+                "pg.simulation.latency.max=1h",
+        }
+)
+class PaymentApplicationServiceIntegrationTest {
+
+    private static final String USER_ID = "user1";
+    private static final String CALLBACK_URL = "http://localhost:8080/api/v1/payments/callback";
+
+    @Autowired
+    private PaymentApplicationService paymentApplicationService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private PaymentCommand command(Long orderId, String idempotencyKey) {
+        return new PaymentCommand(USER_ID, orderId, CardType.SAMSUNG, "1234-5678-9814-1451", 5000, CALLBACK_URL, idempotencyKey);
+    }
+
+    @DisplayName("결제 요청 생성 시,")
+    @Nested
+    class CreateTransaction {
+
+        @DisplayName("같은 멱등 키로 다시 요청하면, 기존 트랜잭션을 반환한다.")
+        @Test
+        void returnsExistingTransaction_whenIdempotencyKeyRepeats() {
+            // arrange
+            TransactionInfo first = paymentApplicationService.createTransaction(command(1L, "payment-1"));
+
+            // act
+            TransactionInfo second = paymentApplicationService.createTransaction(command(1L, "payment-1"));
+
+            // assert
+            assertThat(second.transactionKey()).isEqualTo(first.transactionKey());
+            assertThat(paymentApplicationService.findTransactionsByOrderId(new UserInfo(USER_ID), 1L).transactions()).hasSize(1);
+        }
+
+        @DisplayName("멱등 키가 다르거나 없으면, 새 트랜잭션을 만든다.")
+        @Test
+        void createsNewTransaction_whenIdempotencyKeyDiffersOrMissing() {
+            // arrange
+            TransactionInfo first = paymentApplicationService.createTransaction(command(1L, "payment-1"));
+
+            // act
+            TransactionInfo otherKey = paymentApplicationService.createTransaction(command(1L, "payment-2"));
+            TransactionInfo noKey1 = paymentApplicationService.createTransaction(command(1L, null));
+            TransactionInfo noKey2 = paymentApplicationService.createTransaction(command(1L, null));
+
+            // assert
+            assertThat(List.of(first, otherKey, noKey1, noKey2))
+                    .extracting(TransactionInfo::transactionKey)
+                    .doesNotHaveDuplicates();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.loopers.application.payment;
+
+import com.loopers.config.simulation.PaymentSimulationProperties;
+import com.loopers.infrastructure.payment.RandomPaymentSimulationPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class PaymentProcessingSchedulerTest {
+
+    private static final int CONCURRENCY = 2;
+    private static final int PAYMENTS = 10;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PaymentProcessingScheduler scheduler;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @DisplayName("처리 시각이 된 결제가 몰려도, 동시 처리 수는 concurrency 를 넘지 않는다.")
+    @Test
+    void capsConcurrentProcessing() {
+        // arrange: 지연 없이 바로 처리되고, 처리는 release 가 열릴 때까지 막힌다
+        PaymentSimulationProperties properties = new PaymentSimulationProperties();
+        properties.getLatency().setDistribution(PaymentSimulationProperties.Distribution.FIXED);
+        properties.getLatency().setMin(Duration.ZERO);
+        properties.getLatency().setMax(Duration.ZERO);
+        properties.getProcessing().setConcurrency(CONCURRENCY);
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger handled = new AtomicInteger();
+        PaymentApplicationService paymentApplicationService = mock(PaymentApplicationService.class);
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } finally {
+                running.decrementAndGet();
+                handled.incrementAndGet();
+            }
+            return null;
+        }).when(paymentApplicationService).handle(anyString());
+
+        scheduler = new PaymentProcessingScheduler(
+                paymentApplicationService, new RandomPaymentSimulationPolicy(properties), properties, meterRegistry);
+
+        // act
+        for (int i = 0; i < PAYMENTS; i++) {
+            scheduler.schedule("TX-" + i);
+        }
+
+        // assert: 한도만큼 처리 중이고, 나머지는 허가를 기다린다
+        await().atMost(Duration.ofSeconds(2)).until(() -> running.get() == CONCURRENCY);
+        await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(1))
+                .until(() -> running.get() <= CONCURRENCY);
+        assertThat(pendingGauge()).isEqualTo(PAYMENTS);
+
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> handled.get() == PAYMENTS);
+        assertThat(maxRunning.get()).isEqualTo(CONCURRENCY);
+        await().atMost(Duration.ofSeconds(1)).until(() -> pendingGauge() == 0);
+    }
+
+    private double pendingGauge() {
+        return meterRegistry.get("pg.simulation.pending").gauge().value();
+    }
+}
@@ -0,0 +1,272 @@
+package com.loopers.infrastructure.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.payment.TransactionInfo;
+import com.loopers.config.callback.PaymentCallbackProperties;
+import com.loopers.domain.payment.CallbackRetry;
+import com.loopers.domain.payment.CallbackRetryRepository;
+import com.loopers.domain.payment.CallbackRetryStatus;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.TransactionStatus;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentCoreRelayTest {
+
+    private static final String CALLBACK_PATH = "/api/v1/payments/callback";
+
+    private final CallbackRetryRepository callbackRetryRepository = mock(CallbackRetryRepository.class);
+    private final PaymentCallbackProperties properties = new PaymentCallbackProperties();
+    private final List<Received> received = new CopyOnWriteArrayList<>();
+    private volatile int responseStatus = 200;
+    private volatile CountDownLatch blockFirst = new CountDownLatch(0);
+
+    private HttpServer server;
+    private PaymentCoreRelay relay;
+
+    private record Received(String path, String query, String body) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            received.add(new Received(exchange.getRequestURI().getPath(), exchange.getRequestURI().getQuery(), body));
+            try {
+                blockFirst.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(responseStatus, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (relay != null) {
+            relay.shutdown();
+        }
+        server.stop(0);
+    }
+
+    private PaymentCoreRelay relay() {
+        relay = new PaymentCoreRelay(callbackRetryRepository, new ObjectMapper(), new SimpleMeterRegistry(), properties);
+        return relay;
+    }
+
+    private String callbackUrl(String query) {
+        return "http://localhost:" + server.getAddress().getPort() + CALLBACK_PATH + (query == null ? "" : "?" + query);
+    }
+
+    private static TransactionInfo transaction(String transactionKey) {
+        return new TransactionInfo(transactionKey, 1L, CardType.SAMSUNG, "1234-5678-9814-1451", 5000, TransactionStatus.SUCCESS, "정상 승인되었습니다.");
+    }
+
+    private static CallbackRetry savedRetry(Long id, String callbackUrl, int attemptCount) {
+        CallbackRetry retry = CallbackRetry.create(callbackUrl, "{\"transactionKey\":\"TX-R\"}", attemptCount, LocalDateTime.now(), false, "HTTP 500");
+        ReflectionTestUtils.setField(retry, "id", id);
+        return retry;
+    }
+
+    @DisplayName("배치 URL 을 만들 때,")
+    @Nested
+    class BatchUrl {
+
+        @DisplayName("쿼리 문자열이 있으면, 경로 끝에 /batch 를 붙이고 쿼리는 유지한다.")
+        @Test
+        void appendsSegmentBeforeQuery() {
+            assertThat(PaymentCoreRelay.batchUrl("http://localhost:8080/api/v1/payments/callback?shop=a%20b&v=1"))
+                    .isEqualTo("http://localhost:8080/api/v1/payments/callback/batch?shop=a%20b&v=1");
+        }
+
+        @DisplayName("경로가 / 로 끝나도, 슬래시가 겹치지 않는다.")
+        @Test
+        void doesNotDuplicateSlash() {
+            assertThat(PaymentCoreRelay.batchUrl("http://localhost:8080/api/v1/payments/callback/"))
+                    .isEqualTo("http://localhost:8080/api/v1/payments/callback/batch");
+        }
+    }
+
+    @DisplayName("콜백을 보낼 때,")
+    @Nested
+    class Notify {
+
+        @DisplayName("성공하면, 콜백 URL 로 결제 정보를 보내고 재시도 큐에 저장하지 않는다.")
+        @Test
+        void deliversToCallbackUrl() {
+            // act
+            relay().notify(callbackUrl(null), transaction("TX-1"));
+
+            // assert
+            await().atMost(Duration.ofSeconds(3)).until(() -> received.size() == 1);
+            assertThat(received.get(0).path()).isEqualTo(CALLBACK_PATH);
+            assertThat(received.get(0).body()).contains("\"transactionKey\":\"TX-1\"");
+            verify(callbackRetryRepository, after(300).never()).saveAll(anyList());
+        }
+
+        @DisplayName("배치를 켜면, 동시 요청 한도로 대기열에 쌓인 콜백을 쿼리를 유지한 /batch URL 로 한 번에 보낸다.")
+        @Test
+        void batchesQueuedCallbacks() {
+            // arrange: 첫 요청이 커넥션을 잡고 있는 동안 나머지가 대기열에 쌓인다
+            properties.setMaxConnectionsPerHost(1);
+            properties.getBatch().setEnabled(true);
+            properties.getBatch().setMaxSize(10);
+            blockFirst = new CountDownLatch(1);
+            PaymentCoreRelay relay = relay();
+            String callbackUrl = callbackUrl("shop=loopers");
+
+            // act
+            relay.notify(callbackUrl, transaction("TX-0"));
+            await().atMost(Duration.ofSeconds(3)).until(() -> received.size() == 1);
+            for (int i = 1; i <= 5; i++) {
+                relay.notify(callbackUrl, transaction("TX-" + i));
+            }
+            blockFirst.countDown();
+
+            // assert
+            await().atMost(Duration.ofSeconds(3)).until(() -> received.size() == 2);
+            Received batch = received.get(1);
+            assertThat(batch.path()).isEqualTo(CALLBACK_PATH + "/batch");
+            assertThat(batch.query()).isEqualTo("shop=loopers");
+            assertThat(batch.body()).startsWith("{\"callbacks\":[");
+            for (int i = 1; i <= 5; i++) {
+                assertThat(batch.body()).contains("\"transactionKey\":\"TX-" + i + "\"");
+            }
+        }
+
+        @DisplayName("5xx 로 실패하면, 시도 횟수 1 로 재시도 큐에 저장한다.")
+        @Test
+        void savesRetry_whenServerError() {
+            // arrange
+            responseStatus = 500;
+
+            // act
+            relay().notify(callbackUrl(null), transaction("TX-1"));
+
+            // assert
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CallbackRetry>> captor = ArgumentCaptor.forClass(List.class);
+            verify(callbackRetryRepository, timeout(3000)).saveAll(captor.capture());
+            CallbackRetry retry = captor.getValue().get(0);
+            assertThat(retry.getAttemptCount()).isEqualTo(1);
+            assertThat(retry.getStatus()).isEqualTo(CallbackRetryStatus.PENDING);
+            assertThat(retry.getLastError()).isEqualTo("HTTP 500");
+        }
+
+        @DisplayName("4xx 로 실패하면, 다시 보내지 않도록 FAILED 로 저장한다.")
+        @Test
+        void givesUp_whenClientError() {
+            // arrange
+            responseStatus = 400;
+
+            // act
+            relay().notify(callbackUrl(null), transaction("TX-1"));
+
+            // assert
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CallbackRetry>> captor = ArgumentCaptor.forClass(List.class);
+            verify(callbackRetryRepository, timeout(3000)).saveAll(captor.capture());
+            assertThat(captor.getValue().get(0).getStatus()).isEqualTo(CallbackRetryStatus.FAILED);
+        }
+    }
+
+    @DisplayName("재시도 큐의 콜백을 다시 보낼 때,")
+    @Nested
+    class RetryPending {
+
+        @DisplayName("성공하면, 재시도 큐에서 삭제한다.")
+        @Test
+        void deletesRetry_whenDelivered() {
+            // arrange
+            when(callbackRetryRepository.findDue(any(), anyInt())).thenReturn(List.of(savedRetry(1L, callbackUrl(null), 1)));
+            when(callbackRetryRepository.claim(eq(1L), any(), any())).thenReturn(true);
+
+            // act
+            relay().retryPending();
+
+            // assert
+            verify(callbackRetryRepository, timeout(3000)).deleteAllByIds(List.of(1L));
+            assertThat(received).hasSize(1);
+        }
+
+        @DisplayName("다시 실패하면, 시도 횟수를 늘려 다시 예약한다.")
+        @Test
+        void reschedules_whenFailedAgain() {
+            // arrange
+            responseStatus = 503;
+            when(callbackRetryRepository.findDue(any(), anyInt())).thenReturn(List.of(savedRetry(1L, callbackUrl(null), 1)));
+            when(callbackRetryRepository.claim(eq(1L), any(), any())).thenReturn(true);
+
+            // act
+            relay().retryPending();
+
+            // assert
+            verify(callbackRetryRepository, timeout(3000)).reschedule(eq(1L), eq(2), any(), eq(false), eq("HTTP 503"));
+        }
+
+        @DisplayName("점유하지 못한 콜백은, 보내지 않는다.")
+        @Test
+        void skips_whenNotClaimed() {
+            // arrange
+            when(callbackRetryRepository.findDue(any(), anyInt())).thenReturn(List.of(savedRetry(1L, callbackUrl(null), 1)));
+            when(callbackRetryRepository.claim(eq(1L), any(), any())).thenReturn(false);
+
+            // act
+            relay().retryPending();
+
+            // assert
+            await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(1)).until(received::isEmpty);
+        }
+
+        @DisplayName("전송 대기열이 가득 차면, 시도 횟수를 그대로 두고 점유를 풀어 다시 예약한다.")
+        @Test
+        void releasesClaim_whenSpilled() {
+            // arrange
+            properties.setMaxPending(0);
+            when(callbackRetryRepository.findDue(any(), anyInt())).thenReturn(List.of(savedRetry(1L, callbackUrl(null), 3)));
+            when(callbackRetryRepository.claim(eq(1L), any(), any())).thenReturn(true);
+
+            // act
+            relay().retryPending();
+
+            // assert
+            verify(callbackRetryRepository).reschedule(eq(1L), eq(3), any(), eq(false), anyString());
+            verify(callbackRetryRepository, never()).saveAll(anyList());
+            assertThat(received).isEmpty();
+        }
+    }
+}
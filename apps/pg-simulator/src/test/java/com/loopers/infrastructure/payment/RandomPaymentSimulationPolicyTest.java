@@ -0,0 +1,141 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.config.simulation.PaymentSimulationProperties;
+import com.loopers.domain.payment.PaymentOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class RandomPaymentSimulationPolicyTest {
+
+    private static final int SAMPLES = 100_000;
+
+    private static PaymentSimulationProperties properties(double limitExceededRate, double invalidCardRate) {
+        PaymentSimulationProperties properties = new PaymentSimulationProperties();
+        properties.getFailure().setLimitExceededRate(limitExceededRate);
+        properties.getFailure().setInvalidCardRate(invalidCardRate);
+        return properties;
+    }
+
+    private static PaymentSimulationProperties properties(PaymentSimulationProperties.Distribution distribution, Duration min, Duration max) {
+        PaymentSimulationProperties properties = new PaymentSimulationProperties();
+        properties.getLatency().setDistribution(distribution);
+        properties.getLatency().setMin(min);
+        properties.getLatency().setMax(max);
+        return properties;
+    }
+
+    private static Map<PaymentOutcome, Double> sampleOutcomes(RandomPaymentSimulationPolicy policy) {
+        Map<PaymentOutcome, Integer> counts = new EnumMap<>(PaymentOutcome.class);
+        IntStream.range(0, SAMPLES).forEach(i -> counts.merge(policy.nextOutcome(), 1, Integer::sum));
+
+        Map<PaymentOutcome, Double> rates = new EnumMap<>(PaymentOutcome.class);
+        for (PaymentOutcome outcome : PaymentOutcome.values()) {
+            rates.put(outcome, counts.getOrDefault(outcome, 0) / (double) SAMPLES);
+        }
+        return rates;
+    }
+
+    @DisplayName("결제 결과를 정할 때,")
+    @Nested
+    class NextOutcome {
+
+        @DisplayName("설정한 실패 비율대로 한도 초과/잘못된 카드가 나오고, 나머지는 승인된다.")
+        @Test
+        void followsConfiguredRates() {
+            // arrange
+            RandomPaymentSimulationPolicy policy = new RandomPaymentSimulationPolicy(properties(0.2, 0.1));
+
+            // act
+            Map<PaymentOutcome, Double> rates = sampleOutcomes(policy);
+
+            // assert (표본 10만 건의 표준편차는 0.2% 이하라 1% 오차면 충분하다)
+            assertThat(rates.get(PaymentOutcome.LIMIT_EXCEEDED)).isCloseTo(0.2, within(0.01));
+            assertThat(rates.get(PaymentOutcome.INVALID_CARD)).isCloseTo(0.1, within(0.01));
+            assertThat(rates.get(PaymentOutcome.APPROVED)).isCloseTo(0.7, within(0.01));
+        }
+
+        @DisplayName("실패 비율이 0 이면, 항상 승인된다.")
+        @Test
+        void alwaysApproves_whenRatesAreZero() {
+            // arrange
+            RandomPaymentSimulationPolicy policy = new RandomPaymentSimulationPolicy(properties(0.0, 0.0));
+
+            // act
+            Map<PaymentOutcome, Double> rates = sampleOutcomes(policy);
+
+            // assert
+            assertThat(rates.get(PaymentOutcome.APPROVED)).isEqualTo(1.0);
+        }
+
+        @DisplayName("실패 비율의 합이 1 이면, 승인되지 않는다.")
+        @Test
+        void neverApproves_whenRatesSumToOne() {
+            // arrange
+            RandomPaymentSimulationPolicy policy = new RandomPaymentSimulationPolicy(properties(0.5, 0.5));
+
+            // act
+            Map<PaymentOutcome, Double> rates = sampleOutcomes(policy);
+
+            // assert
+            assertThat(rates.get(PaymentOutcome.APPROVED)).isZero();
+        }
+
+        @DisplayName("실패 비율의 합이 1 을 넘으면, 생성할 수 없다.")
+        @Test
+        void throws_whenRatesExceedOne() {
+            assertThatThrownBy(() -> new RandomPaymentSimulationPolicy(properties(0.6, 0.5)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("처리 지연을 정할 때,")
+    @Nested
+    class NextDelay {
+
+        @DisplayName("FIXED 분포면, 항상 min 을 반환한다.")
+        @Test
+        void returnsMin_whenFixed() {
+            // arrange
+            RandomPaymentSimulationPolicy policy = new RandomPaymentSimulationPolicy(
+                    properties(PaymentSimulationProperties.Distribution.FIXED, Duration.ofMillis(300), Duration.ofSeconds(5)));
+
+            // act & assert
+            IntStream.range(0, 1_000).forEach(i -> assertThat(policy.nextDelay()).isEqualTo(Duration.ofMillis(300)));
+        }
+
+        @DisplayName("UNIFORM, LOG_NORMAL 분포면, min ~ max 사이 값을 반환한다.")
+        @Test
+        void staysWithinBounds_whenRandom() {
+            for (PaymentSimulationProperties.Distribution distribution : new PaymentSimulationProperties.Distribution[]{
+                    PaymentSimulationProperties.Distribution.UNIFORM,
+                    PaymentSimulationProperties.Distribution.LOG_NORMAL
+            }) {
+                // arrange
+                RandomPaymentSimulationPolicy policy = new RandomPaymentSimulationPolicy(
+                        properties(distribution, Duration.ofSeconds(1), Duration.ofSeconds(3)));
+
+                // act & assert
+                IntStream.range(0, 10_000).forEach(i -> assertThat(policy.nextDelay())
+                        .isBetween(Duration.ofSeconds(1), Duration.ofSeconds(3)));
+            }
+        }
+
+        @DisplayName("min 이 max 보다 크면, 생성할 수 없다.")
+        @Test
+        void throws_whenMinExceedsMax() {
+            assertThatThrownBy(() -> new RandomPaymentSimulationPolicy(
+                    properties(PaymentSimulationProperties.Distribution.UNIFORM, Duration.ofSeconds(2), Duration.ofSeconds(1))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.loopers.interfaces.api.payment;
+
+import com.loopers.application.payment.PaymentApplicationService;
+import com.loopers.application.payment.PaymentCommand;
+import com.loopers.domain.payment.CardType;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                // 테스트 중에는 결제 처리/콜백이 돌지 않도록 지연을 길게 둔다
+                "pg.simulation.latency.distribution=FIXED",
+                "pg.simulation.latency.min=1h",
+                "pg.simulation.latency.max=1h",
+        }
+)
+class PaymentApiE2ETest {
+
+    private static final String ENDPOINT_SEARCH = "/api/v1/payments/search";
+
+    private final TestRestTemplate testRestTemplate;
+    private final PaymentApplicationService paymentApplicationService;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    PaymentApiE2ETest(
+            TestRestTemplate testRestTemplate,
+            PaymentApplicationService paymentApplicationService,
+            DatabaseCleanUp databaseCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.paymentApplicationService = paymentApplicationService;
+        this.databaseCleanUp = databaseCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private String createTransaction(Long orderId) {
+        PaymentCommand command = new PaymentCommand(
+                "user1", orderId, CardType.SAMSUNG, "1234-5678-9814-1451", 5000,
+                "http://localhost:8080/api/v1/payments/callback", null
+        );
+        return paymentApplicationService.createTransaction(command).transactionKey();
+    }
+
+    private ResponseEntity<ApiResponse<PaymentDto.TransactionListResponse>> search(List<String> transactionKeys) {
+        return testRestTemplate.exchange(
+                ENDPOINT_SEARCH,
+                HttpMethod.POST,
+                new HttpEntity<>(new PaymentDto.TransactionSearchRequest(transactionKeys)),
+                new ParameterizedTypeReference<ApiResponse<PaymentDto.TransactionListResponse>>() {}
+        );
+    }
+
+    @DisplayName("POST /api/v1/payments/search")
+    @Nested
+    class SearchTransactions {
+
+        @DisplayName("모두 존재하는 KEY 로 조회하면, 모든 결제건을 반환한다.")
+        @Test
+        void returnsAll_whenAllKeysExist() {
+            // arrange
+            String key1 = createTransaction(1L);
+            String key2 = createTransaction(2L);
+
+            // act
+            ResponseEntity<ApiResponse<PaymentDto.TransactionListResponse>> response = search(List.of(key1, key2));
+
+            // assert
+            assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(response.getBody().data().transactions())
+                            .extracting(PaymentDto.TransactionDetailResponse::transactionKey)
+                            .containsExactlyInAnyOrder(key1, key2)
+            );
+        }
+
+        @DisplayName("존재하지 않는 KEY 만으로 조회하면, 빈 목록을 반환한다.")
+        @Test
+        void returnsEmpty_whenNoKeyExists() {
+            // act
+            ResponseEntity<ApiResponse<PaymentDto.TransactionListResponse>> response = search(List.of("20250101:TR:000000"));
+
+            // assert
+            assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(response.getBody().data().transactions()).isEmpty()
+            );
+        }
+
+        @DisplayName("존재하는 KEY 와 존재하지 않는 KEY 를 섞어 조회하면, 존재하는 결제건만 반환한다.")
+        @Test
+        void returnsOnlyExisting_whenKeysAreMixed() {
+            // arrange
+            String key = createTransaction(1L);
+
+            // act
+            ResponseEntity<ApiResponse<PaymentDto.TransactionListResponse>> response = search(List.of(key, "20250101:TR:000000", key));
+
+            // assert
+            assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(response.getBody().data().transactions())
+                            .extracting(PaymentDto.TransactionDetailResponse::transactionKey)
+                            .containsExactly(key)
+            );
+        }
+
+        @DisplayName("KEY 목록이 비어 있으면, 400 Bad Request 를 반환한다.")
+        @Test
+        void returnsBadRequest_whenKeysAreEmpty() {
+            // act
+            ResponseEntity<ApiResponse<PaymentDto.TransactionListResponse>> response = search(List.of());
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @DisplayName("KEY 가 최대 개수를 넘으면, 400 Bad Request 를 반환한다.")
+        @Test
+        void returnsBadRequest_whenTooManyKeys() {
+            // arrange
+            List<String> keys = IntStream.rangeClosed(0, PaymentApplicationService.MAX_TRANSACTION_KEYS)
+                    .mapToObj(i -> "20250101:TR:" + i)
+                    .toList();
+
+            // act
+            ResponseEntity<ApiResponse<PaymentDto.TransactionListResponse>> response = search(keys);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import groovy.json.JsonSlurper
+
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmh(project(":apps:commerce-api"))
+    jmh(project(":modules:jpa"))
+    jmh(project(":modules:redis"))
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:${project.properties["jmhVersion"]}")
+}
+
+// ./gradlew :benchmarks:jmh -Pjmh.includes=Product
+jmh {
+    jmhVersion = project.properties["jmhVersion"] as String
+    (project.findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    humanOutputFile = layout.buildDirectory.file("reports/jmh/human.txt")
+}
+
+/** --- baseline --- */
+// 비교 기준: baseline/results.json (jmhBaseline 으로 갱신해 커밋한다)
+// - gc.alloc.rate.norm(B/op)은 장비와 무관하므로 항상 비교하고, 처리량(ops/s)은 같은 장비에서 잰 기준일 때만 의미가 있다.
+val jmhBaselineFile = layout.projectDirectory.file("baseline/results.json")
+val jmhResultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+
+tasks.register<Copy>("jmhBaseline") {
+    group = "benchmark"
+    description = "마지막 JMH 결과를 기준으로 저장한다."
+    from(jmhResultsFile)
+    into(jmhBaselineFile.asFile.parentFile)
+}
+
+tasks.register("jmhCompare") {
+    group = "benchmark"
+    description = "마지막 JMH 결과를 기준과 비교해, 할당량이나 처리량이 허용 범위를 넘게 나빠지면 실패한다."
+    val allocTolerance = (project.findProperty("jmh.allocTolerance") as String? ?: "0.10").toDouble()
+    val throughputTolerance = (project.findProperty("jmh.throughputTolerance") as String?)?.toDouble()
+    val baseline = jmhBaselineFile.asFile
+    val current = jmhResultsFile.get().asFile
+
+    doLast {
+        if (!baseline.exists()) {
+            logger.lifecycle("기준 결과가 없습니다. jmh 실행 후 jmhBaseline 으로 저장하세요. ({})", baseline)
+            return@doLast
+        }
+        check(current.exists()) { "JMH 결과가 없습니다. jmh 를 먼저 실행하세요. ($current)" }
+
+        val before = readResults(baseline)
+        val after = readResults(current)
+        val regressions = mutableListOf<String>()
+
+        logger.lifecycle(String.format("%-70s %14s %14s %12s %12s", "benchmark", "ops/s", "base ops/s", "B/op", "base B/op"))
+        after.forEach { (name, result) ->
+            val base = before[name]
+            logger.lifecycle(String.format(
+                "%-70s %14.1f %14s %12.1f %12s",
+                name, result.score, base?.score?.let { "%.1f".format(it) } ?: "-",
+                result.allocNorm, base?.allocNorm?.let { "%.1f".format(it) } ?: "-"
+            ))
+            if (base == null) return@forEach
+
+            // 작은 할당량의 측정 오차로 실패하지 않도록 16 B/op 여유를 둔다
+            if (result.allocNorm > base.allocNorm * (1 + allocTolerance) + 16) {
+                regressions += "$name: 할당량 ${"%.1f".format(base.allocNorm)} -> ${"%.1f".format(result.allocNorm)} B/op"
+            }
+            if (throughputTolerance != null && result.score < base.score * (1 - throughputTolerance)) {
+                regressions += "$name: 처리량 ${"%.1f".format(base.score)} -> ${"%.1f".format(result.score)} ops/s"
+            }
+        }
+
+        if (regressions.isNotEmpty()) {
+            throw GradleException("성능 회귀:\n" + regressions.joinToString("\n"))
+        }
+    }
+}
+
+data class BenchmarkResult(val score: Double, val allocNorm: Double)
+
+@Suppress("UNCHECKED_CAST")
+fun readResults(file: File): Map<String, BenchmarkResult> {
+    val runs = JsonSlurper().parse(file) as List<Map<String, Any?>>
+    return runs.associate { run ->
+        val params = (run["params"] as Map<String, Any?>?)
+            ?.entries?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+        val primary = run["primaryMetric"] as Map<String, Any?>
+        val secondary = (run["secondaryMetrics"] as Map<String, Map<String, Any?>>?)
+            ?.mapKeys { it.key.removePrefix("·") } ?: emptyMap()
+        val allocNorm = (secondary["gc.alloc.rate.norm"]?.get("score") as Number?)?.toDouble() ?: 0.0
+
+        "${run["benchmark"]}$params" to BenchmarkResult((primary["score"] as Number).toDouble(), allocNorm)
+    }
+}
@@ -0,0 +1,66 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 입력 데이터
+ * - 엔티티 id 는 DB 가 채우므로, 영속화 없이 id 가 필요한 경로는 리플렉션으로 채운다.
+ */
+final class BenchmarkFixtures {
+
+    private static final Field ID_FIELD;
+
+    static {
+        try {
+            ID_FIELD = BaseEntity.class.getDeclaredField("id");
+            ID_FIELD.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        return User.create("oyy", Gender.F, "1999-08-21", "loopers@gmail.com");
+    }
+
+    static Brand brand() {
+        return withId(Brand.create("나이키", "스포츠브랜드", "https://example.com/logo.png"), 1L);
+    }
+
+    static List<Product> products(Brand brand, int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Product product = Product.create(brand, "나이키조던" + i, "운동화", "https://example.com/shoes.png", 1000 * i, 100);
+            products.add(withId(product, (long) i));
+        }
+        return products;
+    }
+
+    static List<OrderItem> orderItems(List<Product> products) {
+        return products.stream()
+                .map(product -> OrderItem.create(product, 2, product.getPrice()))
+                .toList();
+    }
+
+    static <T extends BaseEntity> T withId(T entity, Long id) {
+        try {
+            ID_FIELD.set(entity, id);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return entity;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.loopers.benchmark;
+
+import com.loopers.config.CacheConfig;
+import com.loopers.domain.product.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 상세 캐시 값 직렬화/역직렬화 (CacheConfig 의 Redis 캐시 직렬화기)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+    private RedisSerializer<Object> serializer;
+    private Product product;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = CacheConfig.cacheValueSerializer();
+        product = BenchmarkFixtures.products(BenchmarkFixtures.brand(), 1).get(0);
+        serialized = serializer.serialize(product);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(product);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.coupon.*;
+import com.loopers.domain.order.DiscountedOrderByCoupon;
+import com.loopers.domain.order.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 할인 적용
+ * - 저장소는 메모리 구현으로 바꿔 DB 조회 비용을 빼고 도메인 계산 비용만 잰다.
+ * - 쿠폰은 한 번만 쓸 수 있으므로 사용자 쿠폰은 조회할 때마다 새로 만든다. (DB 조회 시 엔티티가 새로 만들어지는 것과 같다)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CouponBenchmark {
+
+    private static final String USER_ID = "oyy";
+    private static final Long COUPON_ID = 1L;
+
+    @Param({"NONE", "FIXED", "RATE"})
+    private String couponType;
+
+    private CouponService couponService;
+    private DiscountStrategyFactory discountStrategyFactory;
+    private Coupon coupon;
+    private Long couponId;
+    private List<OrderItem> items;
+
+    @Setup
+    public void setUp() {
+        discountStrategyFactory = new DiscountStrategyFactory();
+        coupon = switch (couponType) {
+            case "FIXED" -> new Coupon("1000원 할인", CouponType.FIXED, 100, 1000, null);
+            case "RATE" -> new Coupon("10% 할인", CouponType.RATE, 100, 10, null);
+            default -> null;
+        };
+        if (coupon != null) {
+            BenchmarkFixtures.withId(coupon, COUPON_ID);
+        }
+        couponId = coupon == null ? null : COUPON_ID;
+        items = BenchmarkFixtures.orderItems(BenchmarkFixtures.products(BenchmarkFixtures.brand(), 3));
+
+        CouponRepository couponRepository = new CouponRepository() {
+            @Override
+            public Optional<Coupon> findById(Long id) {
+                return Optional.ofNullable(coupon);
+            }
+
+            @Override
+            public Coupon save(Coupon saved) {
+                return saved;
+            }
+        };
+        UserCouponRepository userCouponRepository = new UserCouponRepository() {
+            @Override
+            public Optional<UserCoupon> findByUserIdAndCouponId(String userId, Long id) {
+                return Optional.of(UserCoupon.create(userId, id, ZonedDateTime.now().plusDays(7)));
+            }
+
+            @Override
+            public UserCoupon save(UserCoupon saved) {
+                return saved;
+            }
+        };
+        couponService = new CouponService(couponRepository, userCouponRepository, discountStrategyFactory);
+    }
+
+    @Benchmark
+    public DiscountedOrderByCoupon useCoupon() {
+        return couponService.useCoupon(USER_ID, couponId, items);
+    }
+
+    @Benchmark
+    public BigDecimal discountStrategy() {
+        return discountStrategyFactory.create(coupon).applyDiscount(BigDecimal.valueOf(30_000));
+    }
+
+}
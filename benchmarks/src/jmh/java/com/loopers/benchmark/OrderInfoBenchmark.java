@@ -0,0 +1,38 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.order.OrderInfo;
+import com.loopers.domain.order.DiscountedOrderByCoupon;
+import com.loopers.domain.order.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 → 응답 모델 변환
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderInfoBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.withId(Order.place(
+                BenchmarkFixtures.user(),
+                BenchmarkFixtures.orderItems(BenchmarkFixtures.products(BenchmarkFixtures.brand(), itemCount)),
+                DiscountedOrderByCoupon.from(null, BigDecimal.valueOf(10_000))
+        ), 1L);
+    }
+
+    @Benchmark
+    public OrderInfo from() {
+        return OrderInfo.from(order);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.order.OrderItemCommand;
+import com.loopers.application.order.OrderItemFactory;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.product.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 요청 상품 → 주문 상품 변환
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderItemFactoryBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private List<OrderItemCommand> commands;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        products = BenchmarkFixtures.products(BenchmarkFixtures.brand(), itemCount);
+        commands = products.stream()
+                .map(product -> new OrderItemCommand(product.getId(), 2, product.getPrice()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<OrderItem> createFrom() {
+        return OrderItemFactory.createFrom(commands, products);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 생성 (상품명/이미지 URL 정규식 검증 포함)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProductBenchmark {
+
+    private Brand brand;
+
+    @Setup
+    public void setUp() {
+        brand = BenchmarkFixtures.brand();
+    }
+
+    @Benchmark
+    public Product create() {
+        return Product.create(brand, "나이키조던", "운동화", "https://example.com/shoes.png", 1000, 10);
+    }
+
+}
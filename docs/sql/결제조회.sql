@@ -0,0 +1,49 @@
+-- 결제 조회 (PG 콜백 / PENDING 상태 동기화)
+-- 데이터: GeneratePaymentCSVTest 로 생성 (1백만 / 3백만 / 1천만 건으로 바꿔가며 아래 쿼리 시간을 비교)
+
+-- 결제 이력 적재
+LOAD DATA LOCAL INFILE '/Users/yunyeong/study/loopers/apps/commerce-api/src/test/java/com/loopers/dummyData/csv/payments_3000000.csv'
+INTO TABLE payments
+FIELDS TERMINATED BY ','
+ENCLOSED BY '"'
+LINES TERMINATED BY '\n'
+IGNORE 1 ROWS
+(id, user_id, order_id, amount, method, status, reason, card_no, card_type, transaction_key, created_at, updated_at);
+
+select count(*) from payments;
+
+
+-- 1. PG 콜백: transactionKey + orderId 로 결제 조회
+-- 인덱스가 없으면 full scan 이라 건수에 비례해 느려지고, 인덱스가 있으면 건수와 무관하게 1건만 읽는다.
+explain analyze
+select * from payments
+where transaction_key = '20250816:TR:2dc6c0'
+  and order_id = 3000000;
+
+CREATE INDEX idx_payments_transaction_key_order_id
+    ON payments (transaction_key, order_id);
+
+ALTER TABLE payments ALTER INDEX idx_payments_transaction_key_order_id INVISIBLE;
+ALTER TABLE payments ALTER INDEX idx_payments_transaction_key_order_id VISIBLE;
+
+
+-- 2. 상태 동기화: 샤드별 PENDING 카드 결제 keyset 스캔 (id, transaction_key 프로젝션)
+-- (status, id) 인덱스의 PENDING 구간만 id 순으로 읽으므로 확정된 과거 결제가 늘어나도 읽는 범위가 같다.
+explain analyze
+select id, transaction_key from payments
+where status = 'PENDING'
+  and method = 'CARD'
+  and transaction_key is not null
+  and id > 0
+  and mod(id, 16) = 0
+order by id
+limit 500;
+
+CREATE INDEX idx_payments_status_id
+    ON payments (status, id);
+
+ALTER TABLE payments ALTER INDEX idx_payments_status_id INVISIBLE;
+ALTER TABLE payments ALTER INDEX idx_payments_status_id VISIBLE;
+
+
+-- DELETE FROM payments where 1=1;
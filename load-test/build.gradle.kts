@@ -0,0 +1,31 @@
+import org.springframework.boot.gradle.tasks.bundling.BootJar
+
+plugins {
+    application
+}
+
+dependencies {
+    implementation("org.hdrhistogram:HdrHistogram:${project.properties["hdrHistogramVersion"]}")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("org.testcontainers:mysql")
+    implementation("com.redis:testcontainers-redis")
+    runtimeOnly("com.mysql:mysql-connector-j")
+}
+
+application {
+    mainClass = "com.loopers.loadtest.LoadTestApplication"
+}
+
+// ./gradlew :load-test:run --args="--scenario=checkout --rate=50 --duration=2m"
+val loadTestApps = listOf("commerce-api", "pg-simulator")
+
+tasks.named<JavaExec>("run") {
+    loadTestApps.forEach { dependsOn(":apps:$it:bootJar") }
+    workingDir = rootDir
+    doFirst {
+        loadTestApps.forEach { app ->
+            val bootJar = project(":apps:$app").tasks.named<BootJar>("bootJar").get()
+            systemProperty("loadtest.$app.jar", bootJar.archiveFile.get().asFile.absolutePath)
+        }
+    }
+}
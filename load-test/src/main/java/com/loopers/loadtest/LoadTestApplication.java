@@ -0,0 +1,55 @@
+package com.loopers.loadtest;
+
+import com.loopers.loadtest.engine.OpenModelRunner;
+import com.loopers.loadtest.environment.LoadTestEnvironment;
+import com.loopers.loadtest.environment.Seeder;
+import com.loopers.loadtest.report.LoadTestReport;
+import com.loopers.loadtest.scenario.ApiClient;
+import com.loopers.loadtest.scenario.Scenario;
+import com.loopers.loadtest.scenario.Scenarios;
+import com.loopers.loadtest.scenario.Session;
+import com.loopers.loadtest.scenario.SettlementWatcher;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주문/결제 end-to-end 부하 테스트
+ * 1. 환경 준비 (MySQL/Redis 컨테이너, commerce-api, pg-simulator)
+ * 2. 데이터 준비 (브랜드, 상품, 사용자)
+ * 3. open model 로 시나리오 실행
+ * 4. 결과 출력 및 저장
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Scenario scenario = Scenarios.of(options.scenario());
+
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(options);
+             SettlementWatcher settlementWatcher = new SettlementWatcher(
+                     environment.jdbcUrl(), environment.jdbcUser(), environment.jdbcPassword())) {
+            ApiClient client = new ApiClient(environment.apiUrl());
+
+            System.out.printf("데이터 준비 - users: %d, products: %d%n", options.users(), options.products());
+            Seeder.SeedData data = Seeder.seed(environment, client, options.users(), options.products());
+            List<String> userIds = data.userIds();
+
+            System.out.printf("부하 시작 - scenario: %s, rate: %.1f/s, ramp-up: %s, duration: %s%n",
+                    scenario.name(), options.rate(), options.rampUp(), options.duration());
+            LoadTestReport report = new LoadTestReport(scenario.stepNames());
+            new OpenModelRunner(options, scenario, () -> new Session(
+                    client,
+                    settlementWatcher,
+                    options.settleTimeout(),
+                    userIds.get(ThreadLocalRandom.current().nextInt(userIds.size())),
+                    data.productIds()
+            ), report).run();
+
+            report.print(System.out);
+            report.write(options.reportDir(), options);
+            System.out.println("결과: " + options.reportDir().toAbsolutePath());
+        }
+    }
+
+}
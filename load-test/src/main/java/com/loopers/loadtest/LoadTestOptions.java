@@ -0,0 +1,100 @@
+package com.loopers.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value)
+ *
+ * @param scenario       실행할 시나리오 이름 ({@link com.loopers.loadtest.scenario.Scenarios})
+ * @param rate           초당 시작하는 시나리오 수 (open model, 응답 시간과 무관하게 이 속도로 도착한다)
+ * @param duration       목표 도착률을 유지하는 시간
+ * @param rampUp         0 에서 목표 도착률까지 선형으로 올리는 시간
+ * @param maxSessions    동시에 진행 중인 시나리오 수 상한 (넘으면 시작하지 않고 dropped 로 기록한다)
+ * @param users          준비할 사용자 수
+ * @param products       준비할 상품 수
+ * @param settleTimeout  결제 확정(콜백 또는 상태 동기화)을 기다리는 최대 시간
+ * @param infra          CONTAINERS: MySQL/Redis 컨테이너와 두 애플리케이션을 직접 띄운다, EXTERNAL: 이미 떠 있는 환경을 쓴다
+ * @param apiUrl         EXTERNAL 일 때 commerce-api 주소
+ * @param jdbcUrl        EXTERNAL 일 때 commerce-api DB 주소 (데이터 준비, 결제 확정 확인)
+ * @param reportDir      결과(요약, 구간별 지연 분포, 애플리케이션 로그)를 남길 디렉터리
+ * @param apiArgs        CONTAINERS 일 때 commerce-api 에 덧붙일 인자 (공백으로 구분, 예: --spring.threads.virtual.enabled=true)
+ */
+public record LoadTestOptions(
+        String scenario,
+        double rate,
+        Duration duration,
+        Duration rampUp,
+        int maxSessions,
+        int users,
+        int products,
+        Duration settleTimeout,
+        Infra infra,
+        String apiUrl,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        Path reportDir,
+        List<String> apiArgs
+) {
+
+    public enum Infra {
+        CONTAINERS,
+        EXTERNAL
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                values.getOrDefault("scenario", "checkout"),
+                Double.parseDouble(values.getOrDefault("rate", "20")),
+                parseDuration(values.getOrDefault("duration", "1m")),
+                parseDuration(values.getOrDefault("ramp-up", "10s")),
+                Integer.parseInt(values.getOrDefault("max-sessions", "10000")),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                Integer.parseInt(values.getOrDefault("products", "1000")),
+                parseDuration(values.getOrDefault("settle-timeout", "60s")),
+                Infra.valueOf(values.getOrDefault("infra", "containers").toUpperCase()),
+                values.getOrDefault("api-url", "http://localhost:8080"),
+                values.getOrDefault("jdbc-url", "jdbc:mysql://localhost:3306/loopers"),
+                values.getOrDefault("jdbc-user", "application"),
+                values.getOrDefault("jdbc-password", "application"),
+                Path.of(values.getOrDefault("report-dir", "load-test/build/reports")),
+                List.of(values.getOrDefault("api-args", "").trim().split("\\s+")).stream()
+                        .filter(arg -> !arg.isEmpty())
+                        .toList()
+        );
+        if (options.rate <= 0) {
+            throw new IllegalArgumentException("rate 는 0 보다 커야 합니다.");
+        }
+        return options;
+    }
+
+    /**
+     * 500ms, 30s, 5m 또는 ISO-8601(PT30S) 형식
+     */
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+}
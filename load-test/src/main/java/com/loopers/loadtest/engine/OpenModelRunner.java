@@ -0,0 +1,108 @@
+package com.loopers.loadtest.engine;
+
+import com.loopers.loadtest.LoadTestOptions;
+import com.loopers.loadtest.report.LoadTestReport;
+import com.loopers.loadtest.scenario.Scenario;
+import com.loopers.loadtest.scenario.Session;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * open model 부하 발생기
+ * - 응답을 기다리지 않고 정해진 도착 시각마다 시나리오를 시작한다. (느려져도 도착률이 줄지 않는다)
+ * - 도착률은 rampUp 동안 0 에서 목표까지 선형으로 오르고, 이후 duration 동안 유지된다.
+ * - 시나리오 전체 지연은 실제 시작이 아닌 예정된 도착 시각부터 재서, 발생기가 밀린 시간도 지연에 포함한다. (coordinated omission 방지)
+ */
+public class OpenModelRunner {
+
+    private static final Duration DRAIN_GRACE = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final Scenario scenario;
+    private final Supplier<Session> sessionFactory;
+    private final LoadTestReport report;
+
+    public OpenModelRunner(LoadTestOptions options, Scenario scenario, Supplier<Session> sessionFactory, LoadTestReport report) {
+        this.options = options;
+        this.scenario = scenario;
+        this.sessionFactory = sessionFactory;
+        this.report = report;
+    }
+
+    public void run() throws InterruptedException {
+        Semaphore sessions = new Semaphore(options.maxSessions());
+        long rampUpNanos = options.rampUp().toNanos();
+        long endNanos = rampUpNanos + options.duration().toNanos();
+        long begin = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; ; n++) {
+                long offset = arrivalOffsetNanos(n, options.rate(), rampUpNanos);
+                if (offset >= endNanos) {
+                    break;
+                }
+                long intendedStart = begin + offset;
+                LockSupport.parkNanos(intendedStart - System.nanoTime());
+
+                if (!sessions.tryAcquire()) {
+                    report.dropped();
+                    continue;
+                }
+                report.started();
+                executor.submit(() -> {
+                    try {
+                        execute(intendedStart);
+                    } finally {
+                        sessions.release();
+                    }
+                });
+            }
+
+            executor.shutdown();
+            Duration drainTimeout = options.settleTimeout().plus(DRAIN_GRACE);
+            if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                System.err.println("진행 중인 시나리오를 " + drainTimeout + " 안에 마치지 못해 중단합니다.");
+                executor.shutdownNow();
+            }
+        }
+        report.finish(Duration.ofNanos(System.nanoTime() - begin));
+    }
+
+    private void execute(long intendedStart) {
+        Session session = sessionFactory.get();
+        for (Scenario.Step step : scenario.steps()) {
+            long stepStart = System.nanoTime();
+            try {
+                step.action().run(session);
+                report.step(step.name()).success(System.nanoTime() - stepStart);
+            } catch (Exception e) {
+                long now = System.nanoTime();
+                report.step(step.name()).failure(now - stepStart, e);
+                report.step(LoadTestReport.SCENARIO).failure(now - intendedStart, e);
+                return;
+            }
+        }
+        report.step(LoadTestReport.SCENARIO).success(System.nanoTime() - intendedStart);
+    }
+
+    /**
+     * n 번째 도착 시각
+     * - 램프업 구간의 누적 도착 수는 rate * t^2 / (2 * rampUp) 이므로 t = sqrt(2 * rampUp * n / rate)
+     * - 이후 구간은 일정한 간격 1 / rate
+     */
+    static long arrivalOffsetNanos(long n, double rate, long rampUpNanos) {
+        double ratePerNano = rate / 1_000_000_000.0;
+        double rampUpArrivals = ratePerNano * rampUpNanos / 2;
+        if (n < rampUpArrivals) {
+            return (long) Math.sqrt(2.0 * rampUpNanos * n / ratePerNano);
+        }
+        return rampUpNanos + (long) ((n - rampUpArrivals) / ratePerNano);
+    }
+
+}
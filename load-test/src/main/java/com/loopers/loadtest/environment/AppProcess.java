@@ -0,0 +1,85 @@
+package com.loopers.loadtest.environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bootJar 로 띄운 애플리케이션 프로세스
+ * - 로그는 report 디렉터리의 {name}.log 로 남긴다.
+ * - readiness 가 UP 이 될 때까지 기다린다.
+ */
+final class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final Process process;
+    private final Path log;
+
+    private AppProcess(String name, Process process, Path log) {
+        this.name = name;
+        this.process = process;
+        this.log = log;
+    }
+
+    static AppProcess start(String name, Path reportDir, List<String> args) throws IOException {
+        String jar = System.getProperty("loadtest." + name + ".jar");
+        if (jar == null) {
+            throw new IllegalStateException("loadtest." + name + ".jar 가 없습니다. ./gradlew :load-test:run 으로 실행하세요.");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-jar");
+        command.add(jar);
+        command.addAll(args);
+
+        Path log = reportDir.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new AppProcess(name, process, log);
+    }
+
+    void awaitReady(int managementPort) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " 이(가) 시작 중 종료되었습니다. 로그: " + log);
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // 아직 포트가 열리지 않았다
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " 이(가) " + STARTUP_TIMEOUT + " 안에 준비되지 않았습니다. 로그: " + log);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy(); // graceful shutdown
+        if (!process.waitFor(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.loopers.loadtest.environment;
+
+import com.loopers.loadtest.LoadTestOptions;
+import com.redis.testcontainers.RedisContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 대상 환경
+ * - CONTAINERS: MySQL/Redis 를 컨테이너로 띄우고, commerce-api 와 pg-simulator 를 local 프로필로 띄워 서로 연결한다.
+ * - EXTERNAL: 이미 떠 있는 commerce-api 와 DB 를 그대로 쓴다.
+ */
+public final class LoadTestEnvironment implements AutoCloseable {
+
+    private static final String DB_USER = "root";
+    private static final String DB_PASSWORD = "loadtest";
+
+    private final String apiUrl;
+    private final String jdbcUrl;
+    private final String jdbcUser;
+    private final String jdbcPassword;
+    private final List<AutoCloseable> resources;
+
+    private LoadTestEnvironment(String apiUrl, String jdbcUrl, String jdbcUser, String jdbcPassword, List<AutoCloseable> resources) {
+        this.apiUrl = apiUrl;
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcUser = jdbcUser;
+        this.jdbcPassword = jdbcPassword;
+        this.resources = resources;
+    }
+
+    public static LoadTestEnvironment start(LoadTestOptions options) throws Exception {
+        if (options.infra() == LoadTestOptions.Infra.EXTERNAL) {
+            return new LoadTestEnvironment(options.apiUrl(), options.jdbcUrl(), options.jdbcUser(), options.jdbcPassword(), List.of());
+        }
+
+        Files.createDirectories(options.reportDir());
+        List<AutoCloseable> resources = new ArrayList<>();
+        try {
+            MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                    .withDatabaseName("loopers")
+                    .withUsername(DB_USER)
+                    .withPassword(DB_PASSWORD)
+                    .withInitScript("load-test/init.sql")
+                    .withCommand(
+                            "--character-set-server=utf8mb4",
+                            "--collation-server=utf8mb4_general_ci",
+                            "--skip-character-set-client-handshake"
+                    );
+            RedisContainer redis = new RedisContainer(DockerImageName.parse("redis:7.4"));
+            resources.add(mysql::stop);
+            resources.add(redis::stop);
+            Startables.deepStart(mysql, redis).join();
+
+            String dbHost = "jdbc:mysql://" + mysql.getHost() + ":" + mysql.getFirstMappedPort() + "/";
+            int apiPort = freePort();
+            int apiManagementPort = freePort();
+            int pgPort = freePort();
+            int pgManagementPort = freePort();
+
+            List<String> common = List.of(
+                    "--spring.profiles.active=local",
+                    "--datasource.mysql-jpa.main.username=" + DB_USER,
+                    "--datasource.mysql-jpa.main.password=" + DB_PASSWORD,
+                    "--datasource.redis.master.host=" + redis.getHost(),
+                    "--datasource.redis.master.port=" + redis.getFirstMappedPort(),
+                    "--datasource.redis.replicas[0].host=" + redis.getHost(),
+                    "--datasource.redis.replicas[0].port=" + redis.getFirstMappedPort(),
+                    "--decorator.datasource.p6spy.enable-logging=false" // SQL 로깅 비용이 결과에 섞이지 않도록 끈다
+            );
+
+            List<String> pgArgs = new ArrayList<>(common);
+            pgArgs.add("--server.port=" + pgPort);
+            pgArgs.add("--management.server.port=" + pgManagementPort);
+            pgArgs.add("--datasource.mysql-jpa.main.jdbc-url=" + dbHost + "paymentgateway");
+            AppProcess pg = AppProcess.start("pg-simulator", options.reportDir(), pgArgs);
+            resources.add(pg);
+
+            List<String> apiArgs = new ArrayList<>(common);
+            apiArgs.add("--server.port=" + apiPort);
+            apiArgs.add("--management.server.port=" + apiManagementPort);
+            apiArgs.add("--datasource.mysql-jpa.main.jdbc-url=" + dbHost + "loopers");
+            apiArgs.add("--pg.url=http://localhost:" + pgPort);
+            apiArgs.add("--payment.callback.url=http://localhost:" + apiPort + "/api/v1/payments/callback");
+            apiArgs.addAll(options.apiArgs());
+            AppProcess api = AppProcess.start("commerce-api", options.reportDir(), apiArgs);
+            resources.add(api);
+
+            pg.awaitReady(pgManagementPort);
+            api.awaitReady(apiManagementPort);
+
+            return new LoadTestEnvironment("http://localhost:" + apiPort, dbHost + "loopers", DB_USER, DB_PASSWORD, resources);
+        } catch (Exception e) {
+            new LoadTestEnvironment(null, null, null, null, resources).close();
+            throw e;
+        }
+    }
+
+    public String apiUrl() {
+        return apiUrl;
+    }
+
+    public String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public String jdbcUser() {
+        return jdbcUser;
+    }
+
+    public String jdbcPassword() {
+        return jdbcPassword;
+    }
+
+    /**
+     * 애플리케이션을 먼저 내리고 컨테이너를 내린다.
+     */
+    @Override
+    public void close() {
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            try {
+                resources.get(i).close();
+            } catch (Exception e) {
+                System.err.println("환경 정리 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
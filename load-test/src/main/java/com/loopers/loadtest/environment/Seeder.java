@@ -0,0 +1,121 @@
+package com.loopers.loadtest.environment;
+
+import com.loopers.loadtest.scenario.ApiClient;
+import com.loopers.loadtest.scenario.ApiException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 데이터 준비
+ * - 브랜드/상품은 관리 API 가 없으므로 DB 에 직접 넣는다. (재고는 테스트 중 소진되지 않을 만큼 넉넉히)
+ * - 사용자는 가입 API 로 만든다. 이미 있으면(EXTERNAL 재실행) 실패를 무시한다.
+ */
+public final class Seeder {
+
+    private static final int BRAND_COUNT = 10;
+    private static final int STOCK = 1_000_000;
+    private static final int BATCH_SIZE = 500;
+
+    private Seeder() {
+    }
+
+    /**
+     * @return 준비된 데이터 (사용자 ID, 상품 ID)
+     */
+    public static SeedData seed(LoadTestEnvironment environment, ApiClient client, int users, int products) throws Exception {
+        List<Long> productIds;
+        try (Connection connection = DriverManager.getConnection(
+                environment.jdbcUrl(), environment.jdbcUser(), environment.jdbcPassword())) {
+            connection.setAutoCommit(false);
+            List<Long> brandIds = insertBrands(connection);
+            productIds = insertProducts(connection, brandIds, products);
+            connection.commit();
+        }
+
+        List<String> userIds = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String userId = "lt" + i;
+            try {
+                client.post("/api/v1/users", null, Map.of(
+                        "userId", userId,
+                        "gender", i % 2 == 0 ? "M" : "F",
+                        "birth", "1990-01-01",
+                        "email", userId + "@loadtest.com"
+                ));
+            } catch (ApiException e) {
+                if (e.status() >= 500) {
+                    throw e;
+                }
+                // 이미 가입된 사용자
+            }
+            userIds.add(userId);
+        }
+        return new SeedData(userIds, productIds);
+    }
+
+    private static List<Long> insertBrands(Connection connection) throws SQLException {
+        String sql = "insert into brands (name, description, image_url, created_at, updated_at) values (?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < BRAND_COUNT; i++) {
+                statement.setString(1, "LoadTestBrand" + i);
+                statement.setString(2, "부하 테스트 브랜드");
+                statement.setString(3, "https://example.com/brand" + i + ".png");
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            return generatedKeys(statement);
+        }
+    }
+
+    private static List<Long> insertProducts(Connection connection, List<Long> brandIds, int count) throws SQLException {
+        String sql = "insert into products (brand_id, name, description, image_url, price, stock, status, like_count, version, created_at, updated_at)"
+                + " values (?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?)";
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < count; i++) {
+                statement.setLong(1, brandIds.get(i % brandIds.size()));
+                statement.setString(2, "LoadTestProduct" + i);
+                statement.setString(3, "부하 테스트 상품");
+                statement.setString(4, "https://example.com/product" + i + ".png");
+                statement.setInt(5, 1000 + (i % 100) * 100);
+                statement.setInt(6, STOCK);
+                statement.setTimestamp(7, now);
+                statement.setTimestamp(8, now);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i == count - 1) {
+                    statement.executeBatch();
+                    ids.addAll(generatedKeys(statement));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> generatedKeys(Statement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    public record SeedData(List<String> userIds, List<Long> productIds) {
+    }
+
+}
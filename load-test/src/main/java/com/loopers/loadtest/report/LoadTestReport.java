@@ -0,0 +1,124 @@
+package com.loopers.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loopers.loadtest.LoadTestOptions;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 결과
+ * - 콘솔: 단계별 p50/p90/p99/p99.9/max (ms)
+ * - {reportDir}/{step}.hgrm: 단계별 지연 분포 (HdrHistogram plotter 로 그릴 수 있다)
+ * - {reportDir}/summary.json: 실행 옵션, 도착/드롭 수, 단계별 분위수와 실패 원인
+ */
+public class LoadTestReport {
+
+    /** 시나리오 전체 (예정된 도착 시각부터 마지막 단계 종료까지) */
+    public static final String SCENARIO = "scenario";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile Duration elapsed = Duration.ZERO;
+
+    public LoadTestReport(List<String> stepNames) {
+        stepNames.forEach(name -> steps.put(name, new StepStats(name)));
+        steps.put(SCENARIO, new StepStats(SCENARIO));
+    }
+
+    public StepStats step(String name) {
+        return steps.get(name);
+    }
+
+    public void started() {
+        started.increment();
+    }
+
+    /**
+     * 동시 세션 상한에 걸려 시작하지 못한 도착
+     */
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nstarted: %d, dropped: %d, elapsed: %ds%n", started.sum(), dropped.sum(), elapsed.toSeconds());
+        out.printf("%-10s %9s %7s %9s %9s %9s %9s %9s%n", "step", "ok", "error", "p50", "p90", "p99", "p99.9", "max");
+        for (StepStats stats : steps.values()) {
+            Histogram latency = stats.latency();
+            out.printf("%-10s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    stats.name(), stats.successCount(), stats.errorCount(),
+                    millis(latency.getValueAtPercentile(50.0)),
+                    millis(latency.getValueAtPercentile(90.0)),
+                    millis(latency.getValueAtPercentile(99.0)),
+                    millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()));
+        }
+        steps.values().forEach(stats -> stats.errorsByReason().forEach((reason, count) ->
+                out.printf("  %s: %s x%d%n", stats.name(), reason, count)));
+    }
+
+    public void write(Path reportDir, LoadTestOptions options) throws IOException {
+        Files.createDirectories(reportDir);
+
+        for (StepStats stats : steps.values()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(stats.name() + ".hgrm")))) {
+                stats.latency().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", options.scenario());
+        summary.put("targetRate", options.rate());
+        summary.put("duration", options.duration().toString());
+        summary.put("rampUp", options.rampUp().toString());
+        summary.put("apiArgs", options.apiArgs());
+        summary.put("started", started.sum());
+        summary.put("dropped", dropped.sum());
+        summary.put("achievedRate", elapsed.isZero() ? 0.0 : started.sum() / (elapsed.toMillis() / 1000.0));
+
+        Map<String, Object> stepSummaries = new LinkedHashMap<>();
+        for (StepStats stats : steps.values()) {
+            Histogram latency = stats.latency();
+            Map<String, Object> percentiles = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                percentiles.put("p" + percentile, millis(latency.getValueAtPercentile(percentile)));
+            }
+            percentiles.put("max", millis(latency.getMaxValue()));
+
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("success", stats.successCount());
+            step.put("error", stats.errorCount());
+            step.put("latencyMs", percentiles);
+            step.put("errors", stats.errorsByReason());
+            stepSummaries.put(stats.name(), step);
+        }
+        summary.put("steps", stepSummaries);
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("summary.json").toFile(), summary);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+}
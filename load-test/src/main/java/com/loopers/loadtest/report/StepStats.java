@@ -0,0 +1,61 @@
+package com.loopers.loadtest.report;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 지연 분포와 성공/실패 수
+ * - 지연은 ns 단위로 기록한다. (유효숫자 3자리, 범위는 자동 확장)
+ * - 실패는 원인별로 센다.
+ */
+public class StepStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder successes = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    public void success(long latencyNanos) {
+        latency.recordValue(latencyNanos);
+        successes.increment();
+    }
+
+    public void failure(long latencyNanos, Throwable cause) {
+        latency.recordValue(latencyNanos);
+        String reason = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        errors.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long successCount() {
+        return successes.sum();
+    }
+
+    public long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Map<String, Long> errorsByReason() {
+        Map<String, Long> result = new ConcurrentHashMap<>();
+        errors.forEach((reason, count) -> result.put(reason, count.sum()));
+        return result;
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.loopers.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * commerce-api 호출 클라이언트
+ * - ApiResponse 의 meta 를 확인하고 data 만 돌려준다.
+ * - 모든 세션이 하나의 HttpClient(커넥션 풀)를 공유한다.
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public JsonNode get(String path, String userId) throws IOException, InterruptedException {
+        return send(request(path, userId).GET());
+    }
+
+    public JsonNode post(String path, String userId, Object body) throws IOException, InterruptedException {
+        return send(request(path, userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+    }
+
+    public JsonNode delete(String path, String userId) throws IOException, InterruptedException {
+        return send(request(path, userId).DELETE());
+    }
+
+    private HttpRequest.Builder request(String path, String userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT);
+        if (userId != null) {
+            builder.header("X-USER-ID", userId);
+        }
+        return builder;
+    }
+
+    private JsonNode send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpRequest request = builder.build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode body = response.body().length == 0 ? null : objectMapper.readTree(response.body());
+
+        JsonNode meta = body == null ? null : body.path("meta");
+        boolean failed = meta != null && "FAIL".equals(meta.path("result").asText());
+        if (response.statusCode() / 100 != 2 || failed) {
+            String errorCode = meta == null ? "" : meta.path("errorCode").asText();
+            throw new ApiException(response.statusCode(),
+                    (request.method() + " " + response.statusCode() + " " + errorCode).trim());
+        }
+        return body == null ? null : body.path("data");
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.loopers.loadtest.scenario;
+
+/**
+ * 2xx 가 아니거나 meta.result 가 FAIL 인 응답
+ */
+public class ApiException extends RuntimeException {
+
+    private final int status;
+
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int status() {
+        return status;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.loopers.loadtest.scenario;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 사용자가 순서대로 수행하는 단계 묶음
+ * - 단계별 지연은 따로 집계하고, 시나리오 전체 지연은 예정된 도착 시각부터 잰다.
+ * <pre>
+ * Scenario.named("checkout")
+ *         .step("browse", session -> session.get("/api/v1/products?page=0&size=20"))
+ *         .step("order", ...)
+ *         .build();
+ * </pre>
+ */
+public record Scenario(String name, List<Step> steps) {
+
+    public static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    public List<String> stepNames() {
+        return steps.stream().map(Step::name).toList();
+    }
+
+    public record Step(String name, Action action) {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run(Session session) throws Exception;
+    }
+
+    public static final class Builder {
+
+        private final String name;
+        private final List<Step> steps = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder step(String name, Action action) {
+            steps.add(new Step(name, action));
+            return this;
+        }
+
+        public Scenario build() {
+            if (steps.isEmpty()) {
+                throw new IllegalStateException("시나리오에 단계가 없습니다: " + name);
+            }
+            return new Scenario(name, List.copyOf(steps));
+        }
+
+    }
+
+}
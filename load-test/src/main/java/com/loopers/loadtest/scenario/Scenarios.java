@@ -0,0 +1,69 @@
+package com.loopers.loadtest.scenario;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실행 가능한 시나리오 목록
+ * - checkout: 목록 조회 → 상세 조회 → 좋아요 → 주문 → 카드 결제 → 결제 확정(PG 콜백) 대기
+ * - browse: 목록 조회 → 상세 조회 (쓰기 없이 조회 경로만)
+ */
+public final class Scenarios {
+
+    private static final String[] CARD_TYPES = {"SAMSUNG", "KB", "HYUNDAI"};
+
+    private static final Scenario.Action BROWSE = session ->
+            session.get("/api/v1/products?page=" + ThreadLocalRandom.current().nextInt(10) + "&size=20");
+
+    private static final Scenario.Action DETAIL = session -> {
+        long productId = session.randomProductId();
+        session.setVariable("productId", productId);
+        session.setVariable("price", session.get("/api/v1/products/" + productId).path("price").asInt());
+    };
+
+    private static final Map<String, Scenario> SCENARIOS = Map.of(
+            "checkout", Scenario.named("checkout")
+                    .step("browse", BROWSE)
+                    .step("detail", DETAIL)
+                    .step("like", session ->
+                            session.post("/api/v1/likes/products/" + session.variable("productId", Long.class), Map.of()))
+                    .step("order", session -> {
+                        int quantity = ThreadLocalRandom.current().nextInt(1, 4);
+                        Map<String, Object> item = Map.of(
+                                "productId", session.variable("productId", Long.class),
+                                "quantity", quantity,
+                                "price", session.variable("price", Integer.class)
+                        );
+                        long orderId = session.post("/api/v1/orders", Map.of("items", List.of(item))).path("orderId").asLong();
+                        session.setVariable("orderId", orderId);
+                        session.setVariable("amount", session.variable("price", Integer.class) * quantity);
+                    })
+                    .step("pay", session -> session.post("/api/v1/payments", Map.of(
+                            "userId", session.userId(),
+                            "orderId", session.variable("orderId", Long.class),
+                            "amount", session.variable("amount", Integer.class),
+                            "paymentMethod", "CARD",
+                            "cardNo", "1234-5678-9814-1451",
+                            "cardType", CARD_TYPES[ThreadLocalRandom.current().nextInt(CARD_TYPES.length)]
+                    )))
+                    .step("settle", session -> session.awaitSettlement(session.variable("orderId", Long.class)))
+                    .build(),
+            "browse", Scenario.named("browse")
+                    .step("browse", BROWSE)
+                    .step("detail", DETAIL)
+                    .build()
+    );
+
+    private Scenarios() {
+    }
+
+    public static Scenario of(String name) {
+        Scenario scenario = SCENARIOS.get(name);
+        if (scenario == null) {
+            throw new IllegalArgumentException("알 수 없는 시나리오: " + name + " (가능: " + SCENARIOS.keySet() + ")");
+        }
+        return scenario;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.loopers.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시나리오 한 번의 실행 상태
+ * - 단계 사이에 넘길 값(상품 ID, 주문 ID 등)은 변수로 보관한다.
+ */
+public class Session {
+
+    private final ApiClient client;
+    private final SettlementWatcher settlementWatcher;
+    private final Duration settleTimeout;
+    private final String userId;
+    private final List<Long> productIds;
+    private final Map<String, Object> variables = new HashMap<>();
+
+    public Session(ApiClient client, SettlementWatcher settlementWatcher, Duration settleTimeout, String userId, List<Long> productIds) {
+        this.client = client;
+        this.settlementWatcher = settlementWatcher;
+        this.settleTimeout = settleTimeout;
+        this.userId = userId;
+        this.productIds = productIds;
+    }
+
+    public JsonNode get(String path) throws IOException, InterruptedException {
+        return client.get(path, userId);
+    }
+
+    public JsonNode post(String path, Object body) throws IOException, InterruptedException {
+        return client.post(path, userId, body);
+    }
+
+    public JsonNode delete(String path) throws IOException, InterruptedException {
+        return client.delete(path, userId);
+    }
+
+    /**
+     * 결제가 확정될 때까지 기다린다.
+     * @return 확정된 결제 상태 (SUCCESS, FAILED)
+     */
+    public String awaitSettlement(long orderId) throws Exception {
+        return settlementWatcher.await(orderId, settleTimeout);
+    }
+
+    public String userId() {
+        return userId;
+    }
+
+    public long randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    public void setVariable(String name, Object value) {
+        variables.put(name, value);
+    }
+
+    public <T> T variable(String name, Class<T> type) {
+        Object value = variables.get(name);
+        if (value == null) {
+            throw new IllegalStateException("세션 변수가 없습니다: " + name);
+        }
+        return type.cast(value);
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.loopers.loadtest.scenario;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 결제 확정 감시
+ * - 결제 결과는 PG 콜백(또는 상태 동기화)으로 비동기 확정되므로, 세션마다 폴링하지 않고
+ *   하나의 스레드가 대기 중인 주문의 결제 상태를 묶어서 조회해 완료시킨다.
+ */
+public class SettlementWatcher implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+    private static final int QUERY_CHUNK_SIZE = 500;
+
+    private final String jdbcUrl;
+    private final String user;
+    private final String password;
+    private final Map<Long, CompletableFuture<String>> waiting = new ConcurrentHashMap<>();
+    private final Thread poller;
+    private volatile boolean running = true;
+
+    public SettlementWatcher(String jdbcUrl, String user, String password) {
+        this.jdbcUrl = jdbcUrl;
+        this.user = user;
+        this.password = password;
+        this.poller = Thread.ofPlatform().daemon().name("settlement-watcher").start(this::poll);
+    }
+
+    public String await(long orderId, Duration timeout) throws Exception {
+        CompletableFuture<String> future = waiting.computeIfAbsent(orderId, id -> new CompletableFuture<>());
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new TimeoutException("결제 확정 대기 시간 초과");
+        } finally {
+            waiting.remove(orderId);
+        }
+    }
+
+    private void poll() {
+        Connection connection = null;
+        while (running) {
+            try {
+                if (connection == null || !connection.isValid(1)) {
+                    connection = DriverManager.getConnection(jdbcUrl, user, password);
+                }
+                List<Long> orderIds = new ArrayList<>(waiting.keySet());
+                for (int i = 0; i < orderIds.size(); i += QUERY_CHUNK_SIZE) {
+                    complete(connection, orderIds.subList(i, Math.min(i + QUERY_CHUNK_SIZE, orderIds.size())));
+                }
+            } catch (SQLException e) {
+                System.err.println("결제 상태 조회 실패: " + e.getMessage());
+                closeQuietly(connection);
+                connection = null;
+            }
+
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        closeQuietly(connection);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private void complete(Connection connection, List<Long> orderIds) throws SQLException {
+        String placeholders = String.join(",", Collections.nCopies(orderIds.size(), "?"));
+        String sql = "select order_id, status from payments where status <> 'PENDING' and order_id in (" + placeholders + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < orderIds.size(); i++) {
+                statement.setLong(i + 1, orderIds.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    CompletableFuture<String> future = waiting.get(resultSet.getLong("order_id"));
+                    if (future != null) {
+                        future.complete(resultSet.getString("status"));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        poller.interrupt();
+        poller.join();
+    }
+
+}
@@ -0,0 +1,2 @@
+-- pg-simulator 는 commerce-api 와 테이블 이름(payments)이 겹치므로 별도 DB 를 쓴다
+CREATE DATABASE IF NOT EXISTS paymentgateway;
@@ -3,11 +3,15 @@ package com.loopers.config.jpa;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+
 @Configuration
 class DataSourceConfig {
     @Bean
@@ -18,7 +22,20 @@ class DataSourceConfig {
 
     @Primary
     @Bean
-    HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
-        return new HikariDataSource(hikariConfig);
+    DataSource mySqlMainDataSource(
+            @Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
+    ) {
+        HikariDataSource dataSource = new HikariDataSource(hikariConfig);
+        if (!virtualThreadsEnabled) {
+            return dataSource;
+        }
+
+        // 가상 스레드 모드에서는 풀 크기만큼만 커넥션 획득을 허용한다
+        return new ConnectionLimitingDataSource(
+                dataSource,
+                hikariConfig.getMaximumPoolSize(),
+                Duration.ofMillis(hikariConfig.getConnectionTimeout())
+        );
     }
 }
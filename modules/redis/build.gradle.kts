@@ -13,6 +13,8 @@ dependencies {
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    api("com.github.ben-manes.caffeine:caffeine")
+    api("io.micrometer:micrometer-core")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
@@ -4,7 +4,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.config.cache.NearCacheProperties;
+import com.loopers.config.cache.NearCacheRegistry;
+import com.loopers.config.cache.StampedeGuard;
+import com.loopers.config.cache.StampedeProperties;
+import com.loopers.config.cache.TwoTierCacheManager;
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -14,42 +25,100 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 
 @EnableCaching
 @Configuration
+@EnableConfigurationProperties({NearCacheProperties.class, StampedeProperties.class})
 @RequiredArgsConstructor
 public class CacheConfig {
 
+    private final NearCacheProperties nearCacheProperties;
+    private final StampedeProperties stampedeProperties;
+
+    /**
+     * L1(인스턴스 로컬) → L2(Redis) 순서로 조회하는 기본 CacheManager
+     */
     @Bean
     @Primary
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
-        ObjectMapper objectMapper = new ObjectMapper()
-                .registerModule(new JavaTimeModule())
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                .activateDefaultTyping(
-                        // 객체 직렬화시 타입 정보가 포함되어야 역직렬화시 타입을 알 수 있음
-                        BasicPolymorphicTypeValidator.builder()
-                                .allowIfBaseType(Object.class)
-                                .build(),
-                        ObjectMapper.DefaultTyping.NON_FINAL
-                );
+    public CacheManager cacheManager(RedisCacheManager redisCacheManager, NearCacheRegistry nearCacheRegistry) {
+        return new TwoTierCacheManager(redisCacheManager, nearCacheRegistry);
+    }
+
+    @Bean
+    public NearCacheRegistry nearCacheRegistry(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new NearCacheRegistry(
+                redisTemplate,
+                nearCacheProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    @Bean
+    public StampedeGuard stampedeGuard(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            NearCacheRegistry nearCacheRegistry
+    ) {
+        return new StampedeGuard(redisTemplate, stampedeProperties, nearCacheRegistry);
+    }
 
+    /**
+     * 다른 인스턴스가 발행한 L1 무효화 메시지 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+            @Qualifier(RedisConfig.CONNECTION_PUBSUB) LettuceConnectionFactory connectionFactory,
+            NearCacheRegistry nearCacheRegistry
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(nearCacheRegistry, new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .disableCachingNullValues()
                 .entryTtl(Duration.ofMinutes(30))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)));
+                        .fromSerializer(cacheValueSerializer()));
 
         return RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory))
                 .cacheDefaults(config)
                 .build();
     }
 
+    /**
+     * 캐시 값 직렬화기 (benchmarks 모듈에서 같은 설정으로 비용을 측정한다)
+     */
+    public static RedisSerializer<Object> cacheValueSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .activateDefaultTyping(
+                        // 객체 직렬화시 타입 정보가 포함되어야 역직렬화시 타입을 알 수 있음
+                        BasicPolymorphicTypeValidator.builder()
+                                .allowIfBaseType(Object.class)
+                                .build(),
+                        ObjectMapper.DefaultTyping.NON_FINAL
+                );
+
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
 }
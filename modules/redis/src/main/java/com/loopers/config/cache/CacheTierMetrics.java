@@ -0,0 +1,40 @@
+package com.loopers.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 캐시 계층(L1/L2) 별 hit/miss 카운터
+ * - cache.tier.gets{cache, tier, result}
+ */
+public class CacheTierMetrics {
+
+    public static final String TIER_LOCAL = "l1";
+    public static final String TIER_REMOTE = "l2";
+
+    private final Counter hit;
+    private final Counter miss;
+
+    public CacheTierMetrics(MeterRegistry meterRegistry, String cacheName, String tier) {
+        this.hit = counter(meterRegistry, cacheName, tier, "hit");
+        this.miss = counter(meterRegistry, cacheName, tier, "miss");
+    }
+
+    public void record(boolean hit) {
+        if (hit) {
+            this.hit.increment();
+        } else {
+            this.miss.increment();
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cacheName, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("계층별 캐시 조회 결과")
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.loopers.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인스턴스 로컬(L1) 캐시
+ * - 키는 문자열로 정규화한다. (pub/sub 무효화 메시지와 동일한 형태로 비교하기 위함)
+ * - 값은 역직렬화된 객체를 그대로 보관하므로 호출자는 반환값을 변경하지 않아야 한다.
+ * - 비활성화 시 모든 조회는 miss 로 처리되고 저장하지 않는다.
+ */
+public class NearCache {
+
+    private final String name;
+    private final boolean enabled;
+    private final Cache<String, Object> store;
+    private final CacheTierMetrics metrics;
+
+    public NearCache(String name, NearCacheProperties properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.enabled = properties.isEnabled();
+        this.store = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .build();
+        this.metrics = new CacheTierMetrics(meterRegistry, name, CacheTierMetrics.TIER_LOCAL);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Object get(Object key) {
+        if (!enabled) {
+            return null;
+        }
+        Object value = store.getIfPresent(key.toString());
+        metrics.record(value != null);
+        return value;
+    }
+
+    public void put(Object key, Object value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        store.put(key.toString(), value);
+    }
+
+    public void invalidate(Object key) {
+        store.invalidate(key.toString());
+    }
+
+    public void invalidateAll() {
+        store.invalidateAll();
+    }
+
+}
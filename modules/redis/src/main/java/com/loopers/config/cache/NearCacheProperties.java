@@ -0,0 +1,29 @@
+package com.loopers.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 로컬(L1) 캐시 설정
+ * - L1 은 Redis(L2) 앞단에 위치하며, 크기 기반(LRU 유사) 으로 제거된다.
+ * - 다른 인스턴스의 변경은 invalidation-channel 로 전파된다.
+ */
+@ConfigurationProperties(value = "cache.near")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    // pub/sub 메시지가 유실되어도 이 시간 이상 오래된 값은 제공하지 않는다
+    private Duration expireAfterWrite = Duration.ofSeconds(30);
+    private String invalidationChannel = "cache:invalidation";
+
+}
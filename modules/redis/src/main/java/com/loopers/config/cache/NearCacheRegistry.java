@@ -0,0 +1,105 @@
+package com.loopers.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1 캐시 저장소 및 인스턴스 간 무효화 브로커
+ * - 로컬 무효화 후 Redis pub/sub 으로 "{nodeId}|{cacheName}|{key}" 메시지를 발행한다.
+ * - key 가 비어있으면 해당 캐시 전체를 비운다.
+ * - 자신이 발행한 메시지는 이미 로컬에 반영되었으므로 무시한다.
+ */
+@Slf4j
+public class NearCacheRegistry implements MessageListener {
+
+    private static final String DELIMITER = "|";
+    private static final String CLEAR_ALL = "";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, NearCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, CacheTierMetrics> remoteMetrics = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NearCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter received;
+
+    public NearCacheRegistry(
+            RedisTemplate<String, String> redisTemplate,
+            NearCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.received = Counter.builder("cache.near.invalidations.received")
+                .description("다른 인스턴스로부터 수신한 L1 무효화 메시지 수")
+                .register(meterRegistry);
+    }
+
+    public NearCache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> new NearCache(n, properties, meterRegistry));
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * L2(Redis) 조회 결과 기록용 카운터
+     */
+    public CacheTierMetrics getRemoteMetrics(String name) {
+        return remoteMetrics.computeIfAbsent(name, n -> new CacheTierMetrics(meterRegistry, n, CacheTierMetrics.TIER_REMOTE));
+    }
+
+    public void invalidate(String cacheName, Object key) {
+        getCache(cacheName).invalidate(key);
+        publish(cacheName, key.toString());
+    }
+
+    public void invalidateAll(String cacheName) {
+        getCache(cacheName).invalidateAll();
+        publish(cacheName, CLEAR_ALL);
+    }
+
+    private void publish(String cacheName, String key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), nodeId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            // 발행 실패 시에도 다른 인스턴스의 L1 은 expire-after-write 이내에 만료된다
+            log.warn("L1 캐시 무효화 메시지 발행 실패 - cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        NearCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        received.increment();
+        if (CLEAR_ALL.equals(parts[2])) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(parts[2]);
+        }
+    }
+
+}
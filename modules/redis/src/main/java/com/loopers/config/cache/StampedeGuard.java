@@ -0,0 +1,210 @@
+package com.loopers.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 캐시 미스 시 원본 적재를 직렬화한다.
+ * - 노드 내: 키 당 하나의 적재만 수행하고 나머지 요청은 그 결과를 기다린다. (single-flight)
+ * - 노드 간: "{key}:lock" 락을 잡은 노드만 적재하고, 나머지 노드는 적재 결과를 polling 한다.
+ * - 조기 갱신: 적재 소요 시간(delta)과 남은 TTL 로 XFetch 확률을 계산해 만료 전에 비동기로 갱신한다.
+ */
+@Slf4j
+public class StampedeGuard {
+
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final String DELTA_SUFFIX = ":delta";
+
+    // 값, 남은 TTL(ms), 적재 소요 시간(ms) 을 한 번에 조회
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if not v then return {} end " +
+            "return {v, tostring(redis.call('PTTL', KEYS[1])), redis.call('GET', KEYS[2]) or '0'}",
+            List.class
+    );
+
+    // 자신이 잡은 락만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StampedeProperties properties;
+    private final NearCacheRegistry registry;
+    private final Counter loads;
+    private final Counter earlyRefreshes;
+
+    public StampedeGuard(
+            RedisTemplate<String, String> redisTemplate,
+            StampedeProperties properties,
+            NearCacheRegistry registry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.registry = registry;
+        MeterRegistry meterRegistry = registry.getMeterRegistry();
+        this.loads = Counter.builder("cache.stampede.loads")
+                .description("캐시 미스로 원본을 적재한 횟수")
+                .register(meterRegistry);
+        this.earlyRefreshes = Counter.builder("cache.stampede.early.refreshes")
+                .description("만료 전 조기 갱신 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 미스 시 loader 로 적재 후 ttl 로 저장한다.
+     * loader 의 예외는 그대로 전파되며 이 경우 캐시에 저장하지 않는다.
+     */
+    public String get(String cacheName, String key, Duration ttl, Callable<String> loader) {
+        List<String> entry = read(key);
+        registry.getRemoteMetrics(cacheName).record(!entry.isEmpty());
+
+        if (!entry.isEmpty()) {
+            if (shouldRefreshEarly(Long.parseLong(entry.get(1)), Long.parseLong(entry.get(2)))) {
+                refreshAsync(key, ttl, loader);
+            }
+            return entry.get(0);
+        }
+
+        return join(load(key, ttl, loader, false));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> read(String key) {
+        List<String> entry = redisTemplate.execute(READ_SCRIPT, List.of(key, key + DELTA_SUFFIX));
+        return entry != null ? entry : List.of();
+    }
+
+    /**
+     * XFetch: -delta * beta * ln(rand) >= 남은 TTL 이면 갱신
+     */
+    private boolean shouldRefreshEarly(long remainingMillis, long deltaMillis) {
+        if (properties.getBeta() <= 0 || remainingMillis < 0 || deltaMillis <= 0) {
+            return false;
+        }
+        double gap = -deltaMillis * properties.getBeta() * Math.log(ThreadLocalRandom.current().nextDouble());
+        return gap >= remainingMillis;
+    }
+
+    private void refreshAsync(String key, Duration ttl, Callable<String> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        earlyRefreshes.increment();
+        refreshExecutor.execute(() -> {
+            CompletableFuture<String> refreshed = load(key, ttl, loader, true);
+            if (refreshed.isCompletedExceptionally()) {
+                log.warn("캐시 조기 갱신 실패 - key: {}", key);
+            }
+        });
+    }
+
+    private CompletableFuture<String> load(String key, Duration ttl, Callable<String> loader, boolean refresh) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            created.complete(loadWithLock(key, ttl, loader, refresh));
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+        } finally {
+            inFlight.remove(key, created);
+        }
+        return created;
+    }
+
+    private String loadWithLock(String key, Duration ttl, Callable<String> loader, boolean refresh) throws Exception {
+        String lockKey = key + LOCK_SUFFIX;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, properties.getLockTimeout());
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                if (!refresh) {
+                    // 락 획득 직전에 다른 노드가 적재를 끝냈을 수 있음
+                    String value = redisTemplate.opsForValue().get(key);
+                    if (value != null) {
+                        return value;
+                    }
+                }
+                return loadAndStore(key, ttl, loader);
+            } finally {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+            }
+        }
+
+        // 조기 갱신은 다른 노드가 이미 진행 중이므로 현재 값을 그대로 사용
+        if (refresh) {
+            String current = redisTemplate.opsForValue().get(key);
+            if (current != null) {
+                return current;
+            }
+        }
+
+        // 다른 노드의 적재 완료 대기
+        long deadline = System.nanoTime() + properties.getLockWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(properties.getPollInterval().toMillis());
+            String value = redisTemplate.opsForValue().get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        // 락 보유 노드가 지연되면 직접 적재한다
+        return loadAndStore(key, ttl, loader);
+    }
+
+    private String loadAndStore(String key, Duration ttl, Callable<String> loader) throws Exception {
+        long start = System.nanoTime();
+        String value = loader.call();
+        long deltaMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        loads.increment();
+
+        redisTemplate.opsForValue().set(key, value, ttl);
+        redisTemplate.opsForValue().set(key + DELTA_SUFFIX, String.valueOf(deltaMillis), ttl);
+        return value;
+    }
+
+    private static String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("캐시 적재에 실패했습니다.", cause);
+        }
+    }
+
+}
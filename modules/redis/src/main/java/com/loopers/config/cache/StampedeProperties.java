@@ -0,0 +1,29 @@
+package com.loopers.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 캐시 스탬피드 방지 설정
+ */
+@ConfigurationProperties(value = "cache.stampede")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StampedeProperties {
+
+    // 적재 락 보유 시간 (적재 노드가 죽어도 이 시간 후 해제된다)
+    private Duration lockTimeout = Duration.ofSeconds(3);
+    // 다른 노드가 적재 중일 때 결과를 기다리는 최대 시간
+    private Duration lockWait = Duration.ofSeconds(1);
+    private Duration pollInterval = Duration.ofMillis(50);
+    // XFetch 조기 갱신 가중치 (클수록 만료 전에 더 일찍 갱신한다, 0 이면 비활성화)
+    private double beta = 1.0;
+
+}
@@ -0,0 +1,111 @@
+package com.loopers.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * L1(인스턴스 로컬) + L2(Redis) 2계층 캐시
+ * - 조회: L1 → L2 → (미스 시) 원본 로더, L2 에서 찾은 값은 L1 에 채워 넣는다.
+ * - 적재(put): L2 반영 후 자신의 L1 만 비운다. 조회 미스마다 채우는 값이라 다른 인스턴스에는 전파하지 않는다.
+ * - 무효화(evict, clear): L2 반영 후 L1 을 비우고, 다른 인스턴스에 무효화 메시지를 전파한다.
+ */
+public class TwoTierCache implements Cache {
+
+    private final NearCache nearCache;
+    private final Cache remoteCache;
+    private final NearCacheRegistry registry;
+    private final CacheTierMetrics remoteMetrics;
+
+    public TwoTierCache(Cache remoteCache, NearCacheRegistry registry) {
+        this.remoteCache = remoteCache;
+        this.registry = registry;
+        this.nearCache = registry.getCache(remoteCache.getName());
+        this.remoteMetrics = registry.getRemoteMetrics(remoteCache.getName());
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object local = nearCache.get(key);
+        if (local != null) {
+            return new SimpleValueWrapper(local);
+        }
+
+        ValueWrapper remote = remoteCache.get(key);
+        remoteMetrics.record(remote != null);
+        if (remote != null) {
+            nearCache.put(key, remote.get());
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = remoteCache.get(key, valueLoader);
+        nearCache.put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        nearCache.invalidate(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        if (existing == null) {
+            nearCache.invalidate(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        registry.invalidate(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        registry.invalidate(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        registry.invalidateAll(getName());
+    }
+
+}
@@ -6,6 +6,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
@@ -19,6 +20,7 @@ import java.util.List;
 public class RedisConfig {
 
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    public static final String CONNECTION_PUBSUB = "redisConnectionPubSub";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     private final RedisProperties redisProperties;
@@ -45,6 +47,19 @@ public class RedisConfig {
         return lettuceConnectionFactory(database, master, replicas, ReadFrom.MASTER);
     }
 
+    /**
+     * Master/Replica 구성의 커넥션은 pub/sub 을 지원하지 않으므로 구독 전용으로 master 에 단독 연결한다.
+     */
+    @Qualifier(CONNECTION_PUBSUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory() {
+        RedisNodeInfo master = redisProperties.getMaster();
+        RedisStandaloneConfiguration standaloneConfig =
+                new RedisStandaloneConfiguration(master.getHost(), master.getPort());
+        standaloneConfig.setDatabase(redisProperties.getDatabase());
+        return new LettuceConnectionFactory(standaloneConfig);
+    }
+
     @Primary
     @Bean
     public RedisTemplate<String, String> defaultRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {